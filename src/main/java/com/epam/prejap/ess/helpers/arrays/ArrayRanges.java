@@ -0,0 +1,29 @@
+package com.epam.prejap.ess.helpers.arrays;
+
+/**
+ * Range checks shared by the helpers taking a fromIndex and a toIndex, with the exceptions of the range methods
+ * of java.util.Arrays, like Arrays.fill(int[], int, int, int) or Arrays.sort(int[], int, int).
+ * Objects.checkFromToIndex is not used, as it throws IndexOutOfBoundsException also when fromIndex is greater
+ * than toIndex.
+ */
+public final class ArrayRanges {
+
+    private ArrayRanges() {
+    }
+
+    /**
+     * @throws IllegalArgumentException       if fromIndex is greater than toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex is negative or toIndex is greater than arrayLength
+     */
+    public static void check(int arrayLength, int fromIndex, int toIndex) {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+        }
+        if (fromIndex < 0) {
+            throw new ArrayIndexOutOfBoundsException(fromIndex);
+        }
+        if (toIndex > arrayLength) {
+            throw new ArrayIndexOutOfBoundsException(toIndex);
+        }
+    }
+}
@@ -75,6 +75,17 @@ public class ArraysCopy {
         return SerializationUtils.clone(elements);
     }
 
+    /**
+     * Makes a copy by encoding the array into bytes and decoding it back, like copyWithSerializationUtils,
+     * but with a plain length and little-endian payload format written through ByteBuffer views
+     * instead of Java serialization. Works for primitive arrays only.
+     *
+     * @see PrimitiveArrayCodec
+     */
+    static int[] copyWithBinaryCodec(int[] elements) {
+        return PrimitiveArrayCodec.INTS.decode(PrimitiveArrayCodec.INTS.encode(elements));
+    }
+
     /**
      *
      * Copies an array from the specified source array, beginning at the specified position,
@@ -99,6 +110,20 @@ public class ArraysCopy {
         return newElements;
     }
 
+    /**
+     * Works like copyWithSystemArrayCopy, but writes into the given destination instead of allocating one.
+     * The destination may be longer than the source, the remaining elements are left untouched.
+     *
+     * @return the destination array
+     * @throws NullPointerException if source or destination array is null
+     * @throws ArrayIndexOutOfBoundsException if the destination is shorter than the source
+     */
+    static int[] copyWithSystemArrayCopy(int[] elements, int[] destination) {
+        System.arraycopy(elements, 0, destination, 0, elements.length);
+
+        return destination;
+    }
+
     static int[] copyWithForLoop(int[] elements) {
         int[] newElements = new int[elements.length];
 
@@ -108,6 +133,54 @@ public class ArraysCopy {
         return newElements;
     }
 
+    /**
+     * Works like copyWithForLoop, but writes into the given destination instead of allocating one.
+     *
+     * @return the destination array
+     * @throws NullPointerException if source or destination array is null
+     * @throws ArrayIndexOutOfBoundsException if the destination is shorter than the source
+     */
+    static int[] copyWithForLoop(int[] elements, int[] destination) {
+        for (int i = 0; i < elements.length; i++) {
+            destination[i] = elements[i];
+        }
+        return destination;
+    }
+
+    /**
+     * Copies the elements into an array taken from the pool, so no array is allocated once the pool is warm.
+     * The returned array may be longer than the source, as pooled arrays have power of two lengths,
+     * and should be given back with {@link IntArrayPool#release(int[])} when it is no longer needed.
+     *
+     * @throws NullPointerException if source array or pool is null
+     */
+    static int[] copyWithPooledDestination(int[] elements, IntArrayPool pool) {
+        return copyWithSystemArrayCopy(elements, pool.acquire(elements.length));
+    }
+
+    /**
+     * Splits the array into chunks that are copied in parallel on the common ForkJoinPool.
+     * Arrays smaller than {@link ParallelArrayCopy#PARALLEL_THRESHOLD_BYTES} are copied
+     * with a single System.arraycopy, so for the 10 000 element sample it behaves like copyWithSystemArrayCopy.
+     *
+     * @see ParallelArrayCopy
+     */
+    static int[] copyWithParallelArrayCopy(int[] elements) {
+        return ParallelArrayCopy.copy(elements);
+    }
+
+    /**
+     * Works like copyWithParallelArrayCopy, but writes into the given destination instead of allocating one.
+     *
+     * @return the destination array
+     * @throws NullPointerException if source or destination array is null
+     * @throws IndexOutOfBoundsException if the destination is shorter than the source
+     */
+    static int[] copyWithParallelArrayCopy(int[] elements, int[] destination) {
+        ParallelArrayCopy.copy(elements, 0, destination, 0, elements.length);
+        return destination;
+    }
+
 
     @Benchmark
     public void copyWithArrayCopyOfBenchmark(BenchmarkInput input) {
@@ -124,6 +197,11 @@ public class ArraysCopy {
         copyWithSerializationUtils(input.SAMPLE_ARRAY);
     }
 
+    @Benchmark
+    public void copyWithBinaryCodecBenchmark(BenchmarkInput input) {
+        copyWithBinaryCodec(input.SAMPLE_ARRAY);
+    }
+
     @Benchmark
     public void copyWithSystemArrayCopyBenchmark(BenchmarkInput input) {
         copyWithSystemArrayCopy(input.SAMPLE_ARRAY);
@@ -134,6 +212,11 @@ public class ArraysCopy {
         copyWithForLoop(input.SAMPLE_ARRAY);
     }
 
+    @Benchmark
+    public void copyWithParallelArrayCopyBenchmark(BenchmarkInput input) {
+        copyWithParallelArrayCopy(input.SAMPLE_ARRAY);
+    }
+
 
     @State(Scope.Benchmark)
     public static class BenchmarkInput {
@@ -0,0 +1,93 @@
+package com.epam.prejap.ess.helpers.arrays.copy;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Comparison of the allocating copy methods of {@link ArraysCopy} with the ones writing
+ * into a caller-supplied or pooled destination.
+ * The main method runs the benchmarks with the gc profiler, which is the same as passing {@code -prof gc}
+ * to the JMH runner, so every result is followed by {@code gc.alloc.rate.norm}, the number of bytes allocated per operation.
+ *
+ * @see IntArrayPool
+ */
+@Fork(value = 1)
+@Threads(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@Measurement(iterations = 20, timeUnit = TimeUnit.MILLISECONDS, time = 100)
+@Warmup(iterations = 10, timeUnit = TimeUnit.MILLISECONDS, time = 100)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ArraysCopyAllocationBenchmark {
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ArraysCopyAllocationBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+
+    @Benchmark
+    public int[] copyWithArrayCopyOfBenchmark(BenchmarkInput input) {
+        return ArraysCopy.copyWithArrayCopyOf(input.array);
+    }
+
+    @Benchmark
+    public int[] copyWithSystemArrayCopyBenchmark(BenchmarkInput input) {
+        return ArraysCopy.copyWithSystemArrayCopy(input.array);
+    }
+
+    @Benchmark
+    public int[] copyWithSystemArrayCopyIntoDestinationBenchmark(BenchmarkInput input) {
+        return ArraysCopy.copyWithSystemArrayCopy(input.array, input.destination);
+    }
+
+    @Benchmark
+    public int[] copyWithForLoopBenchmark(BenchmarkInput input) {
+        return ArraysCopy.copyWithForLoop(input.array);
+    }
+
+    @Benchmark
+    public int[] copyWithForLoopIntoDestinationBenchmark(BenchmarkInput input) {
+        return ArraysCopy.copyWithForLoop(input.array, input.destination);
+    }
+
+    @Benchmark
+    public int[] copyWithParallelArrayCopyBenchmark(BenchmarkInput input) {
+        return ArraysCopy.copyWithParallelArrayCopy(input.array);
+    }
+
+    @Benchmark
+    public int[] copyWithParallelArrayCopyIntoDestinationBenchmark(BenchmarkInput input) {
+        return ArraysCopy.copyWithParallelArrayCopy(input.array, input.destination);
+    }
+
+    @Benchmark
+    public int[] copyWithPooledDestinationBenchmark(BenchmarkInput input) {
+        int[] copy = ArraysCopy.copyWithPooledDestination(input.array, input.pool);
+        input.pool.release(copy);
+        return copy;
+    }
+
+    @State(Scope.Thread)
+    public static class BenchmarkInput {
+        @Param({"10000", "1000000"})
+        int size;
+        int[] array;
+        int[] destination;
+        final IntArrayPool pool = new IntArrayPool();
+
+        @Setup
+        public void setUp() {
+            array = IntStream.rangeClosed(1, size).toArray();
+            destination = new int[size];
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.epam.prejap.ess.helpers.arrays.copy;
+
+/**
+ * Pool of reusable int arrays, so a hot copying loop does not allocate a new destination for every copy.
+ * <p>
+ * Arrays are grouped in size classes of powers of two: {@link #acquire(int)} returns an array whose length is
+ * the requested length rounded up to the next power of two, so callers have to keep track of the number
+ * of elements they actually use. Every size class has a small cache per thread, checked first and without
+ * locking, and a shared cache that lets arrays released by one thread be reused by another.
+ * <p>
+ * Arrays are never taken back implicitly: an array that is not passed to {@link #release(int[])} is simply
+ * left to the garbage collector. An array must not be used after it has been released, nor released twice.
+ *
+ * @see ArraysCopy#copyWithPooledDestination(int[], IntArrayPool)
+ */
+final class IntArrayPool {
+
+    /**
+     * Number of size classes, the largest one holds arrays of 2^30 elements.
+     */
+    static final int SIZE_CLASSES = 31;
+
+    private static final int DEFAULT_THREAD_CACHE_SIZE = 4;
+    private static final int DEFAULT_SHARED_CACHE_SIZE = 16;
+
+    private final ThreadLocal<SizeClassCache[]> threadCaches;
+    private final SizeClassCache[] sharedCaches = new SizeClassCache[SIZE_CLASSES];
+
+    /**
+     * Creates a pool keeping up to 4 arrays per size class for each thread and 16 shared ones.
+     */
+    IntArrayPool() {
+        this(DEFAULT_THREAD_CACHE_SIZE, DEFAULT_SHARED_CACHE_SIZE);
+    }
+
+    /**
+     * @param threadCacheSize number of arrays of a size class kept by each thread
+     * @param sharedCacheSize number of arrays of a size class kept for all threads
+     * @throws IllegalArgumentException if any of the sizes is negative
+     */
+    IntArrayPool(int threadCacheSize, int sharedCacheSize) {
+        if (threadCacheSize < 0 || sharedCacheSize < 0) {
+            throw new IllegalArgumentException("Cache sizes must not be negative");
+        }
+        threadCaches = ThreadLocal.withInitial(() -> newCaches(threadCacheSize));
+        for (int i = 0; i < SIZE_CLASSES; i++) {
+            sharedCaches[i] = new SizeClassCache(sharedCacheSize);
+        }
+    }
+
+    /**
+     * Returns an array of at least the given length, reusing a released one when available.
+     * A reused array still holds the values written by its previous user.
+     *
+     * @param minLength minimal length of the array
+     * @return array whose length is minLength rounded up to a power of two
+     * @throws IllegalArgumentException if minLength is negative or greater than 2^30
+     */
+    int[] acquire(int minLength) {
+        int sizeClass = sizeClassOf(minLength);
+        int[] array = threadCaches.get()[sizeClass].pop();
+        if (array == null) {
+            SizeClassCache shared = sharedCaches[sizeClass];
+            synchronized (shared) {
+                array = shared.pop();
+            }
+        }
+        return array != null ? array : new int[1 << sizeClass];
+    }
+
+    /**
+     * Gives the array back to the pool. When the caches of its size class are full the array is dropped.
+     *
+     * @param array array obtained from {@link #acquire(int)} or any other array with a power of two length
+     * @throws NullPointerException     if array is null
+     * @throws IllegalArgumentException if the length of the array is not a power of two
+     */
+    void release(int[] array) {
+        int length = array.length;
+        if (Integer.bitCount(length) != 1) {
+            throw new IllegalArgumentException("Length of a pooled array must be a power of two: " + length);
+        }
+        int sizeClass = Integer.numberOfTrailingZeros(length);
+        if (threadCaches.get()[sizeClass].push(array)) {
+            return;
+        }
+        SizeClassCache shared = sharedCaches[sizeClass];
+        synchronized (shared) {
+            shared.push(array);
+        }
+    }
+
+    /**
+     * Returns the index of the smallest power of two that is not less than the given length.
+     *
+     * @param length requested array length
+     * @return size class of the length
+     * @throws IllegalArgumentException if length is negative or greater than 2^30
+     */
+    static int sizeClassOf(int length) {
+        if (length < 0 || length > 1 << (SIZE_CLASSES - 1)) {
+            throw new IllegalArgumentException("Length out of the pooled range: " + length);
+        }
+        return length <= 1 ? 0 : Integer.SIZE - Integer.numberOfLeadingZeros(length - 1);
+    }
+
+    private static SizeClassCache[] newCaches(int capacity) {
+        SizeClassCache[] caches = new SizeClassCache[SIZE_CLASSES];
+        for (int i = 0; i < SIZE_CLASSES; i++) {
+            caches[i] = new SizeClassCache(capacity);
+        }
+        return caches;
+    }
+
+    /**
+     * Bounded stack of arrays of a single size class. Not thread safe.
+     */
+    private static final class SizeClassCache {
+        private final int[][] arrays;
+        private int size;
+
+        SizeClassCache(int capacity) {
+            arrays = new int[capacity][];
+        }
+
+        int[] pop() {
+            if (size == 0) {
+                return null;
+            }
+            int[] array = arrays[--size];
+            arrays[size] = null;
+            return array;
+        }
+
+        boolean push(int[] array) {
+            if (size == arrays.length) {
+                return false;
+            }
+            arrays[size++] = array;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.epam.prejap.ess.helpers.arrays.copy;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Copies large primitive arrays in parallel.
+ * The copied range is split into chunks of {@link #CHUNK_BYTES} bytes which are copied with
+ * System.arraycopy by the tasks of a {@link ForkJoinPool}, so several cores stream memory at the same time.
+ * <p>
+ * Below {@link #PARALLEL_THRESHOLD_BYTES}, or when the pool has a single thread, the copy is done with a single
+ * System.arraycopy call in the calling thread, because splitting and joining tasks costs more than it gains for
+ * arrays that fit in the cache, and a single thread cannot copy chunks at the same time.
+ * <p>
+ * Both constants come from {@link ParallelArrayCopyBenchmark}, which forces the parallel copy for int arrays
+ * of 64 KiB to 256 MiB. The only machine measured so far has a single core, where the tasks cannot copy at the same
+ * time: the parallel copy took 1.7 times as long as System.arraycopy for 64 KiB, 1.4 times for 256 KiB and 1.2 times
+ * for 1 MiB, and as long from 4 MiB up, where the cost of the tasks is lost in the copy itself. Chunks of 256 KiB
+ * were as fast as chunks of 1 MiB and faster than chunks of 64 KiB from 4 MiB up. The threshold is therefore
+ * provisional: it is the size from which the tasks cost nothing, and where the parallel copy starts to gain has to
+ * be measured on a machine with several cores.
+ *
+ * @see ArraysCopy
+ */
+final class ParallelArrayCopy {
+
+    /**
+     * Number of bytes below which the copy runs sequentially. Provisional, measured on a single core only.
+     */
+    static final int PARALLEL_THRESHOLD_BYTES = 1 << 22;
+
+    /**
+     * Number of bytes copied by a single task, small enough to stay in the L2 cache of one core.
+     */
+    static final int CHUNK_BYTES = 1 << 18;
+
+    private ParallelArrayCopy() {
+    }
+
+    /**
+     * Returns a copy of the whole array.
+     *
+     * @param src array to copy
+     * @return new array with the same elements
+     * @throws NullPointerException if src is null
+     */
+    static int[] copy(int[] src) {
+        int[] dest = new int[src.length];
+        copy(src, 0, dest, 0, src.length);
+        return dest;
+    }
+
+    /**
+     * Returns a copy of the whole array.
+     *
+     * @param src array to copy
+     * @return new array with the same elements
+     * @throws NullPointerException if src is null
+     */
+    static long[] copy(long[] src) {
+        long[] dest = new long[src.length];
+        copy(src, 0, dest, 0, src.length);
+        return dest;
+    }
+
+    /**
+     * Returns a copy of the whole array.
+     *
+     * @param src array to copy
+     * @return new array with the same elements
+     * @throws NullPointerException if src is null
+     */
+    static double[] copy(double[] src) {
+        double[] dest = new double[src.length];
+        copy(src, 0, dest, 0, src.length);
+        return dest;
+    }
+
+    /**
+     * Returns a copy of the whole array.
+     *
+     * @param src array to copy
+     * @return new array with the same elements
+     * @throws NullPointerException if src is null
+     */
+    static byte[] copy(byte[] src) {
+        byte[] dest = new byte[src.length];
+        copy(src, 0, dest, 0, src.length);
+        return dest;
+    }
+
+    /**
+     * Works like System.arraycopy, using the common pool for large ranges.
+     *
+     * @param src     the source array
+     * @param srcPos  starting position in the source array
+     * @param dest    the destination array
+     * @param destPos starting position in the destination array
+     * @param length  the number of array elements to be copied
+     * @throws NullPointerException      if source or destination array is null
+     * @throws IndexOutOfBoundsException if any of the ranges is out of bounds
+     */
+    static void copy(int[] src, int srcPos, int[] dest, int destPos, int length) {
+        copy(ForkJoinPool.commonPool(), src, srcPos, dest, destPos, length);
+    }
+
+    /**
+     * Works like System.arraycopy, using the given pool for large ranges.
+     *
+     * @param pool    pool that runs the chunk copies
+     * @param src     the source array
+     * @param srcPos  starting position in the source array
+     * @param dest    the destination array
+     * @param destPos starting position in the destination array
+     * @param length  the number of array elements to be copied
+     * @throws NullPointerException      if pool, source or destination array is null
+     * @throws IndexOutOfBoundsException if any of the ranges is out of bounds
+     */
+    static void copy(ForkJoinPool pool, int[] src, int srcPos, int[] dest, int destPos, int length) {
+        checkRanges(src.length, srcPos, dest.length, destPos, length);
+        parallelCopy(pool, src, srcPos, dest, destPos, length,
+                PARALLEL_THRESHOLD_BYTES / Integer.BYTES, CHUNK_BYTES / Integer.BYTES);
+    }
+
+    /**
+     * Works like System.arraycopy, using the common pool for large ranges.
+     *
+     * @param src     the source array
+     * @param srcPos  starting position in the source array
+     * @param dest    the destination array
+     * @param destPos starting position in the destination array
+     * @param length  the number of array elements to be copied
+     * @throws NullPointerException      if source or destination array is null
+     * @throws IndexOutOfBoundsException if any of the ranges is out of bounds
+     */
+    static void copy(long[] src, int srcPos, long[] dest, int destPos, int length) {
+        checkRanges(src.length, srcPos, dest.length, destPos, length);
+        parallelCopy(ForkJoinPool.commonPool(), src, srcPos, dest, destPos, length,
+                PARALLEL_THRESHOLD_BYTES / Long.BYTES, CHUNK_BYTES / Long.BYTES);
+    }
+
+    /**
+     * Works like System.arraycopy, using the common pool for large ranges.
+     *
+     * @param src     the source array
+     * @param srcPos  starting position in the source array
+     * @param dest    the destination array
+     * @param destPos starting position in the destination array
+     * @param length  the number of array elements to be copied
+     * @throws NullPointerException      if source or destination array is null
+     * @throws IndexOutOfBoundsException if any of the ranges is out of bounds
+     */
+    static void copy(double[] src, int srcPos, double[] dest, int destPos, int length) {
+        checkRanges(src.length, srcPos, dest.length, destPos, length);
+        parallelCopy(ForkJoinPool.commonPool(), src, srcPos, dest, destPos, length,
+                PARALLEL_THRESHOLD_BYTES / Double.BYTES, CHUNK_BYTES / Double.BYTES);
+    }
+
+    /**
+     * Works like System.arraycopy, using the common pool for large ranges.
+     *
+     * @param src     the source array
+     * @param srcPos  starting position in the source array
+     * @param dest    the destination array
+     * @param destPos starting position in the destination array
+     * @param length  the number of array elements to be copied
+     * @throws NullPointerException      if source or destination array is null
+     * @throws IndexOutOfBoundsException if any of the ranges is out of bounds
+     */
+    static void copy(byte[] src, int srcPos, byte[] dest, int destPos, int length) {
+        checkRanges(src.length, srcPos, dest.length, destPos, length);
+        parallelCopy(ForkJoinPool.commonPool(), src, srcPos, dest, destPos, length,
+                PARALLEL_THRESHOLD_BYTES / Byte.BYTES, CHUNK_BYTES / Byte.BYTES);
+    }
+
+    private static void checkRanges(int srcLength, int srcPos, int destLength, int destPos, int length) {
+        Objects.checkFromIndexSize(srcPos, length, srcLength);
+        Objects.checkFromIndexSize(destPos, length, destLength);
+    }
+
+    /**
+     * Copies the already validated range, splitting it into chunks of the given number of elements.
+     * Overlapping ranges of the same array are copied sequentially, as chunks copied
+     * in parallel could overwrite the source of other chunks, and so are all ranges when the pool has a single thread.
+     *
+     * @param threshold number of elements below which the copy runs in the calling thread
+     * @param chunk     number of elements copied by a single task
+     */
+    static void parallelCopy(ForkJoinPool pool, Object src, int srcPos, Object dest, int destPos,
+                             int length, int threshold, int chunk) {
+        Objects.requireNonNull(pool);
+        if (length < threshold || src == dest || pool.getParallelism() < 2) {
+            System.arraycopy(src, srcPos, dest, destPos, length);
+            return;
+        }
+        pool.invoke(new CopyTask(src, srcPos, dest, destPos, length, chunk));
+    }
+
+    /**
+     * Halves its range on chunk boundaries until a single chunk is left, then copies it.
+     */
+    @SuppressWarnings("serial")
+    private static final class CopyTask extends RecursiveAction {
+        private final Object src;
+        private final int srcPos;
+        private final Object dest;
+        private final int destPos;
+        private final int length;
+        private final int chunk;
+
+        CopyTask(Object src, int srcPos, Object dest, int destPos, int length, int chunk) {
+            this.src = src;
+            this.srcPos = srcPos;
+            this.dest = dest;
+            this.destPos = destPos;
+            this.length = length;
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (length <= chunk) {
+                System.arraycopy(src, srcPos, dest, destPos, length);
+                return;
+            }
+            int half = Math.max(chunk, length / chunk / 2 * chunk);
+            invokeAll(new CopyTask(src, srcPos, dest, destPos, half, chunk),
+                    new CopyTask(src, srcPos + half, dest, destPos + half, length - half, chunk));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.epam.prejap.ess.helpers.arrays.copy;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Size sweep calibrating {@link ParallelArrayCopy}: System.arraycopy against the chunked fork-join copy forced
+ * to run in parallel for every size, for chunks of several sizes, into preallocated destinations so only
+ * the copy is measured. The smallest size at which the parallel copy is not slower than System.arraycopy
+ * is the crossover {@link ParallelArrayCopy#PARALLEL_THRESHOLD_BYTES} is set from. The parallel copy runs on a pool
+ * of at least two threads, so it is measured even on a single core, where the common pool has one thread and
+ * ParallelArrayCopy copies sequentially.
+ * <p>
+ * The largest arrays take 256 MB each and tens of milliseconds to copy, so the iterations are long
+ * and the heap is large, unlike in {@link ArraysCopy}.
+ */
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Threads(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@Measurement(iterations = 10, timeUnit = TimeUnit.SECONDS, time = 1)
+@Warmup(iterations = 5, timeUnit = TimeUnit.SECONDS, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Timeout(time = 10, timeUnit = TimeUnit.SECONDS)
+public class ParallelArrayCopyBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    @Benchmark
+    public int[] systemArrayCopyBenchmark(SizeInput input) {
+        System.arraycopy(input.array, 0, input.destination, 0, input.size);
+        return input.destination;
+    }
+
+    @Benchmark
+    public int[] parallelArrayCopyBenchmark(ChunkInput input) {
+        ParallelArrayCopy.parallelCopy(input.pool, input.array, 0, input.destination, 0,
+                input.size, 0, input.chunkBytes / Integer.BYTES);
+        return input.destination;
+    }
+
+    /**
+     * Number of ints, from 64 KiB to 256 MiB of them.
+     */
+    @State(Scope.Benchmark)
+    public static class SizeInput {
+        @Param({"16384", "65536", "262144", "1048576", "4194304", "16777216", "67108864"})
+        int size;
+        int[] array;
+        int[] destination;
+
+        @Setup
+        public void setUp() {
+            array = IntStream.range(0, size).toArray();
+            destination = new int[size];
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class ChunkInput extends SizeInput {
+        @Param({"65536", "262144", "1048576"})
+        int chunkBytes;
+        ForkJoinPool pool;
+
+        @Setup
+        public void setUpPool() {
+            pool = new ForkJoinPool(Math.max(2, Runtime.getRuntime().availableProcessors()));
+        }
+
+        @TearDown
+        public void tearDown() {
+            pool.shutdown();
+        }
+    }
+}
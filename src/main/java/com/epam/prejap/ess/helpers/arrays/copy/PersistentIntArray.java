@@ -0,0 +1,206 @@
+package com.epam.prejap.ess.helpers.arrays.copy;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * Fixed length int array whose {@link #snapshot()} takes constant time, an alternative to
+ * a defensive copy made with {@link ArraysCopy#copyWithArrayCopyOf(int[])}.
+ * <p>
+ * The elements are kept in chunks of {@link #CHUNK_SIZE} ints, which are the leaves of a tree with
+ * {@link #BRANCHING} children per node. A snapshot shares the whole tree with the array it was taken from.
+ * Afterwards a write to either of them copies only the touched chunk and the nodes on the path to it;
+ * later writes to the same chunk go to the copy in place.
+ * <p>
+ * Each instance owns the nodes it copied. Taking a snapshot gives up the ownership of both the array
+ * and the snapshot, which is what makes the shared nodes read-only. Instances are not thread safe,
+ * but a snapshot can be handed to another thread.
+ *
+ * @see ArraysCopy
+ */
+final class PersistentIntArray {
+
+    static final int CHUNK_BITS = 6;
+    static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    static final int BRANCHING_BITS = 5;
+    static final int BRANCHING = 1 << BRANCHING_BITS;
+
+    private final int length;
+    /**
+     * Number of internal levels above the chunks, 0 when the root is a chunk.
+     */
+    private final int levels;
+    private Node root;
+    private Object owner = new Object();
+
+    private PersistentIntArray(int length, int levels, Node root) {
+        this.length = length;
+        this.levels = levels;
+        this.root = root;
+    }
+
+    /**
+     * Creates an array of the given length filled with zeros.
+     * All the chunks share one zero chunk until they are written, so this takes time proportional to the depth of the tree.
+     *
+     * @param length number of elements
+     * @throws IllegalArgumentException if length is negative
+     */
+    PersistentIntArray(int length) {
+        this(length, levelsFor(length), null);
+        Node zeros = new Node(null, null, new int[CHUNK_SIZE]);
+        for (int level = 0; level < levels; level++) {
+            Node[] children = new Node[BRANCHING];
+            Arrays.fill(children, zeros);
+            zeros = new Node(null, children, null);
+        }
+        root = zeros;
+    }
+
+    /**
+     * Creates an array with a copy of the given elements.
+     *
+     * @param values elements to copy
+     * @return new array
+     * @throws NullPointerException if values is null
+     */
+    static PersistentIntArray of(int[] values) {
+        int levels = levelsFor(values.length);
+        PersistentIntArray array = new PersistentIntArray(values.length, levels, null);
+        array.root = build(values, 0, levels, array.owner);
+        return array;
+    }
+
+    int length() {
+        return length;
+    }
+
+    /**
+     * @param index index of the element
+     * @return value of the element
+     * @throws IndexOutOfBoundsException if index is out of the array
+     */
+    int get(int index) {
+        Objects.checkIndex(index, length);
+        return chunkOf(root, index).values[index & (CHUNK_SIZE - 1)];
+    }
+
+    /**
+     * Sets the element, copying its chunk first if it is shared with a snapshot.
+     *
+     * @param index index of the element
+     * @param value new value
+     * @throws IndexOutOfBoundsException if index is out of the array
+     */
+    void set(int index, int value) {
+        Objects.checkIndex(index, length);
+        Node node = root = editable(root);
+        for (int shift = levels * BRANCHING_BITS + CHUNK_BITS; shift > CHUNK_BITS; ) {
+            shift -= BRANCHING_BITS;
+            int child = (index >>> shift) & (BRANCHING - 1);
+            node = node.children[child] = editable(node.children[child]);
+        }
+        node.values[index & (CHUNK_SIZE - 1)] = value;
+    }
+
+    /**
+     * Returns an independent array with the same elements in constant time.
+     * Writes to this array are not visible in the snapshot and the other way round.
+     *
+     * @return snapshot of the array
+     */
+    PersistentIntArray snapshot() {
+        owner = new Object();
+        return new PersistentIntArray(length, levels, root);
+    }
+
+    /**
+     * Returns the elements of a snapshot taken at the time of the call,
+     * so later writes to this array do not affect the stream, but copy their chunks like after {@link #snapshot()}.
+     *
+     * @return sequential stream of the elements
+     */
+    IntStream stream() {
+        Node frozen = snapshot().root;
+        int chunks = (length + CHUNK_SIZE - 1) >>> CHUNK_BITS;
+        return IntStream.range(0, chunks).flatMap(chunk -> {
+            int from = chunk << CHUNK_BITS;
+            return Arrays.stream(chunkOf(frozen, from).values, 0, Math.min(CHUNK_SIZE, length - from));
+        });
+    }
+
+    /**
+     * @return new int array with the elements
+     */
+    int[] toArray() {
+        int[] values = new int[length];
+        for (int from = 0; from < length; from += CHUNK_SIZE) {
+            System.arraycopy(chunkOf(root, from).values, 0, values, from, Math.min(CHUNK_SIZE, length - from));
+        }
+        return values;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    private Node chunkOf(Node node, int index) {
+        for (int shift = levels * BRANCHING_BITS + CHUNK_BITS; shift > CHUNK_BITS; ) {
+            shift -= BRANCHING_BITS;
+            node = node.children[(index >>> shift) & (BRANCHING - 1)];
+        }
+        return node;
+    }
+
+    private Node editable(Node node) {
+        if (node.owner == owner) {
+            return node;
+        }
+        return node.children != null
+                ? new Node(owner, node.children.clone(), null)
+                : new Node(owner, null, node.values.clone());
+    }
+
+    private static int levelsFor(int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Negative length: " + length);
+        }
+        int levels = 0;
+        for (long capacity = CHUNK_SIZE; capacity < length; capacity <<= BRANCHING_BITS) {
+            levels++;
+        }
+        return levels;
+    }
+
+    private static Node build(int[] values, int from, int levels, Object owner) {
+        if (levels == 0) {
+            int[] chunk = new int[CHUNK_SIZE];
+            System.arraycopy(values, from, chunk, 0, Math.min(CHUNK_SIZE, values.length - from));
+            return new Node(owner, null, chunk);
+        }
+        int childSpan = 1 << (CHUNK_BITS + (levels - 1) * BRANCHING_BITS);
+        Node[] children = new Node[BRANCHING];
+        for (int i = 0; i < BRANCHING && from + (long) i * childSpan < values.length; i++) {
+            children[i] = build(values, from + i * childSpan, levels - 1, owner);
+        }
+        return new Node(owner, children, null);
+    }
+
+    /**
+     * Either an internal node with children or a chunk with values.
+     * In trees built from an int array the children past its end are null.
+     */
+    private static final class Node {
+        final Object owner;
+        final Node[] children;
+        final int[] values;
+
+        Node(Object owner, Node[] children, int[] values) {
+            this.owner = owner;
+            this.children = children;
+            this.values = values;
+        }
+    }
+}
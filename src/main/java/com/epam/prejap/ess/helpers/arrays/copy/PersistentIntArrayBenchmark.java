@@ -0,0 +1,88 @@
+package com.epam.prejap.ess.helpers.arrays.copy;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Comparison of taking a snapshot with {@link PersistentIntArray#snapshot()} and with the copy
+ * strategies of {@link ArraysCopy}, each followed by a number of writes to the working array.
+ * With few writes per snapshot the workload is snapshot-heavy, with many of them it is write-heavy.
+ *
+ * @see PersistentIntArray
+ */
+@Fork(value = 1)
+@Threads(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@Measurement(iterations = 20, timeUnit = TimeUnit.MILLISECONDS, time = 100)
+@Warmup(iterations = 10, timeUnit = TimeUnit.MILLISECONDS, time = 100)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PersistentIntArrayBenchmark {
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    @Benchmark
+    public int[] snapshotWithArrayCopyOf(BenchmarkInput input) {
+        int[] snapshot = ArraysCopy.copyWithArrayCopyOf(input.array);
+        for (int index : input.writes) {
+            input.array[index]++;
+        }
+        return snapshot;
+    }
+
+    @Benchmark
+    public int[] snapshotWithSystemArrayCopy(BenchmarkInput input) {
+        int[] snapshot = ArraysCopy.copyWithSystemArrayCopy(input.array);
+        for (int index : input.writes) {
+            input.array[index]++;
+        }
+        return snapshot;
+    }
+
+    @Benchmark
+    public PersistentIntArray snapshotWithPersistentIntArray(BenchmarkInput input) {
+        PersistentIntArray snapshot = input.persistent.snapshot();
+        for (int index : input.writes) {
+            input.persistent.set(index, input.persistent.get(index) + 1);
+        }
+        return snapshot;
+    }
+
+    @Benchmark
+    public int readAllFromArray(BenchmarkInput input) {
+        int sum = 0;
+        for (int value : input.array) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int readAllFromPersistentIntArray(BenchmarkInput input) {
+        return input.persistent.stream().sum();
+    }
+
+    @State(Scope.Thread)
+    public static class BenchmarkInput {
+        @Param({"10000", "1000000"})
+        int size;
+        @Param({"1", "100", "10000"})
+        int writesPerSnapshot;
+        int[] array;
+        PersistentIntArray persistent;
+        int[] writes;
+
+        @Setup
+        public void setUp() {
+            array = IntStream.range(0, size).toArray();
+            persistent = PersistentIntArray.of(array);
+            writes = new Random(42).ints(writesPerSnapshot, 0, size).toArray();
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.epam.prejap.ess.helpers.arrays.copy;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * Compact binary format for primitive arrays, a much faster alternative to Java serialization
+ * used by {@link ArraysCopy#copyWithSerializationUtils(int[])}.
+ * <p>
+ * An encoded array is a 4 byte header holding the number of elements followed by the elements,
+ * both little-endian. No reflection and no class descriptors are involved: the elements are moved
+ * in bulk through {@link ByteBuffer} views, and streams and files are written and read through
+ * NIO channels in chunks of {@link #CHUNK_BYTES} bytes.
+ * <p>
+ * The format does not record the element type, so an array has to be decoded with the codec
+ * of the same type it was encoded with. Several arrays can be written to one stream one after another
+ * and read back in the same order.
+ *
+ * @param <A> type of the array, one of int[], long[], double[] and byte[]
+ * @see ArraysCopy#copyWithBinaryCodec(int[])
+ */
+final class PrimitiveArrayCodec<A> {
+
+    /**
+     * Size of the header holding the number of elements.
+     */
+    static final int HEADER_BYTES = Integer.BYTES;
+
+    /**
+     * Size of the buffer used to write to and read from streams and files.
+     */
+    static final int CHUNK_BYTES = 1 << 16;
+
+    static final PrimitiveArrayCodec<int[]> INTS = new PrimitiveArrayCodec<>(Integer.BYTES, int[]::new, a -> a.length,
+            (a, buffer, from, count) -> buffer.asIntBuffer().put(a, from, count),
+            (a, buffer, from, count) -> buffer.asIntBuffer().get(a, from, count));
+
+    static final PrimitiveArrayCodec<long[]> LONGS = new PrimitiveArrayCodec<>(Long.BYTES, long[]::new, a -> a.length,
+            (a, buffer, from, count) -> buffer.asLongBuffer().put(a, from, count),
+            (a, buffer, from, count) -> buffer.asLongBuffer().get(a, from, count));
+
+    static final PrimitiveArrayCodec<double[]> DOUBLES = new PrimitiveArrayCodec<>(Double.BYTES, double[]::new, a -> a.length,
+            (a, buffer, from, count) -> buffer.asDoubleBuffer().put(a, from, count),
+            (a, buffer, from, count) -> buffer.asDoubleBuffer().get(a, from, count));
+
+    static final PrimitiveArrayCodec<byte[]> BYTES = new PrimitiveArrayCodec<>(Byte.BYTES, byte[]::new, a -> a.length,
+            (a, buffer, from, count) -> buffer.duplicate().put(a, from, count),
+            (a, buffer, from, count) -> buffer.duplicate().get(a, from, count));
+
+    private final int elementBytes;
+    private final IntFunction<A> arrayFactory;
+    private final ToIntFunction<A> lengthOf;
+    private final Transfer<A> writer;
+    private final Transfer<A> reader;
+
+    private PrimitiveArrayCodec(int elementBytes, IntFunction<A> arrayFactory, ToIntFunction<A> lengthOf,
+                                Transfer<A> writer, Transfer<A> reader) {
+        this.elementBytes = elementBytes;
+        this.arrayFactory = arrayFactory;
+        this.lengthOf = lengthOf;
+        this.writer = writer;
+        this.reader = reader;
+    }
+
+    /**
+     * Returns the number of bytes the encoded array of the given length takes.
+     *
+     * @param length number of elements
+     * @return header and payload size
+     */
+    long encodedSize(int length) {
+        return HEADER_BYTES + (long) length * elementBytes;
+    }
+
+    /**
+     * Encodes the array into a new byte array.
+     *
+     * @param array array to encode
+     * @return header followed by the elements
+     * @throws NullPointerException     if array is null
+     * @throws IllegalArgumentException if the encoded array does not fit in a byte array
+     */
+    byte[] encode(A array) {
+        long size = encodedSize(lengthOf.applyAsInt(array));
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Encoded array too large for a byte array: " + size + " bytes");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) size);
+        encode(array, buffer);
+        return buffer.array();
+    }
+
+    /**
+     * Encodes the array at the position of the buffer and moves the position past it.
+     * The byte order of the buffer does not matter and is not changed.
+     *
+     * @param array  array to encode
+     * @param target buffer to write to
+     * @throws NullPointerException    if array or buffer is null
+     * @throws BufferOverflowException if the buffer has not enough space left, nothing is written then
+     */
+    void encode(A array, ByteBuffer target) {
+        int length = lengthOf.applyAsInt(array);
+        if (target.remaining() < encodedSize(length)) {
+            throw new BufferOverflowException();
+        }
+        ByteBuffer buffer = target.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(length);
+        putElements(array, buffer, 0, length);
+        target.position(buffer.position());
+    }
+
+    /**
+     * Decodes an array from the beginning of the byte array.
+     *
+     * @param bytes encoded array
+     * @return decoded array
+     * @throws NullPointerException     if bytes is null
+     * @throws BufferUnderflowException if the bytes are shorter than the encoded array
+     */
+    A decode(byte[] bytes) {
+        return decode(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Decodes an array at the position of the buffer and moves the position past it.
+     * The byte order of the buffer does not matter and is not changed.
+     *
+     * @param source buffer to read from
+     * @return decoded array
+     * @throws NullPointerException     if buffer is null
+     * @throws BufferUnderflowException if the buffer holds less than the encoded array, the position is not moved then
+     */
+    A decode(ByteBuffer source) {
+        ByteBuffer buffer = source.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        int length = buffer.getInt();
+        if (length < 0 || buffer.remaining() < (long) length * elementBytes) {
+            throw new BufferUnderflowException();
+        }
+        A array = arrayFactory.apply(length);
+        getElements(array, buffer, 0, length);
+        source.position(buffer.position());
+        return array;
+    }
+
+    /**
+     * Writes the encoded array to the stream. The stream is neither buffered nor closed.
+     *
+     * @param array array to encode
+     * @param out   stream to write to
+     * @throws IOException          if writing to the stream fails
+     * @throws NullPointerException if array or stream is null
+     */
+    void write(A array, OutputStream out) throws IOException {
+        write(array, Channels.newChannel(out));
+    }
+
+    /**
+     * Reads an encoded array from the stream, consuming only its bytes.
+     * The header is trusted, so the stream has to come from a trusted source.
+     *
+     * @param in stream to read from
+     * @return decoded array
+     * @throws EOFException if the stream ends before the whole array is read
+     * @throws IOException  if the header is invalid or reading from the stream fails
+     */
+    A read(InputStream in) throws IOException {
+        return read(Channels.newChannel(in), Long.MAX_VALUE);
+    }
+
+    /**
+     * Writes the encoded array to the file, replacing its content.
+     *
+     * @param array array to encode
+     * @param file  file to write to
+     * @throws IOException if writing to the file fails
+     */
+    void write(A array, Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            write(array, channel);
+        }
+    }
+
+    /**
+     * Reads an encoded array from the beginning of the file.
+     *
+     * @param file file to read from
+     * @return decoded array
+     * @throws EOFException if the file is shorter than the encoded array
+     * @throws IOException  if the header is invalid or reading from the file fails
+     */
+    A read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return read(channel, channel.size() - HEADER_BYTES);
+        }
+    }
+
+    private void write(A array, WritableByteChannel channel) throws IOException {
+        int length = lengthOf.applyAsInt(array);
+        ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(CHUNK_BYTES, encodedSize(length)))
+                .order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(length);
+        int from = 0;
+        do {
+            int count = Math.min(length - from, buffer.remaining() / elementBytes);
+            putElements(array, buffer, from, count);
+            from += count;
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        } while (from < length);
+    }
+
+    /**
+     * @param available number of payload bytes the channel is known to hold, used to reject a corrupted
+     *                  header before allocating the array
+     */
+    private A read(ReadableByteChannel channel, long available) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        readFully(channel, header);
+        int length = header.flip().getInt();
+        if (length < 0) {
+            throw new IOException("Invalid array length: " + length);
+        }
+        long payload = (long) length * elementBytes;
+        if (payload > available) {
+            throw new EOFException("Expected " + payload + " bytes of elements, found " + available);
+        }
+        A array = arrayFactory.apply(length);
+        ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(CHUNK_BYTES, payload)).order(ByteOrder.LITTLE_ENDIAN);
+        int from = 0;
+        while (from < length) {
+            int count = Math.min(length - from, buffer.capacity() / elementBytes);
+            buffer.clear().limit(count * elementBytes);
+            readFully(channel, buffer);
+            getElements(array, buffer.flip(), from, count);
+            from += count;
+        }
+        return array;
+    }
+
+    private static void readFully(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Stream ended inside an encoded array");
+            }
+        }
+    }
+
+    private void putElements(A array, ByteBuffer buffer, int from, int count) {
+        writer.transfer(array, buffer, from, count);
+        buffer.position(buffer.position() + count * elementBytes);
+    }
+
+    private void getElements(A array, ByteBuffer buffer, int from, int count) {
+        reader.transfer(array, buffer, from, count);
+        buffer.position(buffer.position() + count * elementBytes);
+    }
+
+    /**
+     * Moves elements between the array and the buffer, starting at the position of the buffer
+     * without moving it.
+     */
+    @FunctionalInterface
+    private interface Transfer<A> {
+        void transfer(A array, ByteBuffer buffer, int from, int count);
+    }
+}
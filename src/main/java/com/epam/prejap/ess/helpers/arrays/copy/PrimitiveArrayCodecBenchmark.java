@@ -0,0 +1,80 @@
+package com.epam.prejap.ess.helpers.arrays.copy;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Comparison of Java serialization, as used by {@link ArraysCopy#copyWithSerializationUtils(int[])},
+ * with {@link PrimitiveArrayCodec} on the same int arrays, in memory and through streams.
+ *
+ * @see ArraysCopy
+ */
+@Fork(value = 1)
+@Threads(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@Measurement(iterations = 20, timeUnit = TimeUnit.MILLISECONDS, time = 100)
+@Warmup(iterations = 10, timeUnit = TimeUnit.MILLISECONDS, time = 100)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PrimitiveArrayCodecBenchmark {
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    @Benchmark
+    public byte[] serializeWithSerializationUtils(BenchmarkInput input) {
+        return SerializationUtils.serialize(input.array);
+    }
+
+    @Benchmark
+    public byte[] encodeWithBinaryCodec(BenchmarkInput input) {
+        return PrimitiveArrayCodec.INTS.encode(input.array);
+    }
+
+    @Benchmark
+    public int[] deserializeWithSerializationUtils(BenchmarkInput input) {
+        return SerializationUtils.deserialize(input.serialized);
+    }
+
+    @Benchmark
+    public int[] decodeWithBinaryCodec(BenchmarkInput input) {
+        return PrimitiveArrayCodec.INTS.decode(input.encoded);
+    }
+
+    @Benchmark
+    public int[] streamRoundTripWithSerializationUtils(BenchmarkInput input) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SerializationUtils.serialize(input.array, out);
+        return SerializationUtils.deserialize(new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    @Benchmark
+    public int[] streamRoundTripWithBinaryCodec(BenchmarkInput input) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PrimitiveArrayCodec.INTS.write(input.array, out);
+        return PrimitiveArrayCodec.INTS.read(new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkInput {
+        @Param({"10000", "1000000"})
+        int size;
+        int[] array;
+        byte[] serialized;
+        byte[] encoded;
+
+        @Setup
+        public void setUp() {
+            array = IntStream.rangeClosed(1, size).toArray();
+            serialized = SerializationUtils.serialize(array);
+            encoded = PrimitiveArrayCodec.INTS.encode(array);
+        }
+    }
+}
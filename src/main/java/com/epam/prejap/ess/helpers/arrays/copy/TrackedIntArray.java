@@ -0,0 +1,142 @@
+package com.epam.prejap.ess.helpers.arrays.copy;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Objects;
+
+/**
+ * Int array that remembers which parts of it were written since it was last mirrored,
+ * so {@link #syncTo(int[])} copies only those instead of the whole array
+ * like {@link ArraysCopy#copyWithSystemArrayCopy(int[], int[])}.
+ * <p>
+ * The array is divided into blocks of {@link #BLOCK_SIZE} elements and every write marks its block
+ * in a {@link BitSet}. Syncing joins neighbouring dirty blocks into ranges, copies every range with
+ * a single System.arraycopy and clears the marks, which makes the dirty state relative to one mirror only.
+ * A new array is entirely dirty, so the first sync copies all of it.
+ * <p>
+ * The array is not thread safe.
+ *
+ * @see ArraysCopy
+ */
+final class TrackedIntArray {
+
+    static final int BLOCK_BITS = 6;
+    static final int BLOCK_SIZE = 1 << BLOCK_BITS;
+
+    private final int[] values;
+    private final BitSet dirty;
+
+    /**
+     * Creates an array of the given length filled with zeros.
+     *
+     * @param length number of elements
+     * @throws NegativeArraySizeException if length is negative
+     */
+    TrackedIntArray(int length) {
+        this.values = new int[length];
+        int blocks = (int) (((long) length + BLOCK_SIZE - 1) >>> BLOCK_BITS);
+        this.dirty = new BitSet(blocks);
+        dirty.set(0, blocks);
+    }
+
+    /**
+     * Creates an array with a copy of the given elements.
+     *
+     * @param values elements to copy
+     * @return new array
+     * @throws NullPointerException if values is null
+     */
+    static TrackedIntArray of(int[] values) {
+        TrackedIntArray array = new TrackedIntArray(values.length);
+        System.arraycopy(values, 0, array.values, 0, values.length);
+        return array;
+    }
+
+    int length() {
+        return values.length;
+    }
+
+    int get(int index) {
+        return values[index];
+    }
+
+    /**
+     * Sets the element and marks its block as dirty.
+     *
+     * @throws ArrayIndexOutOfBoundsException if index is out of the array
+     */
+    void set(int index, int value) {
+        values[index] = value;
+        dirty.set(blockOf(index));
+    }
+
+    /**
+     * Copies a range of the source into this array and marks the blocks it covers as dirty.
+     *
+     * @param src     the source array
+     * @param srcPos  starting position in the source array
+     * @param destPos starting position in this array
+     * @param length  the number of elements to copy
+     * @throws NullPointerException           if src is null
+     * @throws ArrayIndexOutOfBoundsException if any of the ranges is out of bounds
+     */
+    void copyFrom(int[] src, int srcPos, int destPos, int length) {
+        System.arraycopy(src, srcPos, values, destPos, length);
+        if (length > 0) {
+            dirty.set(blockOf(destPos), blockOf(destPos + length - 1) + 1);
+        }
+    }
+
+    /**
+     * Returns the number of blocks written since the last sync.
+     *
+     * @return number of dirty blocks
+     */
+    int dirtyBlocks() {
+        return dirty.cardinality();
+    }
+
+    /**
+     * Copies the dirty blocks to the target and marks all the blocks as clean.
+     * The target is expected to hold the state of this array at the last sync;
+     * a target that was changed in between, or that was synced with another array, is not repaired.
+     *
+     * @param target mirror of this array
+     * @return number of elements copied
+     * @throws NullPointerException     if target is null
+     * @throws IllegalArgumentException if the length of target differs from the length of this array
+     */
+    int syncTo(int[] target) {
+        Objects.requireNonNull(target);
+        if (target.length != values.length) {
+            throw new IllegalArgumentException("Target length " + target.length + " differs from " + values.length);
+        }
+        int copied = 0;
+        for (int start = dirty.nextSetBit(0); start >= 0; ) {
+            int end = dirty.nextClearBit(start);
+            int from = start << BLOCK_BITS;
+            int to = (int) Math.min(values.length, (long) end << BLOCK_BITS);
+            System.arraycopy(values, from, target, from, to - from);
+            copied += to - from;
+            start = dirty.nextSetBit(end);
+        }
+        dirty.clear();
+        return copied;
+    }
+
+    /**
+     * @return new int array with the elements
+     */
+    int[] toArray() {
+        return values.clone();
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(values);
+    }
+
+    private static int blockOf(int index) {
+        return index >>> BLOCK_BITS;
+    }
+}
@@ -0,0 +1,87 @@
+package com.epam.prejap.ess.helpers.arrays.copy;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Comparison of mirroring an array with {@link TrackedIntArray#syncTo(int[])} and with full copies
+ * made by {@link ArraysCopy#copyWithSystemArrayCopy(int[])}, for fractions of the array written
+ * between two mirrors from 0.1% to 100%.
+ * The written elements are either scattered over the whole array or clustered in one range.
+ *
+ * @see TrackedIntArray
+ */
+@Fork(value = 1)
+@Threads(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@Measurement(iterations = 20, timeUnit = TimeUnit.MILLISECONDS, time = 100)
+@Warmup(iterations = 10, timeUnit = TimeUnit.MILLISECONDS, time = 100)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TrackedIntArrayBenchmark {
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    @Benchmark
+    public int[] mirrorWithSystemArrayCopy(BenchmarkInput input) {
+        int[] array = input.array;
+        for (int index : input.writes) {
+            array[index]++;
+        }
+        return ArraysCopy.copyWithSystemArrayCopy(array);
+    }
+
+    @Benchmark
+    public int[] mirrorWithSystemArrayCopyIntoDestination(BenchmarkInput input) {
+        int[] array = input.array;
+        for (int index : input.writes) {
+            array[index]++;
+        }
+        return ArraysCopy.copyWithSystemArrayCopy(array, input.mirror);
+    }
+
+    @Benchmark
+    public int mirrorWithTrackedIntArray(BenchmarkInput input) {
+        TrackedIntArray array = input.tracked;
+        for (int index : input.writes) {
+            array.set(index, array.get(index) + 1);
+        }
+        return array.syncTo(input.mirror);
+    }
+
+    @State(Scope.Thread)
+    public static class BenchmarkInput {
+        @Param({"1000000"})
+        int size;
+        @Param({"0.001", "0.01", "0.1", "0.5", "1.0"})
+        double dirtyFraction;
+        @Param({"scattered", "clustered"})
+        String layout;
+        int[] array;
+        int[] mirror;
+        TrackedIntArray tracked;
+        int[] writes;
+
+        @Setup
+        public void setUp() {
+            array = IntStream.range(0, size).toArray();
+            mirror = new int[size];
+            tracked = TrackedIntArray.of(array);
+            tracked.syncTo(mirror);
+            int count = (int) (size * dirtyFraction);
+            Random random = new Random(42);
+            if ("scattered".equals(layout)) {
+                writes = random.ints(count, 0, size).toArray();
+            } else {
+                int start = random.nextInt(size - count + 1);
+                writes = IntStream.range(start, start + count).toArray();
+            }
+        }
+    }
+}
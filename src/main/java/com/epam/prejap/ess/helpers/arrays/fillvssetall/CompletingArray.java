@@ -68,6 +68,27 @@ class CompletingArray {
 
         Arrays.setAll(array, (index) -> 1);
         printArray(array);
+
+        /*
+            Overwriting the value of the array with indexes from 2 to 6 with their squares,
+            a range variant of Arrays.setAll that the JDK does not have
+        */
+        fillSelectedPartOfArrayBySetAll(array, 2, 6, index -> index * index);
+        printArray(array);
+
+        /*
+            Fill the array with numbers greater than their index by one in parallel,
+            for expensive generators over large arrays, see class ParallelSetAll
+        */
+        fillEntireArrayByParallelSetAll(array, function);
+        printArray(array);
+
+        /*
+            Fill the array with the repeated pattern 7, 8, 9 using System.arraycopy doubling the filled part,
+            see class PatternFill
+        */
+        fillEntireArrayByPattern(array, 7, 8, 9);
+        printArray(array);
     }
 
     /**
@@ -80,6 +101,38 @@ class CompletingArray {
         Arrays.setAll(array, function);
     }
 
+    /**
+     * Set elements of the specified array between the indicated indices, using the provided generator function to compute each element.
+     *
+     * @param array     array of ints
+     * @param fromIndex the index of the first element (inclusive) to be set
+     * @param toIndex   the index of the last element (exclusive) to be set
+     * @param function  generator function to compute each element
+     */
+    static void fillSelectedPartOfArrayBySetAll(int[] array, int fromIndex, int toIndex, IntUnaryOperator function) {
+        ParallelSetAll.setAll(array, fromIndex, toIndex, function);
+    }
+
+    /**
+     * Set all elements of the specified array in parallel, using the provided generator function to compute each element.
+     *
+     * @param array    array of ints
+     * @param function generator function to compute each element, called from many threads
+     */
+    static void fillEntireArrayByParallelSetAll(int[] array, IntUnaryOperator function) {
+        ParallelSetAll.parallelSetAll(array, function);
+    }
+
+    /**
+     * Sets all elements of an array to the repeated pattern, cutting the last repetition at the end of the array
+     *
+     * @param array   array of ints
+     * @param pattern the values to be repeated in the array
+     */
+    static void fillEntireArrayByPattern(int[] array, int... pattern) {
+        PatternFill.fill(array, pattern);
+    }
+
     /**
      * Sets elements of an array between the indicated indices to the given value
      *
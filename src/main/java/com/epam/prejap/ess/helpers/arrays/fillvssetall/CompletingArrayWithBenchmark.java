@@ -1,29 +1,67 @@
 package com.epam.prejap.ess.helpers.arrays.fillvssetall;
 
 import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
 
-import java.io.IOException;
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 import java.util.function.IntUnaryOperator;
 
 /**
- * Fill an array with the value 1 using the Arrays.fill and Arrays.setAll methods.
+ * Fill an array with the value 1 using the Arrays.fill, Arrays.setAll and Arrays.parallelSetAll methods and a plain loop,
+ * for sizes from 16 elements to 64M elements, so each of the cache levels and the main memory is measured.
+ * <p>
+ * Every benchmark runs in 3 forks, in both throughput and average time modes. The main method accepts the usual
+ * JMH command line options and adds the defaults of this suite when they are missing: only the benchmarks of this
+ * class, the gc profiler and machine-readable JSON results in {@value #RESULT_FILE}. The forks run with
+ * {@code -XX:+DebugNonSafepoints}, so {@code -prof perfasm} (which needs hsdis and Linux perf) attributes
+ * the hot code precisely.
+ * <p>
+ * The sweep benchmarks compare Arrays.setAll, Arrays.parallelSetAll and {@link ParallelSetAll} with an expensive
+ * generator. Each of them is swept only over the parameters it uses: Arrays.setAll over the array sizes,
+ * Arrays.parallelSetAll also over the numbers of threads and {@link ParallelSetAll} also over the chunk sizes.
+ * Arrays.parallelSetAll is started from inside the pool of the benchmark, so its tasks run there instead of
+ * on the common pool and it gets the same number of threads.
+ * <p>
+ * The pattern benchmarks compare tiling a multi-element pattern with Arrays.setAll and with {@link PatternFill}.
  *
  * @author Wiktoria Majchrzak
  * @see CompletingArray
  */
-@Fork(value = 1)
+@Fork(value = 3, jvmArgsAppend = {"-XX:+UnlockDiagnosticVMOptions", "-XX:+DebugNonSafepoints"})
 @Threads(value = 1)
-@BenchmarkMode(Mode.AverageTime)
-@Measurement(iterations = 100, timeUnit = TimeUnit.MILLISECONDS, time = 10)
-@Warmup(iterations = 10, timeUnit = TimeUnit.MILLISECONDS, time = 10)
-@OutputTimeUnit(TimeUnit.MILLISECONDS)
-@Timeout(time = 1, timeUnit = TimeUnit.MICROSECONDS)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@Measurement(iterations = 10, timeUnit = TimeUnit.MILLISECONDS, time = 500)
+@Warmup(iterations = 5, timeUnit = TimeUnit.MILLISECONDS, time = 500)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
 public class CompletingArrayWithBenchmark {
-    public static void main(String... args) throws IOException, RunnerException {
-        org.openjdk.jmh.Main.main(args);
+
+    static final String RESULT_FILE = "completing-array-benchmark.json";
+
+    public static void main(String... args) throws CommandLineOptionException, RunnerException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+        if (commandLine.getIncludes().isEmpty()) {
+            options.include(CompletingArrayWithBenchmark.class.getSimpleName());
+        }
+        if (commandLine.getProfilers().isEmpty()) {
+            options.addProfiler(GCProfiler.class);
+        }
+        if (!commandLine.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLine.getResult().hasValue()) {
+            options.result(RESULT_FILE);
+        }
+        new Runner(options.build()).run();
     }
 
     /**
@@ -46,20 +84,181 @@ public class CompletingArrayWithBenchmark {
         Arrays.fill(array, value);
     }
 
+    /**
+     * Set all elements of the specified array in parallel, using the provided generator function to compute each element.
+     *
+     * @param array    array of ints
+     * @param function generator function to compute each element
+     */
+    private static void fillEntireArrayByParallelSetAll(int[] array, IntUnaryOperator function) {
+        Arrays.parallelSetAll(array, function);
+    }
+
+    /**
+     * Sets all elements of an array to a given value in a plain for loop
+     *
+     * @param array array of ints
+     * @param value the value to be stored in the array
+     */
+    private static void fillEntireArrayByLoop(int[] array, int value) {
+        for (int i = 0; i < array.length; i++) {
+            array[i] = value;
+        }
+    }
+
     @Benchmark
-    public static void fillEntireArrayByFillBenchmark(BenchmarkInput benchmarkInput) {
+    public static int[] fillEntireArrayByFillBenchmark(BenchmarkInput benchmarkInput) {
         fillEntireArrayByFill(benchmarkInput.array, benchmarkInput.value);
+        return benchmarkInput.array;
     }
 
     @Benchmark
-    public static void fillEntireArrayBySetAllBenchmark(BenchmarkInput benchmarkInput) {
+    public static int[] fillEntireArrayBySetAllBenchmark(BenchmarkInput benchmarkInput) {
         fillEntireArrayBySetAll(benchmarkInput.array, benchmarkInput.function);
+        return benchmarkInput.array;
     }
 
+    @Benchmark
+    public static int[] fillEntireArrayByParallelSetAllBenchmark(BenchmarkInput benchmarkInput) {
+        fillEntireArrayByParallelSetAll(benchmarkInput.array, benchmarkInput.function);
+        return benchmarkInput.array;
+    }
+
+    @Benchmark
+    public static int[] fillEntireArrayByLoopBenchmark(BenchmarkInput benchmarkInput) {
+        fillEntireArrayByLoop(benchmarkInput.array, benchmarkInput.value);
+        return benchmarkInput.array;
+    }
+
+    @Benchmark
+    public static int[] setAllSweepBenchmark(SweepInput sweepInput) {
+        Arrays.setAll(sweepInput.array, sweepInput.generator);
+        return sweepInput.array;
+    }
+
+    @Benchmark
+    public static int[] parallelSetAllSweepBenchmark(ParallelSweepInput sweepInput) {
+        sweepInput.pool.submit(() -> Arrays.parallelSetAll(sweepInput.array, sweepInput.generator)).join();
+        return sweepInput.array;
+    }
+
+    @Benchmark
+    public static int[] chunkedParallelSetAllSweepBenchmark(ChunkedSweepInput sweepInput) {
+        int[] array = sweepInput.array;
+        ParallelSetAll.parallelSetAll(sweepInput.pool, array, 0, array.length, sweepInput.chunkSize, sweepInput.generator);
+        return array;
+    }
+
+    @Benchmark
+    public static int[] patternBySetAllBenchmark(PatternInput patternInput) {
+        int[] pattern = patternInput.pattern;
+        Arrays.setAll(patternInput.array, index -> pattern[index % pattern.length]);
+        return patternInput.array;
+    }
+
+    @Benchmark
+    public static int[] patternByDoublingArrayCopyBenchmark(PatternInput patternInput) {
+        PatternFill.fill(patternInput.array, patternInput.pattern);
+        return patternInput.array;
+    }
+
+    /**
+     * Generator costing a few dozen cycles per element, standing for a real computation.
+     *
+     * @param index index of the element
+     * @return mixed bits of the index
+     */
+    static int expensiveGenerator(int index) {
+        int x = index;
+        for (int round = 0; round < 8; round++) {
+            x = x * 0x9E3779B1 ^ (x >>> 15);
+        }
+        return x;
+    }
+
+    @State(Scope.Benchmark)
+    public static class SweepInput {
+        @Param({"10000", "1000000", "16000000"})
+        int size;
+        int[] array;
+        final IntUnaryOperator generator = CompletingArrayWithBenchmark::expensiveGenerator;
+
+        @Setup
+        public void setUp() {
+            array = new int[size];
+        }
+    }
+
+    /**
+     * Sweep input with a pool of the given number of threads, for the benchmarks that run in parallel.
+     */
+    @State(Scope.Benchmark)
+    public static class ParallelSweepInput extends SweepInput {
+        @Param({"1", "2", "4", "8"})
+        int threads;
+        ForkJoinPool pool;
+
+        @Setup
+        public void setUpPool() {
+            pool = new ForkJoinPool(threads);
+        }
+
+        @TearDown
+        public void tearDown() {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Parallel sweep input with the number of elements set by a single task of {@link ParallelSetAll}.
+     */
+    @State(Scope.Benchmark)
+    public static class ChunkedSweepInput extends ParallelSweepInput {
+        @Param({"1024", "8192", "65536"})
+        int chunkSize;
+    }
+
+    @State(Scope.Benchmark)
+    public static class PatternInput {
+        @Param({"1000", "1000000", "16000000"})
+        int size;
+        @Param({"1", "3", "16", "100"})
+        int patternLength;
+        int[] array;
+        int[] pattern;
+
+        @Setup
+        public void setUp() {
+            array = new int[size];
+            pattern = new int[patternLength];
+            Arrays.setAll(pattern, index -> index * 31);
+        }
+    }
+
+    /**
+     * Sizes in ints, assuming a 32 KiB L1 data cache, a 256 KiB - 1 MiB L2 cache and an 8 - 32 MiB L3 cache.
+     * Each boundary has a size just below it and one just above it.
+     */
     @State(Scope.Benchmark)
     public static class BenchmarkInput {
-        final int[] array = new int[1_000_000];
+        @Param({
+                "16",           // 64 B, a single cache line
+                "4096",         // 16 KiB, L1
+                "16384",        // 64 KiB, past L1 - L2
+                "131072",       // 512 KiB, L2
+                "1048576",      // 4 MiB, past L2 - L3
+                "4194304",      // 16 MiB, L3
+                "16777216",     // 64 MiB, past L3 - DRAM
+                "67108864"      // 256 MiB, DRAM
+        })
+        int size;
+        int[] array;
         final int value = 1;
         final IntUnaryOperator function = (index) -> value;
+
+        @Setup
+        public void setUp() {
+            array = new int[size];
+        }
     }
 }
@@ -0,0 +1,202 @@
+package com.epam.prejap.ess.helpers.arrays.fillvssetall;
+
+import com.epam.prejap.ess.helpers.arrays.ArrayRanges;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Int array that keeps constant regions virtual, an alternative to allocating a large array
+ * and filling it with Arrays.fill, as {@link CompletingArray#fillEntireArrayByFill(int[], int)} does,
+ * when most of it is never written afterwards.
+ * <p>
+ * The array is divided into chunks of {@link #CHUNK_SIZE} elements. A chunk is either virtual, when all its
+ * elements have the same value and only that value is stored, or materialized into a real int array
+ * on the first write of a different value. Reading a virtual chunk costs no memory, and filling the whole
+ * array or whole chunks of a range makes them virtual again.
+ * <p>
+ * The operations follow the ones of {@link CompletingArray}: fill, fill of a range, setAll and toString.
+ * The array is not thread safe.
+ *
+ * @see CompletingArray
+ */
+final class LazyFilledIntArray {
+
+    static final int CHUNK_BITS = 10;
+    static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private final int length;
+    /**
+     * Value of every element of a virtual chunk, unused for materialized chunks.
+     */
+    private final int[] chunkValues;
+    /**
+     * Materialized chunks, null for virtual ones.
+     */
+    private final int[][] chunks;
+
+    /**
+     * Creates an array with all elements set to the given value, without allocating them.
+     *
+     * @param length number of elements
+     * @param value  initial value of all elements
+     * @throws IllegalArgumentException if length is negative
+     */
+    LazyFilledIntArray(int length, int value) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Negative length: " + length);
+        }
+        this.length = length;
+        int chunkCount = (int) (((long) length + CHUNK_MASK) >>> CHUNK_BITS);
+        this.chunkValues = new int[chunkCount];
+        this.chunks = new int[chunkCount][];
+        Arrays.fill(chunkValues, value);
+    }
+
+    int length() {
+        return length;
+    }
+
+    /**
+     * @param index index of the element
+     * @return value of the element
+     * @throws IndexOutOfBoundsException if index is out of the array
+     */
+    int get(int index) {
+        Objects.checkIndex(index, length);
+        int[] chunk = chunks[index >>> CHUNK_BITS];
+        return chunk == null ? chunkValues[index >>> CHUNK_BITS] : chunk[index & CHUNK_MASK];
+    }
+
+    /**
+     * Sets the element, materializing its chunk unless the chunk already holds the value everywhere.
+     *
+     * @param index index of the element
+     * @param value new value
+     * @throws IndexOutOfBoundsException if index is out of the array
+     */
+    void set(int index, int value) {
+        Objects.checkIndex(index, length);
+        int chunk = index >>> CHUNK_BITS;
+        if (chunks[chunk] == null && chunkValues[chunk] == value) {
+            return;
+        }
+        materialize(chunk)[index & CHUNK_MASK] = value;
+    }
+
+    /**
+     * Sets all elements to the given value, dropping all materialized chunks.
+     *
+     * @param value the value to be stored in the array
+     */
+    void fill(int value) {
+        Arrays.fill(chunkValues, value);
+        Arrays.fill(chunks, null);
+    }
+
+    /**
+     * Sets elements between the indicated indices to the given value.
+     * Chunks covered entirely by the range become virtual, the ones covered partly are materialized.
+     *
+     * @param fromIndex the index of the first element (inclusive) to be filled with the specified value
+     * @param toIndex   the index of the last element (exclusive) to be filled with the specified value
+     * @param value     the value to be stored in the array
+     * @throws IllegalArgumentException       if fromIndex > toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > length
+     */
+    void fill(int fromIndex, int toIndex, int value) {
+        ArrayRanges.check(length, fromIndex, toIndex);
+        while (fromIndex < toIndex) {
+            int chunk = fromIndex >>> CHUNK_BITS;
+            int chunkEnd = (int) Math.min(toIndex, ((long) chunk + 1) << CHUNK_BITS);
+            int chunkLength = Math.min(CHUNK_SIZE, length - (chunk << CHUNK_BITS));
+            if (chunkEnd - fromIndex == chunkLength) {
+                chunks[chunk] = null;
+                chunkValues[chunk] = value;
+            } else if (chunks[chunk] != null || chunkValues[chunk] != value) {
+                int from = fromIndex & CHUNK_MASK;
+                Arrays.fill(materialize(chunk), from, from + chunkEnd - fromIndex, value);
+            }
+            fromIndex = chunkEnd;
+        }
+    }
+
+    /**
+     * Sets all elements using the generator function, which materializes the whole array.
+     *
+     * @param generator generator function to compute each element
+     * @throws NullPointerException if generator is null
+     */
+    void setAll(IntUnaryOperator generator) {
+        Objects.requireNonNull(generator);
+        for (int chunk = 0; chunk < chunks.length; chunk++) {
+            int[] values = materialize(chunk);
+            int offset = chunk << CHUNK_BITS;
+            int chunkLength = Math.min(CHUNK_SIZE, length - offset);
+            for (int i = 0; i < chunkLength; i++) {
+                values[i] = generator.applyAsInt(offset + i);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of chunks backed by real arrays.
+     *
+     * @return number of materialized chunks
+     */
+    int materializedChunks() {
+        int count = 0;
+        for (int[] chunk : chunks) {
+            if (chunk != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return new int array with the elements
+     */
+    int[] toArray() {
+        int[] values = new int[length];
+        for (int chunk = 0; chunk < chunks.length; chunk++) {
+            int offset = chunk << CHUNK_BITS;
+            int chunkLength = Math.min(CHUNK_SIZE, length - offset);
+            if (chunks[chunk] == null) {
+                Arrays.fill(values, offset, offset + chunkLength, chunkValues[chunk]);
+            } else {
+                System.arraycopy(chunks[chunk], 0, values, offset, chunkLength);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Returns a string representation of the contents in the format of Arrays.toString.
+     *
+     * @return a string representation of the array
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder().append('[');
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(get(i));
+        }
+        return builder.append(']').toString();
+    }
+
+    private int[] materialize(int chunk) {
+        int[] values = chunks[chunk];
+        if (values == null) {
+            values = new int[CHUNK_SIZE];
+            Arrays.fill(values, chunkValues[chunk]);
+            chunks[chunk] = values;
+        }
+        return values;
+    }
+}
@@ -0,0 +1,128 @@
+package com.epam.prejap.ess.helpers.arrays.fillvssetall;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Comparison of an eager int array filled with Arrays.fill and {@link LazyFilledIntArray}.
+ * <p>
+ * The create benchmarks allocate an array filled with a constant and write a few elements into it,
+ * so the {@code gc.alloc.rate.norm} column reported by the gc profiler, which the main method enables,
+ * is the footprint of each array. The read benchmarks measure the latency of sequential and random reads.
+ *
+ * @see LazyFilledIntArray
+ */
+@Fork(value = 1)
+@Threads(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@Measurement(iterations = 20, timeUnit = TimeUnit.MILLISECONDS, time = 100)
+@Warmup(iterations = 10, timeUnit = TimeUnit.MILLISECONDS, time = 100)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LazyFilledIntArrayBenchmark {
+
+    public static void main(String... args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(LazyFilledIntArrayBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+
+    @Benchmark
+    public int[] createEagerArray(BenchmarkInput input) {
+        return eagerArray(input);
+    }
+
+    @Benchmark
+    public LazyFilledIntArray createLazyArray(BenchmarkInput input) {
+        return lazyArray(input);
+    }
+
+    @Benchmark
+    public int readSequentiallyFromEagerArray(BenchmarkInput input) {
+        int sum = 0;
+        for (int value : input.eager) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int readSequentiallyFromLazyArray(BenchmarkInput input) {
+        LazyFilledIntArray lazy = input.lazy;
+        int sum = 0;
+        for (int i = 0; i < lazy.length(); i++) {
+            sum += lazy.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkInput.READS)
+    public int readRandomlyFromEagerArray(BenchmarkInput input) {
+        int sum = 0;
+        for (int index : input.reads) {
+            sum += input.eager[index];
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkInput.READS)
+    public int readRandomlyFromLazyArray(BenchmarkInput input) {
+        int sum = 0;
+        for (int index : input.reads) {
+            sum += input.lazy.get(index);
+        }
+        return sum;
+    }
+
+    @State(Scope.Thread)
+    public static class BenchmarkInput {
+        static final int READS = 1024;
+
+        @Param({"1000000", "16000000"})
+        int size;
+        @Param({"0", "100"})
+        int writeCount;
+        final int value = 1;
+        int[] writes;
+        int[] reads;
+        int[] eager;
+        LazyFilledIntArray lazy;
+
+        @Setup
+        public void setUp() {
+            Random random = new Random(42);
+            writes = random.ints(writeCount, 0, size).toArray();
+            reads = random.ints(READS, 0, size).toArray();
+            eager = eagerArray(this);
+            lazy = lazyArray(this);
+        }
+    }
+
+    private static int[] eagerArray(BenchmarkInput input) {
+        int[] array = new int[input.size];
+        Arrays.fill(array, input.value);
+        for (int index : input.writes) {
+            array[index] = index;
+        }
+        return array;
+    }
+
+    private static LazyFilledIntArray lazyArray(BenchmarkInput input) {
+        LazyFilledIntArray array = new LazyFilledIntArray(input.size, input.value);
+        for (int index : input.writes) {
+            array.set(index, index);
+        }
+        return array;
+    }
+}
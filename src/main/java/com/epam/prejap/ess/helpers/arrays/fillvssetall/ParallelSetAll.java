@@ -0,0 +1,119 @@
+package com.epam.prejap.ess.helpers.arrays.fillvssetall;
+
+import com.epam.prejap.ess.helpers.arrays.ArrayRanges;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Counterpart of Arrays.setAll and Arrays.parallelSetAll that works on a range of the array
+ * and lets the caller choose the chunk size and the pool of the parallel version.
+ * <p>
+ * Arrays.parallelSetAll always runs on the common pool and splits the array as it likes,
+ * which does not fit expensive generators, where a smaller chunk balances the work better,
+ * nor applications that keep their own pools. Here the range is halved until it is not longer
+ * than the chunk size, and every chunk is filled by a single task of the given pool.
+ *
+ * @see CompletingArray
+ */
+final class ParallelSetAll {
+
+    /**
+     * Number of elements filled by a single task when no chunk size is given.
+     */
+    static final int DEFAULT_CHUNK_SIZE = 1 << 13;
+
+    private ParallelSetAll() {
+    }
+
+    /**
+     * Sets the elements between the indicated indices, using the generator function to compute each element.
+     *
+     * @param array     array of ints
+     * @param fromIndex the index of the first element (inclusive) to be set
+     * @param toIndex   the index of the last element (exclusive) to be set
+     * @param generator function computing the element from its index
+     * @throws IllegalArgumentException       if fromIndex > toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > array.length
+     * @throws NullPointerException           if array or generator is null
+     */
+    static void setAll(int[] array, int fromIndex, int toIndex, IntUnaryOperator generator) {
+        ArrayRanges.check(array.length, fromIndex, toIndex);
+        Objects.requireNonNull(generator);
+        fill(array, fromIndex, toIndex, generator);
+    }
+
+    /**
+     * Sets all elements in parallel on the common pool, using chunks of {@link #DEFAULT_CHUNK_SIZE} elements.
+     *
+     * @param array     array of ints
+     * @param generator function computing the element from its index, it has to be safe to call from many threads
+     * @throws NullPointerException if array or generator is null
+     */
+    static void parallelSetAll(int[] array, IntUnaryOperator generator) {
+        parallelSetAll(ForkJoinPool.commonPool(), array, 0, array.length, DEFAULT_CHUNK_SIZE, generator);
+    }
+
+    /**
+     * Sets the elements between the indicated indices in parallel on the given pool.
+     *
+     * @param pool      pool that runs the chunks
+     * @param array     array of ints
+     * @param fromIndex the index of the first element (inclusive) to be set
+     * @param toIndex   the index of the last element (exclusive) to be set
+     * @param chunkSize maximal number of elements set by a single task
+     * @param generator function computing the element from its index, it has to be safe to call from many threads
+     * @throws IllegalArgumentException       if fromIndex > toIndex or chunkSize is not positive
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > array.length
+     * @throws NullPointerException           if pool, array or generator is null
+     */
+    static void parallelSetAll(ForkJoinPool pool, int[] array, int fromIndex, int toIndex, int chunkSize,
+                               IntUnaryOperator generator) {
+        ArrayRanges.check(array.length, fromIndex, toIndex);
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize(" + chunkSize + ") must be positive");
+        }
+        Objects.requireNonNull(generator);
+        if (toIndex - fromIndex <= chunkSize) {
+            fill(array, fromIndex, toIndex, generator);
+            return;
+        }
+        pool.invoke(new SetAllTask(array, fromIndex, toIndex, chunkSize, generator));
+    }
+
+    private static void fill(int[] array, int fromIndex, int toIndex, IntUnaryOperator generator) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            array[i] = generator.applyAsInt(i);
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class SetAllTask extends RecursiveAction {
+        private final int[] array;
+        private final int fromIndex;
+        private final int toIndex;
+        private final int chunkSize;
+        private final IntUnaryOperator generator;
+
+        SetAllTask(int[] array, int fromIndex, int toIndex, int chunkSize, IntUnaryOperator generator) {
+            this.array = array;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.chunkSize = chunkSize;
+            this.generator = generator;
+        }
+
+        @Override
+        protected void compute() {
+            if (toIndex - fromIndex <= chunkSize) {
+                fill(array, fromIndex, toIndex, generator);
+                return;
+            }
+            int middle = (fromIndex + toIndex) >>> 1;
+            invokeAll(new SetAllTask(array, fromIndex, middle, chunkSize, generator),
+                    new SetAllTask(array, middle, toIndex, chunkSize, generator));
+        }
+    }
+}
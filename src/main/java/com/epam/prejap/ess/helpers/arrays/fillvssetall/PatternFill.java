@@ -0,0 +1,154 @@
+package com.epam.prejap.ess.helpers.arrays.fillvssetall;
+
+import com.epam.prejap.ess.helpers.arrays.ArrayRanges;
+
+/**
+ * Fills arrays with a repeating pattern of several elements, like a header or a stride.
+ * <p>
+ * Arrays.fill repeats a single value, and Arrays.setAll with a generator like {@code i -> pattern[i % pattern.length]}
+ * calls the generator and divides once per element. Here the pattern is written once and then the already
+ * filled region is copied right after itself with System.arraycopy, which doubles it every time.
+ * Filling n elements takes O(log n) bulk copies, each of them as fast as the memory allows.
+ * <p>
+ * The pattern always starts at the first filled index and the last repetition is cut at the end of the range.
+ *
+ * @see CompletingArray
+ */
+final class PatternFill {
+
+    private PatternFill() {
+    }
+
+    /**
+     * Fills the whole array with repetitions of the pattern.
+     *
+     * @param array   array to fill
+     * @param pattern elements to repeat
+     * @throws NullPointerException     if array or pattern is null
+     * @throws IllegalArgumentException if the pattern is empty and the array is not
+     */
+    static void fill(int[] array, int[] pattern) {
+        fill(array, 0, array.length, pattern);
+    }
+
+    /**
+     * Fills the elements between the indicated indices with repetitions of the pattern.
+     *
+     * @param array     array to fill
+     * @param fromIndex the index of the first element (inclusive) to be filled, where the pattern starts
+     * @param toIndex   the index of the last element (exclusive) to be filled
+     * @param pattern   elements to repeat
+     * @throws NullPointerException           if array or pattern is null
+     * @throws IllegalArgumentException       if fromIndex > toIndex or the pattern is empty and the range is not
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > array.length
+     */
+    static void fill(int[] array, int fromIndex, int toIndex, int[] pattern) {
+        ArrayRanges.check(array.length, fromIndex, toIndex);
+        fillByDoubling(array, fromIndex, toIndex, pattern, pattern.length);
+    }
+
+    /**
+     * Fills the whole array with repetitions of the pattern.
+     *
+     * @param array   array to fill
+     * @param pattern elements to repeat
+     * @throws NullPointerException     if array or pattern is null
+     * @throws IllegalArgumentException if the pattern is empty and the array is not
+     */
+    static void fill(long[] array, long[] pattern) {
+        fill(array, 0, array.length, pattern);
+    }
+
+    /**
+     * Fills the elements between the indicated indices with repetitions of the pattern.
+     *
+     * @param array     array to fill
+     * @param fromIndex the index of the first element (inclusive) to be filled, where the pattern starts
+     * @param toIndex   the index of the last element (exclusive) to be filled
+     * @param pattern   elements to repeat
+     * @throws NullPointerException           if array or pattern is null
+     * @throws IllegalArgumentException       if fromIndex > toIndex or the pattern is empty and the range is not
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > array.length
+     */
+    static void fill(long[] array, int fromIndex, int toIndex, long[] pattern) {
+        ArrayRanges.check(array.length, fromIndex, toIndex);
+        fillByDoubling(array, fromIndex, toIndex, pattern, pattern.length);
+    }
+
+    /**
+     * Fills the whole array with repetitions of the pattern.
+     *
+     * @param array   array to fill
+     * @param pattern elements to repeat
+     * @throws NullPointerException     if array or pattern is null
+     * @throws IllegalArgumentException if the pattern is empty and the array is not
+     */
+    static void fill(double[] array, double[] pattern) {
+        fill(array, 0, array.length, pattern);
+    }
+
+    /**
+     * Fills the elements between the indicated indices with repetitions of the pattern.
+     *
+     * @param array     array to fill
+     * @param fromIndex the index of the first element (inclusive) to be filled, where the pattern starts
+     * @param toIndex   the index of the last element (exclusive) to be filled
+     * @param pattern   elements to repeat
+     * @throws NullPointerException           if array or pattern is null
+     * @throws IllegalArgumentException       if fromIndex > toIndex or the pattern is empty and the range is not
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > array.length
+     */
+    static void fill(double[] array, int fromIndex, int toIndex, double[] pattern) {
+        ArrayRanges.check(array.length, fromIndex, toIndex);
+        fillByDoubling(array, fromIndex, toIndex, pattern, pattern.length);
+    }
+
+    /**
+     * Fills the whole array with repetitions of the pattern.
+     *
+     * @param array   array to fill
+     * @param pattern elements to repeat
+     * @throws NullPointerException     if array or pattern is null
+     * @throws IllegalArgumentException if the pattern is empty and the array is not
+     */
+    static void fill(byte[] array, byte[] pattern) {
+        fill(array, 0, array.length, pattern);
+    }
+
+    /**
+     * Fills the elements between the indicated indices with repetitions of the pattern.
+     *
+     * @param array     array to fill
+     * @param fromIndex the index of the first element (inclusive) to be filled, where the pattern starts
+     * @param toIndex   the index of the last element (exclusive) to be filled
+     * @param pattern   elements to repeat
+     * @throws NullPointerException           if array or pattern is null
+     * @throws IllegalArgumentException       if fromIndex > toIndex or the pattern is empty and the range is not
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > array.length
+     */
+    static void fill(byte[] array, int fromIndex, int toIndex, byte[] pattern) {
+        ArrayRanges.check(array.length, fromIndex, toIndex);
+        fillByDoubling(array, fromIndex, toIndex, pattern, pattern.length);
+    }
+
+    /**
+     * Works on any primitive array, as System.arraycopy does. The copied prefix is always a whole number
+     * of patterns, except for the last copy, so every copy continues the pattern where the filled region ends.
+     */
+    private static void fillByDoubling(Object array, int fromIndex, int toIndex, Object pattern, int patternLength) {
+        int length = toIndex - fromIndex;
+        if (length == 0) {
+            return;
+        }
+        if (patternLength == 0) {
+            throw new IllegalArgumentException("Cannot fill a range with an empty pattern");
+        }
+        int filled = Math.min(patternLength, length);
+        System.arraycopy(pattern, 0, array, fromIndex, filled);
+        while (filled < length) {
+            int copied = Math.min(filled, length - filled);
+            System.arraycopy(array, fromIndex, array, fromIndex + filled, copied);
+            filled += copied;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.epam.prejap.ess.helpers.arrays.fillvssetall;
+
+/**
+ * Built-in fillers for the sequences most often generated with Arrays.setAll.
+ * <p>
+ * Arrays.setAll calls the generator through one call site shared by all its callers. When a program
+ * passes it many different lambdas the site becomes megamorphic, the generator is no longer inlined
+ * and every element costs a virtual call. Each method here is a plain loop with the sequence written
+ * out, so it is compiled on its own and stays fast whatever else calls Arrays.setAll.
+ * Like with int lambdas, all arithmetic wraps around on overflow.
+ *
+ * @see CompletingArray#fillEntireArrayBySetAll(int[], java.util.function.IntUnaryOperator)
+ */
+final class SequenceFill {
+
+    private SequenceFill() {
+    }
+
+    /**
+     * Fills the array with an arithmetic progression, the same as {@code setAll(array, i -> start + i * step)}.
+     *
+     * @param array array of ints
+     * @param start value of the first element
+     * @param step  difference between neighbouring elements
+     * @throws NullPointerException if array is null
+     */
+    static void arithmetic(int[] array, int start, int step) {
+        int value = start;
+        for (int i = 0; i < array.length; i++) {
+            array[i] = value;
+            value += step;
+        }
+    }
+
+    /**
+     * Fills the array with a geometric progression, the same as setAll with a generator
+     * returning start multiplied i times by ratio.
+     *
+     * @param array array of ints
+     * @param start value of the first element
+     * @param ratio quotient of neighbouring elements
+     * @throws NullPointerException if array is null
+     */
+    static void geometric(int[] array, int start, int ratio) {
+        int value = start;
+        for (int i = 0; i < array.length; i++) {
+            array[i] = value;
+            value *= ratio;
+        }
+    }
+
+    /**
+     * Fills the array with a repeating ramp, the same as {@code setAll(array, i -> offset + i % modulus)},
+     * without dividing for every element.
+     *
+     * @param array   array of ints
+     * @param modulus length of the ramp
+     * @param offset  value of the first element of the ramp
+     * @throws NullPointerException     if array is null
+     * @throws IllegalArgumentException if modulus is not positive
+     */
+    static void modulo(int[] array, int modulus, int offset) {
+        if (modulus <= 0) {
+            throw new IllegalArgumentException("modulus(" + modulus + ") must be positive");
+        }
+        int remainder = 0;
+        for (int i = 0; i < array.length; i++) {
+            array[i] = offset + remainder;
+            if (++remainder == modulus) {
+                remainder = 0;
+            }
+        }
+    }
+
+    /**
+     * Fills the array with elements of the source taken at an affine transform of the index, the same as
+     * {@code setAll(array, i -> source[(int) Math.floorMod((long) scale * i + offset, source.length)])}.
+     * A scale of -1 reverses the source, a scale greater than 1 takes every scale-th element.
+     *
+     * @param array  array of ints
+     * @param source elements to take
+     * @param scale  multiplier of the index
+     * @param offset index of the source element that goes first
+     * @throws NullPointerException     if array or source is null
+     * @throws IllegalArgumentException if the source is empty and the array is not
+     */
+    static void affine(int[] array, int[] source, int scale, int offset) {
+        if (array.length == 0) {
+            return;
+        }
+        int length = source.length;
+        if (length == 0) {
+            throw new IllegalArgumentException("Cannot take elements from an empty source");
+        }
+        int step = Math.floorMod(scale, length);
+        int index = Math.floorMod(offset, length);
+        for (int i = 0; i < array.length; i++) {
+            array[i] = source[index];
+            index = index < length - step ? index + step : index - (length - step);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.epam.prejap.ess.helpers.arrays.fillvssetall;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Comparison of {@link SequenceFill} with Arrays.setAll and an equivalent lambda.
+ * <p>
+ * When {@code polluted} is true, the setup calls Arrays.setAll with several different lambdas before
+ * the measurement, as a large application would, so its call site of the generator is megamorphic
+ * and the lambda cannot be inlined any more. Every fork starts a fresh JVM, so the unpolluted runs
+ * show the monomorphic case.
+ * <p>
+ * The geometric lambda reads the powers from a table filled in the setup, so like the other lambdas it does
+ * constant work per element and depends only on the index, and only the path to the generator differs.
+ *
+ * @see SequenceFill
+ */
+@Fork(value = 1)
+@Threads(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@Measurement(iterations = 20, timeUnit = TimeUnit.MILLISECONDS, time = 100)
+@Warmup(iterations = 10, timeUnit = TimeUnit.MILLISECONDS, time = 100)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SequenceFillBenchmark {
+
+    public static void main(String... args) throws IOException, RunnerException {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    @Benchmark
+    public int[] arithmeticBySetAll(BenchmarkInput input) {
+        Arrays.setAll(input.array, input.arithmetic);
+        return input.array;
+    }
+
+    @Benchmark
+    public int[] arithmeticBySequenceFill(BenchmarkInput input) {
+        SequenceFill.arithmetic(input.array, 7, 3);
+        return input.array;
+    }
+
+    @Benchmark
+    public int[] geometricBySetAll(BenchmarkInput input) {
+        Arrays.setAll(input.array, input.geometric);
+        return input.array;
+    }
+
+    @Benchmark
+    public int[] geometricBySequenceFill(BenchmarkInput input) {
+        SequenceFill.geometric(input.array, 7, 3);
+        return input.array;
+    }
+
+    @Benchmark
+    public int[] moduloBySetAll(BenchmarkInput input) {
+        Arrays.setAll(input.array, input.modulo);
+        return input.array;
+    }
+
+    @Benchmark
+    public int[] moduloBySequenceFill(BenchmarkInput input) {
+        SequenceFill.modulo(input.array, 10, 1);
+        return input.array;
+    }
+
+    @Benchmark
+    public int[] affineBySetAll(BenchmarkInput input) {
+        Arrays.setAll(input.array, input.affine);
+        return input.array;
+    }
+
+    @Benchmark
+    public int[] affineBySequenceFill(BenchmarkInput input) {
+        SequenceFill.affine(input.array, input.source, -3, 5);
+        return input.array;
+    }
+
+    @State(Scope.Thread)
+    public static class BenchmarkInput {
+        @Param({"1000", "1000000"})
+        int size;
+        @Param({"false", "true"})
+        boolean polluted;
+        int[] array;
+        int[] powers;
+        final int[] source = new int[1024];
+        final IntUnaryOperator arithmetic = index -> 7 + index * 3;
+        final IntUnaryOperator geometric = index -> powers[index];
+        final IntUnaryOperator modulo = index -> 1 + index % 10;
+        final IntUnaryOperator affine = index -> source[Math.floorMod(-3L * index + 5, source.length)];
+
+        @Setup
+        public void setUp() {
+            array = new int[size];
+            powers = new int[size];
+            SequenceFill.geometric(powers, 7, 3);
+            Arrays.setAll(source, index -> index * 31);
+            if (polluted) {
+                IntUnaryOperator[] generators = {arithmetic, geometric, modulo, affine, index -> index, index -> -index, index -> index ^ 0x55};
+                int[] small = new int[1000];
+                for (int round = 0; round < 20_000; round++) {
+                    Arrays.setAll(small, generators[round % generators.length]);
+                }
+            }
+        }
+    }
+}
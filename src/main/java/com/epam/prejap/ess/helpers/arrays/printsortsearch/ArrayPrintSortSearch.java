@@ -1,11 +1,12 @@
 package com.epam.prejap.ess.helpers.arrays.printsortsearch;
 
+import java.io.IOException;
 import java.util.Arrays;
 
 class ArrayPrintSortSearch {
 //        How to search and sort and print an array,
 
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
         String[] ultimateQuestion = new String[]{"how", "many", "roads", "must", "a", "man", "walk", "down"};
         int[] ints = new int[]{42, 3, 8, 0, 1, 2};
         String[][] deepQuestion = new String[][]{ultimateQuestion, new String[]{"What", "is", "six", "times", "nine"}};
@@ -15,6 +16,10 @@ class ArrayPrintSortSearch {
         //deepPrinting
         System.out.println("Values in the deep question via Arrays.toString: " + Arrays.toString(deepQuestion) +
                 "\nValues in the deep question via Arrays.deepToString: " + Arrays.deepToString(deepQuestion));
+        //streaming without building the whole string, at most 3 elements of every array
+        System.out.print("Values in the deep question via ArrayPrinter: ");
+        ArrayPrinter.DEFAULT.withLimit(3).print(deepQuestion, System.out);
+        System.out.println();
 
         //Sort must be called before binarySearch called otherwise it will not return the proper value
         System.out.println("Unsorted int array with search called for 2: " + Arrays.binarySearch(ints, 2));
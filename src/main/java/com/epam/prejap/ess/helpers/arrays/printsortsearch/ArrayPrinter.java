@@ -0,0 +1,364 @@
+package com.epam.prejap.ess.helpers.arrays.printsortsearch;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Prints arrays straight to an {@link Appendable}, a {@link Writer} or a {@link WritableByteChannel},
+ * as an alternative to Arrays.toString and Arrays.deepToString that builds one String of the whole array first.
+ * <p>
+ * The text goes through a char buffer of {@link #BUFFER_SIZE} chars, reused until the whole array is printed,
+ * and ints, longs, shorts and bytes are formatted right into it, so printing a huge primitive array takes
+ * a constant amount of memory. Other elements are formatted with String.valueOf one at a time.
+ * <p>
+ * By default the output is the same as the one of Arrays.toString for primitive arrays and of Arrays.deepToString
+ * for object arrays: nested arrays are printed recursively and an array containing itself, directly or not,
+ * is printed as {@code [...]}. The separators can be changed and the number of printed elements of every
+ * array can be limited, the rest is then elided as {@code ... (n more)}.
+ * <p>
+ * Printers are immutable and thread safe.
+ *
+ * @see ArrayPrintSortSearch
+ */
+final class ArrayPrinter {
+
+    static final int BUFFER_SIZE = 8192;
+
+    /**
+     * Printer producing the same text as Arrays.toString and Arrays.deepToString.
+     */
+    static final ArrayPrinter DEFAULT = new ArrayPrinter("[", ", ", "]", Integer.MAX_VALUE);
+
+    private final String prefix;
+    private final String separator;
+    private final String suffix;
+    private final int limit;
+
+    /**
+     * @param prefix    text printed before the elements of every array
+     * @param separator text printed between two elements
+     * @param suffix    text printed after the elements of every array
+     * @param limit     maximal number of elements printed for every array
+     * @throws NullPointerException     if any of the texts is null
+     * @throws IllegalArgumentException if limit is negative
+     */
+    ArrayPrinter(String prefix, String separator, String suffix, int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Negative limit: " + limit);
+        }
+        this.prefix = Objects.requireNonNull(prefix);
+        this.separator = Objects.requireNonNull(separator);
+        this.suffix = Objects.requireNonNull(suffix);
+        this.limit = limit;
+    }
+
+    /**
+     * Returns a printer with the same separators and the given limit of printed elements per array.
+     *
+     * @param limit maximal number of elements printed for every array
+     * @return new printer
+     * @throws IllegalArgumentException if limit is negative
+     */
+    ArrayPrinter withLimit(int limit) {
+        return new ArrayPrinter(prefix, separator, suffix, limit);
+    }
+
+    /**
+     * Returns a printer with the same limit and the given separators.
+     *
+     * @param prefix    text printed before the elements of every array
+     * @param separator text printed between two elements
+     * @param suffix    text printed after the elements of every array
+     * @return new printer
+     * @throws NullPointerException if any of the texts is null
+     */
+    ArrayPrinter withSeparators(String prefix, String separator, String suffix) {
+        return new ArrayPrinter(prefix, separator, suffix, limit);
+    }
+
+    /**
+     * Prints the array. A {@link Writer} gets the characters straight from the buffer,
+     * any other appendable gets them wrapped in a {@link CharBuffer}. The appendable is neither flushed nor closed.
+     *
+     * @param array array of any type, or null which is printed as {@code null}
+     * @param out   where to print the array
+     * @throws IOException              if appending fails
+     * @throws IllegalArgumentException if array is not an array
+     * @throws NullPointerException     if out is null
+     */
+    void print(Object array, Appendable out) throws IOException {
+        Objects.requireNonNull(out);
+        Sink sink = out instanceof Writer ? new WriterSink((Writer) out) : new AppendableSink(out);
+        print(array, sink);
+    }
+
+    /**
+     * Prints the array encoded with the given charset. Characters that cannot be encoded are replaced.
+     * The channel is not closed.
+     *
+     * @param array   array of any type, or null which is printed as {@code null}
+     * @param channel where to write the encoded text
+     * @param charset encoding of the text
+     * @throws IOException              if writing fails
+     * @throws IllegalArgumentException if array is not an array
+     * @throws NullPointerException     if channel or charset is null
+     */
+    void print(Object array, WritableByteChannel channel, Charset charset) throws IOException {
+        print(array, new ChannelSink(Objects.requireNonNull(channel), charset));
+    }
+
+    private void print(Object array, Sink sink) throws IOException {
+        if (array == null) {
+            sink.append("null");
+        } else if (array.getClass().isArray()) {
+            printArray(array, sink, Collections.newSetFromMap(new IdentityHashMap<>()));
+        } else {
+            throw new IllegalArgumentException("Not an array: " + array.getClass().getName());
+        }
+        sink.finish();
+    }
+
+    /**
+     * @param path object arrays that are being printed, the outer ones of the current one
+     */
+    private void printArray(Object array, Sink sink, Set<Object> path) throws IOException {
+        sink.append(prefix);
+        int length;
+        if (array instanceof int[]) {
+            int[] values = (int[]) array;
+            length = values.length;
+            for (int i = 0; i < Math.min(length, limit); i++) {
+                separate(sink, i);
+                sink.append(values[i]);
+            }
+        } else if (array instanceof long[]) {
+            long[] values = (long[]) array;
+            length = values.length;
+            for (int i = 0; i < Math.min(length, limit); i++) {
+                separate(sink, i);
+                sink.append(values[i]);
+            }
+        } else if (array instanceof short[]) {
+            short[] values = (short[]) array;
+            length = values.length;
+            for (int i = 0; i < Math.min(length, limit); i++) {
+                separate(sink, i);
+                sink.append(values[i]);
+            }
+        } else if (array instanceof byte[]) {
+            byte[] values = (byte[]) array;
+            length = values.length;
+            for (int i = 0; i < Math.min(length, limit); i++) {
+                separate(sink, i);
+                sink.append(values[i]);
+            }
+        } else if (array instanceof char[]) {
+            char[] values = (char[]) array;
+            length = values.length;
+            for (int i = 0; i < Math.min(length, limit); i++) {
+                separate(sink, i);
+                sink.append(values[i]);
+            }
+        } else if (array instanceof boolean[]) {
+            boolean[] values = (boolean[]) array;
+            length = values.length;
+            for (int i = 0; i < Math.min(length, limit); i++) {
+                separate(sink, i);
+                sink.append(values[i] ? "true" : "false");
+            }
+        } else if (array instanceof float[]) {
+            float[] values = (float[]) array;
+            length = values.length;
+            for (int i = 0; i < Math.min(length, limit); i++) {
+                separate(sink, i);
+                sink.append(Float.toString(values[i]));
+            }
+        } else if (array instanceof double[]) {
+            double[] values = (double[]) array;
+            length = values.length;
+            for (int i = 0; i < Math.min(length, limit); i++) {
+                separate(sink, i);
+                sink.append(Double.toString(values[i]));
+            }
+        } else {
+            Object[] values = (Object[]) array;
+            length = values.length;
+            path.add(values);
+            for (int i = 0; i < Math.min(length, limit); i++) {
+                separate(sink, i);
+                printElement(values[i], sink, path);
+            }
+            path.remove(values);
+        }
+        if (length > limit) {
+            separate(sink, limit);
+            sink.append("... (");
+            sink.append(length - limit);
+            sink.append(" more)");
+        }
+        sink.append(suffix);
+    }
+
+    private void printElement(Object element, Sink sink, Set<Object> path) throws IOException {
+        if (element == null) {
+            sink.append("null");
+        } else if (!element.getClass().isArray()) {
+            sink.append(String.valueOf(element));
+        } else if (path.contains(element)) {
+            sink.append("[...]");
+        } else {
+            printArray(element, sink, path);
+        }
+    }
+
+    private void separate(Sink sink, int index) throws IOException {
+        if (index > 0) {
+            sink.append(separator);
+        }
+    }
+
+    /**
+     * Collects the text in the buffer and drains it when it is full.
+     * A high surrogate at the end of the buffer is kept until its pair arrives, so encoders never see half of a character.
+     */
+    private abstract static class Sink {
+        private final char[] buffer = new char[BUFFER_SIZE];
+        private final char[] digits = new char[20];
+        private int size;
+
+        void append(char c) throws IOException {
+            if (size == buffer.length) {
+                drainBuffer();
+            }
+            buffer[size++] = c;
+        }
+
+        void append(String text) throws IOException {
+            int from = 0;
+            while (from < text.length()) {
+                if (size == buffer.length) {
+                    drainBuffer();
+                }
+                int count = Math.min(text.length() - from, buffer.length - size);
+                text.getChars(from, from + count, buffer, size);
+                size += count;
+                from += count;
+            }
+        }
+
+        void append(long value) throws IOException {
+            if (value == Long.MIN_VALUE) {
+                append(Long.toString(value));
+                return;
+            }
+            if (value < 0) {
+                append('-');
+                value = -value;
+            }
+            int start = digits.length;
+            do {
+                digits[--start] = (char) ('0' + value % 10);
+                value /= 10;
+            } while (value != 0);
+            if (buffer.length - size < digits.length - start) {
+                drainBuffer();
+            }
+            System.arraycopy(digits, start, buffer, size, digits.length - start);
+            size += digits.length - start;
+        }
+
+        void finish() throws IOException {
+            drain(buffer, size);
+            size = 0;
+            end();
+        }
+
+        private void drainBuffer() throws IOException {
+            int count = size;
+            if (count > 0 && Character.isHighSurrogate(buffer[count - 1])) {
+                count--;
+            }
+            drain(buffer, count);
+            System.arraycopy(buffer, count, buffer, 0, size - count);
+            size -= count;
+        }
+
+        abstract void drain(char[] chars, int count) throws IOException;
+
+        void end() throws IOException {
+        }
+    }
+
+    private static final class WriterSink extends Sink {
+        private final Writer writer;
+
+        WriterSink(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        void drain(char[] chars, int count) throws IOException {
+            writer.write(chars, 0, count);
+        }
+    }
+
+    private static final class AppendableSink extends Sink {
+        private final Appendable out;
+
+        AppendableSink(Appendable out) {
+            this.out = out;
+        }
+
+        @Override
+        void drain(char[] chars, int count) throws IOException {
+            out.append(CharBuffer.wrap(chars, 0, count));
+        }
+    }
+
+    private static final class ChannelSink extends Sink {
+        private final WritableByteChannel channel;
+        private final CharsetEncoder encoder;
+        private final ByteBuffer bytes;
+
+        ChannelSink(WritableByteChannel channel, Charset charset) {
+            this.channel = channel;
+            this.encoder = charset.newEncoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            this.bytes = ByteBuffer.allocate((int) Math.ceil(BUFFER_SIZE * encoder.maxBytesPerChar()));
+        }
+
+        @Override
+        void drain(char[] chars, int count) throws IOException {
+            CharBuffer text = CharBuffer.wrap(chars, 0, count);
+            while (encoder.encode(text, bytes, false).isOverflow()) {
+                write();
+            }
+        }
+
+        @Override
+        void end() throws IOException {
+            encoder.encode(CharBuffer.allocate(0), bytes, true);
+            encoder.flush(bytes);
+            write();
+        }
+
+        private void write() throws IOException {
+            bytes.flip();
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            bytes.clear();
+        }
+    }
+}
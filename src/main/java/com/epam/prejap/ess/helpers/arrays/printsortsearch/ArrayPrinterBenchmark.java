@@ -0,0 +1,101 @@
+package com.epam.prejap.ess.helpers.arrays.printsortsearch;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Comparison of printing arrays with Arrays.toString and Arrays.deepToString with streaming them through {@link ArrayPrinter}.
+ * Everything is written to a writer or a channel discarding the output, so the benchmarks measure formatting and encoding only.
+ * The main method runs the benchmarks with the gc profiler, so every result is followed by {@code gc.alloc.rate.norm},
+ * the number of bytes allocated per operation: for the JDK methods it grows with the size of the array,
+ * for the printer it stays at the size of its buffers.
+ */
+@Fork(value = 1)
+@Threads(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@Measurement(iterations = 20, timeUnit = TimeUnit.MILLISECONDS, time = 100)
+@Warmup(iterations = 10, timeUnit = TimeUnit.MILLISECONDS, time = 100)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ArrayPrinterBenchmark {
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ArrayPrinterBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+
+    @Benchmark
+    public void arraysToStringBenchmark(BenchmarkInput input) throws IOException {
+        input.writer.write(Arrays.toString(input.ints));
+    }
+
+    @Benchmark
+    public void arrayPrinterToWriterBenchmark(BenchmarkInput input) throws IOException {
+        ArrayPrinter.DEFAULT.print(input.ints, input.writer);
+    }
+
+    @Benchmark
+    public void arraysToStringEncodedBenchmark(BenchmarkInput input) throws IOException {
+        input.encodingWriter.write(Arrays.toString(input.ints));
+        input.encodingWriter.flush();
+    }
+
+    @Benchmark
+    public void arrayPrinterToChannelBenchmark(BenchmarkInput input) throws IOException {
+        ArrayPrinter.DEFAULT.print(input.ints, input.channel, StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public void arraysDeepToStringBenchmark(BenchmarkInput input) throws IOException {
+        input.writer.write(Arrays.deepToString(input.nested));
+    }
+
+    @Benchmark
+    public void arrayPrinterNestedToWriterBenchmark(BenchmarkInput input) throws IOException {
+        ArrayPrinter.DEFAULT.print(input.nested, input.writer);
+    }
+
+    @Benchmark
+    public void arrayPrinterWithLimitBenchmark(BenchmarkInput input) throws IOException {
+        ArrayPrinter.DEFAULT.withLimit(100).print(input.ints, input.writer);
+    }
+
+    @State(Scope.Thread)
+    public static class BenchmarkInput {
+        @Param({"1000", "100000", "10000000"})
+        int size;
+        int[] ints;
+        /**
+         * Rows of 100 ints, so the same number of elements as in {@link #ints}.
+         */
+        int[][] nested;
+        final Writer writer = Writer.nullWriter();
+        final Writer encodingWriter = new OutputStreamWriter(OutputStream.nullOutputStream(), StandardCharsets.UTF_8);
+        final WritableByteChannel channel = Channels.newChannel(OutputStream.nullOutputStream());
+
+        @Setup
+        public void setUp() {
+            ints = IntStream.range(0, size).map(i -> i * 7919 - size).toArray();
+            nested = IntStream.range(0, size / 100)
+                    .mapToObj(row -> Arrays.copyOfRange(ints, row * 100, row * 100 + 100))
+                    .toArray(int[][]::new);
+        }
+    }
+}
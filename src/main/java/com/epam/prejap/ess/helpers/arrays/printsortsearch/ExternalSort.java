@@ -0,0 +1,449 @@
+package com.epam.prejap.ess.helpers.arrays.printsortsearch;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * Sorts files of ints or longs that do not fit in the heap, the counterpart of Arrays.sort for data on disk.
+ * <p>
+ * The files hold the elements one after another, little-endian, without any header, so the number of elements is
+ * the size of the file divided by the size of the element. The sort works in two phases:
+ * <ol>
+ *     <li>split - the input is read in runs that fit in the memory budget, every run is sorted with
+ *     {@link RadixSort#parallelSort} and spilled to a temporary file</li>
+ *     <li>merge - the runs are merged with a min-heap, reading every run through its own buffer of a FileChannel.
+ *     When there are more runs than fit in the budget with buffers of {@link #MERGE_BUFFER_BYTES}, they are merged
+ *     in groups into longer runs first</li>
+ * </ol>
+ * The memory budget bounds the buffers and arrays allocated by the sort. The output can be searched in place
+ * with {@link SortedFile}. Progress is reported to the listener after every spilled run and every written buffer,
+ * and {@link #sort(Path, Path, ElementType)} returns the statistics of the whole sort.
+ *
+ * @see ArrayPrintSortSearch
+ * @see SortedFile
+ */
+final class ExternalSort {
+
+    static final long MIN_MEMORY_BUDGET = 1 << 10;
+
+    /**
+     * Preferred size of the buffer of every merged run.
+     */
+    static final int MERGE_BUFFER_BYTES = 1 << 16;
+
+    /**
+     * Type of the elements of the sorted file.
+     */
+    enum ElementType {
+        INT(Integer.BYTES) {
+            @Override
+            long get(ByteBuffer buffer) {
+                return buffer.getInt();
+            }
+
+            @Override
+            long get(ByteBuffer buffer, int index) {
+                return buffer.getInt(index);
+            }
+
+            @Override
+            void put(ByteBuffer buffer, long value) {
+                buffer.putInt((int) value);
+            }
+
+            @Override
+            RunSorter runSorter(int capacity, ForkJoinPool pool) {
+                int[] values = new int[capacity];
+                RadixSort sorter = new RadixSort();
+                return (run, count) -> {
+                    run.asIntBuffer().get(values, 0, count);
+                    sorter.parallelSort(pool, values, 0, count);
+                    run.asIntBuffer().put(values, 0, count);
+                };
+            }
+        },
+        LONG(Long.BYTES) {
+            @Override
+            long get(ByteBuffer buffer) {
+                return buffer.getLong();
+            }
+
+            @Override
+            long get(ByteBuffer buffer, int index) {
+                return buffer.getLong(index);
+            }
+
+            @Override
+            void put(ByteBuffer buffer, long value) {
+                buffer.putLong(value);
+            }
+
+            @Override
+            RunSorter runSorter(int capacity, ForkJoinPool pool) {
+                long[] values = new long[capacity];
+                RadixSort sorter = new RadixSort();
+                return (run, count) -> {
+                    run.asLongBuffer().get(values, 0, count);
+                    sorter.parallelSort(pool, values, 0, count);
+                    run.asLongBuffer().put(values, 0, count);
+                };
+            }
+        };
+
+        final int bytes;
+
+        ElementType(int bytes) {
+            this.bytes = bytes;
+        }
+
+        abstract long get(ByteBuffer buffer);
+
+        /**
+         * @param index position of the element in bytes
+         */
+        abstract long get(ByteBuffer buffer, int index);
+
+        abstract void put(ByteBuffer buffer, long value);
+
+        /**
+         * Returns a sorter of runs of up to capacity elements, which takes about twice the memory of the run.
+         */
+        abstract RunSorter runSorter(int capacity, ForkJoinPool pool);
+    }
+
+    enum Phase {
+        SPLIT, MERGE
+    }
+
+    /**
+     * @param phase          current phase
+     * @param processedBytes bytes read in the split phase or written in the merge phase so far
+     * @param totalBytes     bytes the phase reads or writes in total, for the merge phase the size of the file times
+     *                       the number of merge passes
+     */
+    record Progress(Phase phase, long processedBytes, long totalBytes) {
+        double fraction() {
+            return totalBytes == 0 ? 1 : (double) processedBytes / totalBytes;
+        }
+    }
+
+    /**
+     * @param elements    number of sorted elements
+     * @param runs        number of runs spilled in the split phase
+     * @param mergePasses number of times the data was merged, 1 unless the runs had to be merged in groups
+     * @param splitNanos  duration of the split phase
+     * @param mergeNanos  duration of the merge phase
+     */
+    record Statistics(long elements, int runs, int mergePasses, long splitNanos, long mergeNanos) {
+    }
+
+    private final long memoryBudget;
+    private final Path tempDirectory;
+    private final ForkJoinPool pool;
+    private final Consumer<Progress> listener;
+
+    /**
+     * Creates a sort spilling to the default temporary directory, sorting runs on the common pool,
+     * without a progress listener.
+     *
+     * @param memoryBudget maximal number of bytes of the buffers and arrays of the sort
+     * @throws IllegalArgumentException if the budget is less than {@link #MIN_MEMORY_BUDGET}
+     */
+    ExternalSort(long memoryBudget) {
+        this(memoryBudget, Path.of(System.getProperty("java.io.tmpdir")), ForkJoinPool.commonPool(), progress -> {
+        });
+    }
+
+    /**
+     * @param memoryBudget  maximal number of bytes of the buffers and arrays of the sort
+     * @param tempDirectory directory of the runs, they are deleted before the sort returns
+     * @param pool          pool sorting the runs
+     * @param listener      receiver of the progress, called by the sorting thread
+     * @throws IllegalArgumentException if the budget is less than {@link #MIN_MEMORY_BUDGET}
+     * @throws NullPointerException     if tempDirectory, pool or listener is null
+     */
+    ExternalSort(long memoryBudget, Path tempDirectory, ForkJoinPool pool, Consumer<Progress> listener) {
+        if (memoryBudget < MIN_MEMORY_BUDGET) {
+            throw new IllegalArgumentException("Memory budget below " + MIN_MEMORY_BUDGET + " bytes: " + memoryBudget);
+        }
+        this.memoryBudget = memoryBudget;
+        this.tempDirectory = Objects.requireNonNull(tempDirectory);
+        this.pool = Objects.requireNonNull(pool);
+        this.listener = Objects.requireNonNull(listener);
+    }
+
+    /**
+     * Sorts the elements of the input into ascending numerical order and writes them to the output,
+     * replacing its content. The input is not modified and may be the same file as the output.
+     *
+     * @param input  file to sort
+     * @param output file to write the sorted elements to
+     * @param type   type of the elements
+     * @return statistics of the sort
+     * @throws IOException if the size of the input is not a multiple of the element size or accessing the files fails
+     */
+    Statistics sort(Path input, Path output, ElementType type) throws IOException {
+        List<Path> runs = new ArrayList<>();
+        try {
+            long start = System.nanoTime();
+            long size = split(input, type, runs);
+            int spilled = runs.size();
+            long split = System.nanoTime();
+            int passes = merge(runs, output, type, size);
+            return new Statistics(size / type.bytes, spilled, passes, split - start, System.nanoTime() - split);
+        } finally {
+            for (Path run : runs) {
+                Files.deleteIfExists(run);
+            }
+        }
+    }
+
+    /**
+     * Spills the sorted runs of the input to temporary files.
+     *
+     * @param runs list the spilled runs are added to
+     * @return size of the input
+     */
+    private long split(Path input, ElementType type, List<Path> runs) throws IOException {
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ)) {
+            long size = in.size();
+            if (size % type.bytes != 0) {
+                throw new IOException("Size of " + input + " is not a multiple of " + type.bytes + " bytes: " + size);
+            }
+            int capacity = runCapacity(size, type);
+            ByteBuffer buffer = ByteBuffer.allocate(capacity * type.bytes).order(ByteOrder.LITTLE_ENDIAN);
+            RunSorter sorter = type.runSorter(capacity, pool);
+            long read = 0;
+            while (read < size) {
+                buffer.clear();
+                read += readFully(in, buffer);
+                buffer.flip();
+                sorter.sort(buffer, buffer.remaining() / type.bytes);
+                Path run = Files.createTempFile(tempDirectory, "run", ".bin");
+                runs.add(run);
+                try (FileChannel out = FileChannel.open(run, StandardOpenOption.WRITE)) {
+                    writeFully(out, buffer);
+                }
+                listener.accept(new Progress(Phase.SPLIT, read, size));
+            }
+            return size;
+        }
+    }
+
+    /**
+     * Merges the runs into the output, first in groups if there are too many of them.
+     * The runs merged into longer ones are deleted and removed from the list.
+     *
+     * @return number of merge passes
+     */
+    private int merge(List<Path> runs, Path output, ElementType type, long size) throws IOException {
+        int fanIn = (int) Math.max(2, Math.min(Integer.MAX_VALUE - 1, memoryBudget / MERGE_BUFFER_BYTES - 1));
+        int passes = mergePasses(runs.size(), fanIn);
+        long[] written = {0};
+        IntConsumer progress = bytes -> {
+            written[0] += bytes;
+            listener.accept(new Progress(Phase.MERGE, written[0], size * passes));
+        };
+        while (runs.size() > fanIn) {
+            List<Path> merged = new ArrayList<>();
+            for (int from = 0; from < runs.size(); from += fanIn) {
+                List<Path> group = runs.subList(from, Math.min(runs.size(), from + fanIn));
+                Path run = Files.createTempFile(tempDirectory, "run", ".bin");
+                merged.add(run);
+                mergeRuns(group, run, type, progress);
+            }
+            for (Path run : runs) {
+                Files.delete(run);
+            }
+            runs.clear();
+            runs.addAll(merged);
+        }
+        mergeRuns(runs, output, type, progress);
+        return passes;
+    }
+
+    private void mergeRuns(List<Path> runs, Path output, ElementType type, IntConsumer progress) throws IOException {
+        int bufferBytes = (int) Math.max(type.bytes, memoryBudget / (runs.size() + 1) / type.bytes * type.bytes);
+        RunReader[] heap = new RunReader[runs.size()];
+        int heapSize = 0;
+        Throwable failure = null;
+        try (FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (Path run : runs) {
+                RunReader reader = new RunReader(FileChannel.open(run, StandardOpenOption.READ), type, bufferBytes);
+                boolean hasHead;
+                try {
+                    hasHead = reader.advance();
+                } catch (Throwable e) {
+                    close(reader, e);
+                    throw e;
+                }
+                if (hasHead) {
+                    heap[heapSize++] = reader;
+                } else {
+                    reader.channel.close();
+                }
+            }
+            for (int i = heapSize / 2 - 1; i >= 0; i--) {
+                siftDown(heap, heapSize, i);
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(bufferBytes).order(ByteOrder.LITTLE_ENDIAN);
+            while (heapSize > 0) {
+                RunReader smallest = heap[0];
+                type.put(buffer, smallest.head);
+                if (!buffer.hasRemaining()) {
+                    progress.accept(flush(out, buffer));
+                }
+                if (!smallest.advance()) {
+                    smallest.channel.close();
+                    heap[0] = heap[--heapSize];
+                }
+                siftDown(heap, heapSize, 0);
+            }
+            progress.accept(flush(out, buffer));
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            Throwable closeFailure = failure;
+            for (int i = 0; i < heapSize; i++) {
+                closeFailure = close(heap[i], closeFailure);
+            }
+            if (failure == null && closeFailure != null) {
+                throw (IOException) closeFailure;
+            }
+        }
+    }
+
+    /**
+     * Closes the reader, adding a failure to close it as suppressed to the given one.
+     *
+     * @return the given failure, or the failure to close if there was none
+     */
+    private static Throwable close(RunReader reader, Throwable failure) {
+        try {
+            reader.channel.close();
+        } catch (IOException e) {
+            if (failure == null) {
+                return e;
+            }
+            failure.addSuppressed(e);
+        }
+        return failure;
+    }
+
+    private static int mergePasses(int runs, int fanIn) {
+        int passes = 1;
+        for (int count = runs; count > fanIn; count = (count + fanIn - 1) / fanIn) {
+            passes++;
+        }
+        return passes;
+    }
+
+    private static void siftDown(RunReader[] heap, int heapSize, int index) {
+        RunReader moved = heap[index];
+        while (2 * index + 1 < heapSize) {
+            int child = 2 * index + 1;
+            if (child + 1 < heapSize && heap[child + 1].head < heap[child].head) {
+                child++;
+            }
+            if (heap[child].head >= moved.head) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = moved;
+    }
+
+    /**
+     * Number of elements of a run: the buffer of the run, the array it is sorted in and the scratch buffer
+     * of the radix sort have to fit in the budget together.
+     */
+    private int runCapacity(long size, ElementType type) {
+        long capacity = Math.min(memoryBudget / (3L * type.bytes), Integer.MAX_VALUE / type.bytes);
+        return (int) Math.max(1, Math.min(capacity, size / type.bytes));
+    }
+
+    private static int readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        int read = 0;
+        while (buffer.hasRemaining()) {
+            int count = channel.read(buffer);
+            if (count < 0) {
+                break;
+            }
+            read += count;
+        }
+        return read;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * @return number of written bytes
+     */
+    private static int flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        int bytes = buffer.remaining();
+        writeFully(channel, buffer);
+        buffer.clear();
+        return bytes;
+    }
+
+    /**
+     * Sorts a run held in a little-endian buffer in place.
+     */
+    @FunctionalInterface
+    interface RunSorter {
+        void sort(ByteBuffer run, int count);
+    }
+
+    /**
+     * Cursor over a sorted run, reading it through a buffer.
+     */
+    private static final class RunReader {
+        final FileChannel channel;
+        final ElementType type;
+        final ByteBuffer buffer;
+        long head;
+
+        RunReader(FileChannel channel, ElementType type, int bufferBytes) {
+            this.channel = channel;
+            this.type = type;
+            this.buffer = ByteBuffer.allocate(bufferBytes).order(ByteOrder.LITTLE_ENDIAN).flip();
+        }
+
+        /**
+         * Moves to the next element of the run.
+         *
+         * @return false if the run has ended
+         */
+        boolean advance() throws IOException {
+            if (!buffer.hasRemaining()) {
+                buffer.clear();
+                readFully(channel, buffer);
+                buffer.flip();
+                if (!buffer.hasRemaining()) {
+                    return false;
+                }
+            }
+            head = type.get(buffer);
+            return true;
+        }
+    }
+}
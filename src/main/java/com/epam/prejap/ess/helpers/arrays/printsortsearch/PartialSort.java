@@ -0,0 +1,566 @@
+package com.epam.prejap.ess.helpers.arrays.printsortsearch;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Partial ordering of arrays, for code that sorts a whole array with Arrays.sort only to read its smallest
+ * or largest elements or its median.
+ * <ul>
+ *     <li>select - quickselect, puts the element of the given rank where a sort would put it, the smaller ones
+ *     before it and the greater ones after it, in linear time on average</li>
+ *     <li>partialSort - puts the k smallest elements in order at the beginning of the array, selecting them first
+ *     and sorting only them</li>
+ *     <li>smallest and largest - return the k best elements in order without touching the array, keeping the best
+ *     ones seen so far in a heap of k elements, so the time is n log k and the memory k</li>
+ * </ul>
+ * The order is the one of Arrays.sort: doubles are ordered like by Double.compare, and objects by the given
+ * comparator, which can be any comparator, including null-safe and reversed ones as in TaskObjectsCompare.
+ * Quickselect partitions around the median of three elements into smaller, equal and greater ones,
+ * so repeated elements do not slow it down, and falls back to Arrays.sort of the remaining range if it
+ * partitions more than about 2 log n times.
+ *
+ * @see ArrayPrintSortSearch
+ */
+final class PartialSort {
+
+    /**
+     * Ranges of up to this length are sorted instead of partitioned.
+     */
+    static final int SORT_THRESHOLD = 16;
+
+    private PartialSort() {
+    }
+
+    /**
+     * Rearranges the array so the element at the given index is the one a sort would put there,
+     * with no greater element before it and no smaller element after it.
+     *
+     * @param array array to rearrange
+     * @param rank  index of the selected element
+     * @return the selected element
+     * @throws IndexOutOfBoundsException if rank is out of the array
+     * @throws NullPointerException      if array is null
+     */
+    static int select(int[] array, int rank) {
+        Objects.checkIndex(rank, array.length);
+        int from = 0;
+        int to = array.length;
+        int partitions = depthLimit(to);
+        while (to - from > SORT_THRESHOLD && partitions-- > 0) {
+            int pivot = median(array[from], array[(from + to) >>> 1], array[to - 1]);
+            int less = from;
+            int greater = to - 1;
+            for (int i = from; i <= greater; ) {
+                if (array[i] < pivot) {
+                    swap(array, less++, i++);
+                } else if (array[i] > pivot) {
+                    swap(array, i, greater--);
+                } else {
+                    i++;
+                }
+            }
+            if (rank < less) {
+                to = less;
+            } else if (rank > greater) {
+                from = greater + 1;
+            } else {
+                return array[rank];
+            }
+        }
+        Arrays.sort(array, from, to);
+        return array[rank];
+    }
+
+    /**
+     * Rearranges the array so the element at the given index is the one a sort would put there,
+     * with no greater element before it and no smaller element after it.
+     *
+     * @param array array to rearrange
+     * @param rank  index of the selected element
+     * @return the selected element
+     * @throws IndexOutOfBoundsException if rank is out of the array
+     * @throws NullPointerException      if array is null
+     */
+    static long select(long[] array, int rank) {
+        Objects.checkIndex(rank, array.length);
+        int from = 0;
+        int to = array.length;
+        int partitions = depthLimit(to);
+        while (to - from > SORT_THRESHOLD && partitions-- > 0) {
+            long pivot = median(array[from], array[(from + to) >>> 1], array[to - 1]);
+            int less = from;
+            int greater = to - 1;
+            for (int i = from; i <= greater; ) {
+                if (array[i] < pivot) {
+                    swap(array, less++, i++);
+                } else if (array[i] > pivot) {
+                    swap(array, i, greater--);
+                } else {
+                    i++;
+                }
+            }
+            if (rank < less) {
+                to = less;
+            } else if (rank > greater) {
+                from = greater + 1;
+            } else {
+                return array[rank];
+            }
+        }
+        Arrays.sort(array, from, to);
+        return array[rank];
+    }
+
+    /**
+     * Rearranges the array so the element at the given index is the one a sort would put there,
+     * with no greater element before it and no smaller element after it, in the order of Double.compare.
+     *
+     * @param array array to rearrange
+     * @param rank  index of the selected element
+     * @return the selected element
+     * @throws IndexOutOfBoundsException if rank is out of the array
+     * @throws NullPointerException      if array is null
+     */
+    static double select(double[] array, int rank) {
+        Objects.checkIndex(rank, array.length);
+        int from = 0;
+        int to = array.length;
+        int partitions = depthLimit(to);
+        while (to - from > SORT_THRESHOLD && partitions-- > 0) {
+            double pivot = median(array[from], array[(from + to) >>> 1], array[to - 1]);
+            int less = from;
+            int greater = to - 1;
+            for (int i = from; i <= greater; ) {
+                int comparison = Double.compare(array[i], pivot);
+                if (comparison < 0) {
+                    swap(array, less++, i++);
+                } else if (comparison > 0) {
+                    swap(array, i, greater--);
+                } else {
+                    i++;
+                }
+            }
+            if (rank < less) {
+                to = less;
+            } else if (rank > greater) {
+                from = greater + 1;
+            } else {
+                return array[rank];
+            }
+        }
+        Arrays.sort(array, from, to);
+        return array[rank];
+    }
+
+    /**
+     * Rearranges the array so the element at the given index is the one a sort with the comparator
+     * would put there, with no greater element before it and no smaller element after it.
+     * Unlike Arrays.sort, the order of equal elements is not kept.
+     *
+     * @param array      array to rearrange
+     * @param rank       index of the selected element
+     * @param comparator order of the elements
+     * @param <T>        type of the elements
+     * @return the selected element
+     * @throws IndexOutOfBoundsException if rank is out of the array
+     * @throws NullPointerException      if array or comparator is null
+     */
+    static <T> T select(T[] array, int rank, Comparator<? super T> comparator) {
+        Objects.checkIndex(rank, array.length);
+        Objects.requireNonNull(comparator);
+        int from = 0;
+        int to = array.length;
+        int partitions = depthLimit(to);
+        while (to - from > SORT_THRESHOLD && partitions-- > 0) {
+            T pivot = median(array[from], array[(from + to) >>> 1], array[to - 1], comparator);
+            int less = from;
+            int greater = to - 1;
+            for (int i = from; i <= greater; ) {
+                int comparison = comparator.compare(array[i], pivot);
+                if (comparison < 0) {
+                    swap(array, less++, i++);
+                } else if (comparison > 0) {
+                    swap(array, i, greater--);
+                } else {
+                    i++;
+                }
+            }
+            if (rank < less) {
+                to = less;
+            } else if (rank > greater) {
+                from = greater + 1;
+            } else {
+                return array[rank];
+            }
+        }
+        Arrays.sort(array, from, to, comparator);
+        return array[rank];
+    }
+
+    /**
+     * Puts the k smallest elements in ascending order at the beginning of the array,
+     * the order of the other elements is unspecified.
+     *
+     * @param array array to rearrange
+     * @param k     number of sorted elements
+     * @throws IndexOutOfBoundsException if k is negative or greater than the length of the array
+     * @throws NullPointerException      if array is null
+     */
+    static void partialSort(int[] array, int k) {
+        Objects.checkFromToIndex(0, k, array.length);
+        if (k > 0) {
+            select(array, k - 1);
+            Arrays.sort(array, 0, k - 1);
+        }
+    }
+
+    /**
+     * Puts the k smallest elements in ascending order at the beginning of the array,
+     * the order of the other elements is unspecified.
+     *
+     * @param array array to rearrange
+     * @param k     number of sorted elements
+     * @throws IndexOutOfBoundsException if k is negative or greater than the length of the array
+     * @throws NullPointerException      if array is null
+     */
+    static void partialSort(long[] array, int k) {
+        Objects.checkFromToIndex(0, k, array.length);
+        if (k > 0) {
+            select(array, k - 1);
+            Arrays.sort(array, 0, k - 1);
+        }
+    }
+
+    /**
+     * Puts the k smallest elements in ascending order at the beginning of the array,
+     * the order of the other elements is unspecified.
+     *
+     * @param array array to rearrange
+     * @param k     number of sorted elements
+     * @throws IndexOutOfBoundsException if k is negative or greater than the length of the array
+     * @throws NullPointerException      if array is null
+     */
+    static void partialSort(double[] array, int k) {
+        Objects.checkFromToIndex(0, k, array.length);
+        if (k > 0) {
+            select(array, k - 1);
+            Arrays.sort(array, 0, k - 1);
+        }
+    }
+
+    /**
+     * Puts the k smallest elements in the order of the comparator at the beginning of the array,
+     * the order of the other elements is unspecified.
+     *
+     * @param array      array to rearrange
+     * @param k          number of sorted elements
+     * @param comparator order of the elements
+     * @param <T>        type of the elements
+     * @throws IndexOutOfBoundsException if k is negative or greater than the length of the array
+     * @throws NullPointerException      if array or comparator is null
+     */
+    static <T> void partialSort(T[] array, int k, Comparator<? super T> comparator) {
+        Objects.checkFromToIndex(0, k, array.length);
+        Objects.requireNonNull(comparator);
+        if (k > 0) {
+            select(array, k - 1, comparator);
+            Arrays.sort(array, 0, k - 1, comparator);
+        }
+    }
+
+    /**
+     * @param array array of ints, not modified
+     * @param k     number of returned elements
+     * @return the k smallest elements in ascending order
+     * @throws IndexOutOfBoundsException if k is negative or greater than the length of the array
+     * @throws NullPointerException      if array is null
+     */
+    static int[] smallest(int[] array, int k) {
+        return best(array, k, false);
+    }
+
+    /**
+     * @param array array of ints, not modified
+     * @param k     number of returned elements
+     * @return the k largest elements in descending order
+     * @throws IndexOutOfBoundsException if k is negative or greater than the length of the array
+     * @throws NullPointerException      if array is null
+     */
+    static int[] largest(int[] array, int k) {
+        return best(array, k, true);
+    }
+
+    /**
+     * @param array array of longs, not modified
+     * @param k     number of returned elements
+     * @return the k smallest elements in ascending order
+     * @throws IndexOutOfBoundsException if k is negative or greater than the length of the array
+     * @throws NullPointerException      if array is null
+     */
+    static long[] smallest(long[] array, int k) {
+        return best(array, k, false);
+    }
+
+    /**
+     * @param array array of longs, not modified
+     * @param k     number of returned elements
+     * @return the k largest elements in descending order
+     * @throws IndexOutOfBoundsException if k is negative or greater than the length of the array
+     * @throws NullPointerException      if array is null
+     */
+    static long[] largest(long[] array, int k) {
+        return best(array, k, true);
+    }
+
+    /**
+     * @param array array of doubles, not modified
+     * @param k     number of returned elements
+     * @return the k smallest elements in the ascending order of Double.compare
+     * @throws IndexOutOfBoundsException if k is negative or greater than the length of the array
+     * @throws NullPointerException      if array is null
+     */
+    static double[] smallest(double[] array, int k) {
+        return best(array, k, false);
+    }
+
+    /**
+     * @param array array of doubles, not modified
+     * @param k     number of returned elements
+     * @return the k largest elements in the descending order of Double.compare
+     * @throws IndexOutOfBoundsException if k is negative or greater than the length of the array
+     * @throws NullPointerException      if array is null
+     */
+    static double[] largest(double[] array, int k) {
+        return best(array, k, true);
+    }
+
+    /**
+     * For the k largest elements pass {@code comparator.reversed()}.
+     *
+     * @param array      array of objects, not modified
+     * @param k          number of returned elements
+     * @param comparator order of the elements
+     * @param <T>        type of the elements
+     * @return the k smallest elements in the order of the comparator, in an array of the same type as the given one
+     * @throws IndexOutOfBoundsException if k is negative or greater than the length of the array
+     * @throws NullPointerException      if array or comparator is null
+     */
+    static <T> T[] smallest(T[] array, int k, Comparator<? super T> comparator) {
+        Objects.checkFromToIndex(0, k, array.length);
+        Objects.requireNonNull(comparator);
+        T[] heap = Arrays.copyOf(array, k);
+        for (int i = k / 2 - 1; i >= 0; i--) {
+            siftDown(heap, k, i, comparator);
+        }
+        for (int i = k; i < array.length; i++) {
+            if (k > 0 && comparator.compare(array[i], heap[0]) < 0) {
+                heap[0] = array[i];
+                siftDown(heap, k, 0, comparator);
+            }
+        }
+        for (int size = k - 1; size > 0; size--) {
+            swap(heap, 0, size);
+            siftDown(heap, size, 0, comparator);
+        }
+        return heap;
+    }
+
+    /**
+     * Keeps the k best elements seen so far in a heap with the worst of them at the root,
+     * then sorts the heap by moving the root to its end.
+     *
+     * @param largest whether greater elements are better
+     */
+    private static int[] best(int[] array, int k, boolean largest) {
+        Objects.checkFromToIndex(0, k, array.length);
+        int[] heap = Arrays.copyOf(array, k);
+        for (int i = k / 2 - 1; i >= 0; i--) {
+            siftDown(heap, k, i, largest);
+        }
+        for (int i = k; i < array.length; i++) {
+            if (k > 0 && (largest ? array[i] > heap[0] : array[i] < heap[0])) {
+                heap[0] = array[i];
+                siftDown(heap, k, 0, largest);
+            }
+        }
+        for (int size = k - 1; size > 0; size--) {
+            swap(heap, 0, size);
+            siftDown(heap, size, 0, largest);
+        }
+        return heap;
+    }
+
+    private static long[] best(long[] array, int k, boolean largest) {
+        Objects.checkFromToIndex(0, k, array.length);
+        long[] heap = Arrays.copyOf(array, k);
+        for (int i = k / 2 - 1; i >= 0; i--) {
+            siftDown(heap, k, i, largest);
+        }
+        for (int i = k; i < array.length; i++) {
+            if (k > 0 && (largest ? array[i] > heap[0] : array[i] < heap[0])) {
+                heap[0] = array[i];
+                siftDown(heap, k, 0, largest);
+            }
+        }
+        for (int size = k - 1; size > 0; size--) {
+            swap(heap, 0, size);
+            siftDown(heap, size, 0, largest);
+        }
+        return heap;
+    }
+
+    private static double[] best(double[] array, int k, boolean largest) {
+        Objects.checkFromToIndex(0, k, array.length);
+        double[] heap = Arrays.copyOf(array, k);
+        for (int i = k / 2 - 1; i >= 0; i--) {
+            siftDown(heap, k, i, largest);
+        }
+        for (int i = k; i < array.length; i++) {
+            if (k > 0 && worse(heap[0], array[i], largest)) {
+                heap[0] = array[i];
+                siftDown(heap, k, 0, largest);
+            }
+        }
+        for (int size = k - 1; size > 0; size--) {
+            swap(heap, 0, size);
+            siftDown(heap, size, 0, largest);
+        }
+        return heap;
+    }
+
+    /**
+     * Moves the element down until no child is worse than it.
+     */
+    private static void siftDown(int[] heap, int size, int index, boolean largest) {
+        int moved = heap[index];
+        for (int child = 2 * index + 1; child < size; child = 2 * index + 1) {
+            if (child + 1 < size && (largest ? heap[child + 1] < heap[child] : heap[child + 1] > heap[child])) {
+                child++;
+            }
+            if (largest ? heap[child] >= moved : heap[child] <= moved) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = moved;
+    }
+
+    private static void siftDown(long[] heap, int size, int index, boolean largest) {
+        long moved = heap[index];
+        for (int child = 2 * index + 1; child < size; child = 2 * index + 1) {
+            if (child + 1 < size && (largest ? heap[child + 1] < heap[child] : heap[child + 1] > heap[child])) {
+                child++;
+            }
+            if (largest ? heap[child] >= moved : heap[child] <= moved) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = moved;
+    }
+
+    private static void siftDown(double[] heap, int size, int index, boolean largest) {
+        double moved = heap[index];
+        for (int child = 2 * index + 1; child < size; child = 2 * index + 1) {
+            if (child + 1 < size && worse(heap[child + 1], heap[child], largest)) {
+                child++;
+            }
+            if (!worse(heap[child], moved, largest)) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = moved;
+    }
+
+    private static <T> void siftDown(T[] heap, int size, int index, Comparator<? super T> comparator) {
+        T moved = heap[index];
+        for (int child = 2 * index + 1; child < size; child = 2 * index + 1) {
+            if (child + 1 < size && comparator.compare(heap[child + 1], heap[child]) > 0) {
+                child++;
+            }
+            if (comparator.compare(heap[child], moved) <= 0) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = moved;
+    }
+
+    /**
+     * @return whether the first double is strictly worse than the second one in the order of Double.compare
+     */
+    private static boolean worse(double first, double second, boolean largest) {
+        int comparison = Double.compare(first, second);
+        return largest ? comparison < 0 : comparison > 0;
+    }
+
+    /**
+     * Number of partitions after which quickselect gives up and sorts the rest, twice the depth of a balanced split.
+     */
+    private static int depthLimit(int length) {
+        return 2 * (Integer.SIZE - Integer.numberOfLeadingZeros(length));
+    }
+
+    private static int median(int a, int b, int c) {
+        return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+    }
+
+    private static long median(long a, long b, long c) {
+        return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+    }
+
+    private static double median(double a, double b, double c) {
+        if (Double.compare(a, b) > 0) {
+            double swapped = a;
+            a = b;
+            b = swapped;
+        }
+        if (Double.compare(b, c) <= 0) {
+            return b;
+        }
+        return Double.compare(a, c) > 0 ? a : c;
+    }
+
+    private static <T> T median(T a, T b, T c, Comparator<? super T> comparator) {
+        if (comparator.compare(a, b) > 0) {
+            T swapped = a;
+            a = b;
+            b = swapped;
+        }
+        if (comparator.compare(b, c) <= 0) {
+            return b;
+        }
+        return comparator.compare(a, c) > 0 ? a : c;
+    }
+
+    private static void swap(int[] array, int i, int j) {
+        int swapped = array[i];
+        array[i] = array[j];
+        array[j] = swapped;
+    }
+
+    private static void swap(long[] array, int i, int j) {
+        long swapped = array[i];
+        array[i] = array[j];
+        array[j] = swapped;
+    }
+
+    private static void swap(double[] array, int i, int j) {
+        double swapped = array[i];
+        array[i] = array[j];
+        array[j] = swapped;
+    }
+
+    private static <T> void swap(T[] array, int i, int j) {
+        T swapped = array[i];
+        array[i] = array[j];
+        array[j] = swapped;
+    }
+}
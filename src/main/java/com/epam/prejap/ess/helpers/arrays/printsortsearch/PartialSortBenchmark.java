@@ -0,0 +1,108 @@
+package com.epam.prejap.ess.helpers.arrays.printsortsearch;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Comparison of reading the median and the k smallest elements after sorting the whole array with Arrays.sort
+ * and with {@link PartialSort}, for int and object arrays.
+ * Every benchmark that rearranges the array first copies the unsorted elements into it, which takes the same time for all of them.
+ */
+@Fork(value = 1)
+@Threads(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@Measurement(iterations = 20, timeUnit = TimeUnit.MILLISECONDS, time = 100)
+@Warmup(iterations = 10, timeUnit = TimeUnit.MILLISECONDS, time = 100)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PartialSortBenchmark {
+
+    private static final Comparator<Integer> DESCENDING = Comparator.reverseOrder();
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    @Benchmark
+    public int medianWithArraysSortBenchmark(BenchmarkInput input) {
+        int[] array = input.ints();
+        Arrays.sort(array);
+        return array[array.length / 2];
+    }
+
+    @Benchmark
+    public int medianWithSelectBenchmark(BenchmarkInput input) {
+        return PartialSort.select(input.ints(), input.size / 2);
+    }
+
+    @Benchmark
+    public int[] smallestWithArraysSortBenchmark(BenchmarkInput input) {
+        int[] array = input.ints();
+        Arrays.sort(array);
+        return Arrays.copyOf(array, input.k);
+    }
+
+    @Benchmark
+    public int[] smallestWithPartialSortBenchmark(BenchmarkInput input) {
+        int[] array = input.ints();
+        PartialSort.partialSort(array, input.k);
+        return Arrays.copyOf(array, input.k);
+    }
+
+    @Benchmark
+    public int[] smallestWithHeapBenchmark(BenchmarkInput input) {
+        return PartialSort.smallest(input.unsortedInts, input.k);
+    }
+
+    @Benchmark
+    public Integer[] largestObjectsWithArraysSortBenchmark(BenchmarkInput input) {
+        Integer[] array = input.objects();
+        Arrays.sort(array, DESCENDING);
+        return Arrays.copyOf(array, input.k);
+    }
+
+    @Benchmark
+    public Integer[] largestObjectsWithPartialSortBenchmark(BenchmarkInput input) {
+        Integer[] array = input.objects();
+        PartialSort.partialSort(array, input.k, DESCENDING);
+        return Arrays.copyOf(array, input.k);
+    }
+
+    @Benchmark
+    public Integer[] largestObjectsWithHeapBenchmark(BenchmarkInput input) {
+        return PartialSort.smallest(input.unsortedObjects, input.k, DESCENDING);
+    }
+
+    @State(Scope.Thread)
+    public static class BenchmarkInput {
+        @Param({"10000", "1000000"})
+        int size;
+        @Param({"10", "1000"})
+        int k;
+        int[] unsortedInts;
+        Integer[] unsortedObjects;
+        private int[] intArray;
+        private Integer[] objectArray;
+
+        @Setup
+        public void setUp() {
+            unsortedInts = new SplittableRandom(42).ints(size).toArray();
+            unsortedObjects = Arrays.stream(unsortedInts).boxed().toArray(Integer[]::new);
+            intArray = new int[size];
+            objectArray = new Integer[size];
+        }
+
+        int[] ints() {
+            System.arraycopy(unsortedInts, 0, intArray, 0, size);
+            return intArray;
+        }
+
+        Integer[] objects() {
+            System.arraycopy(unsortedObjects, 0, objectArray, 0, size);
+            return objectArray;
+        }
+    }
+}
@@ -0,0 +1,406 @@
+package com.epam.prejap.ess.helpers.arrays.printsortsearch;
+
+import com.epam.prejap.ess.helpers.arrays.ArrayRanges;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Least significant digit radix sort of int and long arrays, an alternative to Arrays.sort and Arrays.parallelSort
+ * for large arrays of uniformly distributed keys, which it sorts in a fixed number of linear passes instead of
+ * comparing them.
+ * <p>
+ * The keys are sorted byte by byte, from the lowest one. Every pass counts the values of the byte and moves
+ * the keys to their buckets between the array and a scratch buffer. The sign bit of the highest byte is flipped,
+ * so negative keys come before positive ones. A pass in which all keys have the same byte is skipped,
+ * which makes small keys, like ones below 2^16 in an int array, take half of the passes.
+ * <p>
+ * The scratch buffer is kept by the sorter and reused by the following sorts, so a sorter is not thread safe.
+ * The parallel sort splits the array into chunks, one per thread of the pool; every chunk has its own histogram,
+ * so the threads count and move their keys without synchronization. Arrays shorter than {@link #SMALL_ARRAY}
+ * are sorted with Arrays.sort.
+ *
+ * @see ArrayPrintSortSearch
+ */
+final class RadixSort {
+
+    static final int DIGIT_BITS = 8;
+    static final int BUCKETS = 1 << DIGIT_BITS;
+    static final int SMALL_ARRAY = 1 << 8;
+
+    /**
+     * Minimal number of keys per chunk of the parallel sort.
+     */
+    static final int MIN_CHUNK = 1 << 16;
+
+    private static final int DIGIT_MASK = BUCKETS - 1;
+    private static final int SIGN_DIGIT = BUCKETS >>> 1;
+    private static final int INT_DIGITS = Integer.SIZE / DIGIT_BITS;
+    private static final int LONG_DIGITS = Long.SIZE / DIGIT_BITS;
+
+    private final int[] counts = new int[LONG_DIGITS * BUCKETS];
+    private int[] intScratch = new int[0];
+    private long[] longScratch = new long[0];
+
+    /**
+     * Sorts the array into ascending numerical order.
+     *
+     * @param array array to sort
+     * @throws NullPointerException if array is null
+     */
+    void sort(int[] array) {
+        sort(array, 0, array.length);
+    }
+
+    /**
+     * Sorts the range of the array into ascending numerical order.
+     *
+     * @param array     array to sort
+     * @param fromIndex the index of the first element (inclusive) to be sorted
+     * @param toIndex   the index of the last element (exclusive) to be sorted
+     * @throws IllegalArgumentException       if fromIndex > toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > array.length
+     * @throws NullPointerException           if array is null
+     */
+    void sort(int[] array, int fromIndex, int toIndex) {
+        ArrayRanges.check(array.length, fromIndex, toIndex);
+        int length = toIndex - fromIndex;
+        if (length < SMALL_ARRAY) {
+            Arrays.sort(array, fromIndex, toIndex);
+            return;
+        }
+        int[] scratch = intScratch(length);
+        Arrays.fill(counts, 0);
+        for (int i = fromIndex; i < toIndex; i++) {
+            int key = array[i];
+            for (int digit = 0; digit < INT_DIGITS; digit++) {
+                counts[digit * BUCKETS + intDigit(key, digit)]++;
+            }
+        }
+        int[] source = array;
+        int[] target = scratch;
+        int sourceFrom = fromIndex;
+        int targetFrom = 0;
+        for (int digit = 0; digit < INT_DIGITS; digit++) {
+            int base = digit * BUCKETS;
+            if (counts[base + intDigit(source[sourceFrom], digit)] == length) {
+                continue;
+            }
+            for (int bucket = 0, offset = targetFrom; bucket < BUCKETS; bucket++) {
+                int count = counts[base + bucket];
+                counts[base + bucket] = offset;
+                offset += count;
+            }
+            for (int i = sourceFrom; i < sourceFrom + length; i++) {
+                int key = source[i];
+                target[counts[base + intDigit(key, digit)]++] = key;
+            }
+            int[] sorted = target;
+            target = source;
+            source = sorted;
+            int sortedFrom = targetFrom;
+            targetFrom = sourceFrom;
+            sourceFrom = sortedFrom;
+        }
+        if (source != array) {
+            System.arraycopy(source, sourceFrom, array, fromIndex, length);
+        }
+    }
+
+    /**
+     * Sorts the array into ascending numerical order.
+     *
+     * @param array array to sort
+     * @throws NullPointerException if array is null
+     */
+    void sort(long[] array) {
+        sort(array, 0, array.length);
+    }
+
+    /**
+     * Sorts the range of the array into ascending numerical order.
+     *
+     * @param array     array to sort
+     * @param fromIndex the index of the first element (inclusive) to be sorted
+     * @param toIndex   the index of the last element (exclusive) to be sorted
+     * @throws IllegalArgumentException       if fromIndex > toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > array.length
+     * @throws NullPointerException           if array is null
+     */
+    void sort(long[] array, int fromIndex, int toIndex) {
+        ArrayRanges.check(array.length, fromIndex, toIndex);
+        int length = toIndex - fromIndex;
+        if (length < SMALL_ARRAY) {
+            Arrays.sort(array, fromIndex, toIndex);
+            return;
+        }
+        long[] scratch = longScratch(length);
+        Arrays.fill(counts, 0);
+        for (int i = fromIndex; i < toIndex; i++) {
+            long key = array[i];
+            for (int digit = 0; digit < LONG_DIGITS; digit++) {
+                counts[digit * BUCKETS + longDigit(key, digit)]++;
+            }
+        }
+        long[] source = array;
+        long[] target = scratch;
+        int sourceFrom = fromIndex;
+        int targetFrom = 0;
+        for (int digit = 0; digit < LONG_DIGITS; digit++) {
+            int base = digit * BUCKETS;
+            if (counts[base + longDigit(source[sourceFrom], digit)] == length) {
+                continue;
+            }
+            for (int bucket = 0, offset = targetFrom; bucket < BUCKETS; bucket++) {
+                int count = counts[base + bucket];
+                counts[base + bucket] = offset;
+                offset += count;
+            }
+            for (int i = sourceFrom; i < sourceFrom + length; i++) {
+                long key = source[i];
+                target[counts[base + longDigit(key, digit)]++] = key;
+            }
+            long[] sorted = target;
+            target = source;
+            source = sorted;
+            int sortedFrom = targetFrom;
+            targetFrom = sourceFrom;
+            sourceFrom = sortedFrom;
+        }
+        if (source != array) {
+            System.arraycopy(source, sourceFrom, array, fromIndex, length);
+        }
+    }
+
+    /**
+     * Sorts the array into ascending numerical order in parallel on the common pool.
+     *
+     * @param array array to sort
+     * @throws NullPointerException if array is null
+     */
+    void parallelSort(int[] array) {
+        parallelSort(ForkJoinPool.commonPool(), array, 0, array.length, MIN_CHUNK);
+    }
+
+    /**
+     * Sorts the range of the array into ascending numerical order in parallel on the given pool,
+     * splitting it into chunks of at least {@link #MIN_CHUNK} keys.
+     *
+     * @param pool      pool that runs the chunks
+     * @param array     array to sort
+     * @param fromIndex the index of the first element (inclusive) to be sorted
+     * @param toIndex   the index of the last element (exclusive) to be sorted
+     * @throws IllegalArgumentException       if fromIndex > toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > array.length
+     * @throws NullPointerException           if pool or array is null
+     */
+    void parallelSort(ForkJoinPool pool, int[] array, int fromIndex, int toIndex) {
+        parallelSort(pool, array, fromIndex, toIndex, MIN_CHUNK);
+    }
+
+    /**
+     * @param minChunk minimal number of keys per chunk
+     */
+    void parallelSort(ForkJoinPool pool, int[] array, int fromIndex, int toIndex, int minChunk) {
+        ArrayRanges.check(array.length, fromIndex, toIndex);
+        int length = toIndex - fromIndex;
+        int chunks = Math.min(pool.getParallelism(), length / minChunk);
+        if (chunks < 2 || length < SMALL_ARRAY) {
+            sort(array, fromIndex, toIndex);
+            return;
+        }
+        int[] scratch = intScratch(length);
+        int[][] histograms = new int[chunks][BUCKETS];
+        int[] source = array;
+        int[] target = scratch;
+        int sourceFrom = fromIndex;
+        int targetFrom = 0;
+        for (int digit = 0; digit < INT_DIGITS; digit++) {
+            int[] keys = source;
+            int[] moved = target;
+            int keysFrom = sourceFrom;
+            int pass = digit;
+            pool.invoke(new ChunkTask(0, chunks, chunk -> {
+                int[] histogram = histograms[chunk];
+                Arrays.fill(histogram, 0);
+                for (int i = chunkStart(keysFrom, length, chunks, chunk); i < chunkStart(keysFrom, length, chunks, chunk + 1); i++) {
+                    histogram[intDigit(keys[i], pass)]++;
+                }
+            }));
+            if (!offset(histograms, intDigit(keys[keysFrom], digit), length, targetFrom)) {
+                continue;
+            }
+            pool.invoke(new ChunkTask(0, chunks, chunk -> {
+                int[] offsets = histograms[chunk];
+                for (int i = chunkStart(keysFrom, length, chunks, chunk); i < chunkStart(keysFrom, length, chunks, chunk + 1); i++) {
+                    int key = keys[i];
+                    moved[offsets[intDigit(key, pass)]++] = key;
+                }
+            }));
+            target = keys;
+            source = moved;
+            sourceFrom = targetFrom;
+            targetFrom = keysFrom;
+        }
+        if (source != array) {
+            System.arraycopy(source, sourceFrom, array, fromIndex, length);
+        }
+    }
+
+    /**
+     * Sorts the array into ascending numerical order in parallel on the common pool.
+     *
+     * @param array array to sort
+     * @throws NullPointerException if array is null
+     */
+    void parallelSort(long[] array) {
+        parallelSort(ForkJoinPool.commonPool(), array, 0, array.length, MIN_CHUNK);
+    }
+
+    /**
+     * Sorts the range of the array into ascending numerical order in parallel on the given pool,
+     * splitting it into chunks of at least {@link #MIN_CHUNK} keys.
+     *
+     * @param pool      pool that runs the chunks
+     * @param array     array to sort
+     * @param fromIndex the index of the first element (inclusive) to be sorted
+     * @param toIndex   the index of the last element (exclusive) to be sorted
+     * @throws IllegalArgumentException       if fromIndex > toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > array.length
+     * @throws NullPointerException           if pool or array is null
+     */
+    void parallelSort(ForkJoinPool pool, long[] array, int fromIndex, int toIndex) {
+        parallelSort(pool, array, fromIndex, toIndex, MIN_CHUNK);
+    }
+
+    /**
+     * @param minChunk minimal number of keys per chunk
+     */
+    void parallelSort(ForkJoinPool pool, long[] array, int fromIndex, int toIndex, int minChunk) {
+        ArrayRanges.check(array.length, fromIndex, toIndex);
+        int length = toIndex - fromIndex;
+        int chunks = Math.min(pool.getParallelism(), length / minChunk);
+        if (chunks < 2 || length < SMALL_ARRAY) {
+            sort(array, fromIndex, toIndex);
+            return;
+        }
+        long[] scratch = longScratch(length);
+        int[][] histograms = new int[chunks][BUCKETS];
+        long[] source = array;
+        long[] target = scratch;
+        int sourceFrom = fromIndex;
+        int targetFrom = 0;
+        for (int digit = 0; digit < LONG_DIGITS; digit++) {
+            long[] keys = source;
+            long[] moved = target;
+            int keysFrom = sourceFrom;
+            int pass = digit;
+            pool.invoke(new ChunkTask(0, chunks, chunk -> {
+                int[] histogram = histograms[chunk];
+                Arrays.fill(histogram, 0);
+                for (int i = chunkStart(keysFrom, length, chunks, chunk); i < chunkStart(keysFrom, length, chunks, chunk + 1); i++) {
+                    histogram[longDigit(keys[i], pass)]++;
+                }
+            }));
+            if (!offset(histograms, longDigit(keys[keysFrom], digit), length, targetFrom)) {
+                continue;
+            }
+            pool.invoke(new ChunkTask(0, chunks, chunk -> {
+                int[] offsets = histograms[chunk];
+                for (int i = chunkStart(keysFrom, length, chunks, chunk); i < chunkStart(keysFrom, length, chunks, chunk + 1); i++) {
+                    long key = keys[i];
+                    moved[offsets[longDigit(key, pass)]++] = key;
+                }
+            }));
+            target = keys;
+            source = moved;
+            sourceFrom = targetFrom;
+            targetFrom = keysFrom;
+        }
+        if (source != array) {
+            System.arraycopy(source, sourceFrom, array, fromIndex, length);
+        }
+    }
+
+    /**
+     * Turns the counts of the chunks into the indexes their first keys of every bucket go to:
+     * the bucket after bucket, and within a bucket the chunks in order, which keeps the sort stable.
+     *
+     * @param firstBucket bucket of any of the keys
+     * @return false if all keys are in that bucket, so the pass can be skipped, the counts are left as they are then
+     */
+    private static boolean offset(int[][] histograms, int firstBucket, int length, int targetFrom) {
+        int inFirstBucket = 0;
+        for (int[] histogram : histograms) {
+            inFirstBucket += histogram[firstBucket];
+        }
+        if (inFirstBucket == length) {
+            return false;
+        }
+        int offset = targetFrom;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            for (int[] histogram : histograms) {
+                int count = histogram[bucket];
+                histogram[bucket] = offset;
+                offset += count;
+            }
+        }
+        return true;
+    }
+
+    private static int chunkStart(int from, int length, int chunks, int chunk) {
+        return from + (int) ((long) length * chunk / chunks);
+    }
+
+    private static int intDigit(int key, int digit) {
+        int bucket = (key >>> (digit * DIGIT_BITS)) & DIGIT_MASK;
+        return digit == INT_DIGITS - 1 ? bucket ^ SIGN_DIGIT : bucket;
+    }
+
+    private static int longDigit(long key, int digit) {
+        int bucket = (int) (key >>> (digit * DIGIT_BITS)) & DIGIT_MASK;
+        return digit == LONG_DIGITS - 1 ? bucket ^ SIGN_DIGIT : bucket;
+    }
+
+    private int[] intScratch(int length) {
+        if (intScratch.length < length) {
+            intScratch = new int[length];
+        }
+        return intScratch;
+    }
+
+    private long[] longScratch(int length) {
+        if (longScratch.length < length) {
+            longScratch = new long[length];
+        }
+        return longScratch;
+    }
+
+    /**
+     * Runs the action for every chunk, halving the range of chunks into tasks.
+     */
+    @SuppressWarnings("serial")
+    private static final class ChunkTask extends RecursiveAction {
+        private final int firstChunk;
+        private final int lastChunk;
+        private final IntConsumer action;
+
+        ChunkTask(int firstChunk, int lastChunk, IntConsumer action) {
+            this.firstChunk = firstChunk;
+            this.lastChunk = lastChunk;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (lastChunk - firstChunk == 1) {
+                action.accept(firstChunk);
+                return;
+            }
+            int middle = (firstChunk + lastChunk) >>> 1;
+            invokeAll(new ChunkTask(firstChunk, middle, action), new ChunkTask(middle, lastChunk, action));
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.epam.prejap.ess.helpers.arrays.printsortsearch;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Comparison of {@link RadixSort} with Arrays.sort and Arrays.parallelSort for int and long arrays.
+ * Every benchmark first copies the unsorted keys into the array it sorts, which takes the same time for all of them.
+ * <ul>
+ *     <li>uniform - keys spread over the whole range of the type, the case radix sort is made for</li>
+ *     <li>small - keys below 2^16, so the radix sort skips the passes over the upper bytes</li>
+ *     <li>fewDistinct - 16 distinct keys, which Arrays.sort partitions quickly</li>
+ *     <li>almostSorted - sorted keys with 1% of them swapped, where Arrays.sort finds long runs</li>
+ * </ul>
+ */
+@Fork(value = 1)
+@Threads(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@Measurement(iterations = 20, timeUnit = TimeUnit.MILLISECONDS, time = 100)
+@Warmup(iterations = 10, timeUnit = TimeUnit.MILLISECONDS, time = 100)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RadixSortBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    @Benchmark
+    public int[] intArraysSortBenchmark(BenchmarkInput input) {
+        int[] array = input.ints();
+        Arrays.sort(array);
+        return array;
+    }
+
+    @Benchmark
+    public int[] intArraysParallelSortBenchmark(BenchmarkInput input) {
+        int[] array = input.ints();
+        Arrays.parallelSort(array);
+        return array;
+    }
+
+    @Benchmark
+    public int[] intRadixSortBenchmark(BenchmarkInput input) {
+        int[] array = input.ints();
+        input.sorter.sort(array);
+        return array;
+    }
+
+    @Benchmark
+    public int[] intRadixParallelSortBenchmark(BenchmarkInput input) {
+        int[] array = input.ints();
+        input.sorter.parallelSort(array);
+        return array;
+    }
+
+    @Benchmark
+    public long[] longArraysSortBenchmark(BenchmarkInput input) {
+        long[] array = input.longs();
+        Arrays.sort(array);
+        return array;
+    }
+
+    @Benchmark
+    public long[] longArraysParallelSortBenchmark(BenchmarkInput input) {
+        long[] array = input.longs();
+        Arrays.parallelSort(array);
+        return array;
+    }
+
+    @Benchmark
+    public long[] longRadixSortBenchmark(BenchmarkInput input) {
+        long[] array = input.longs();
+        input.sorter.sort(array);
+        return array;
+    }
+
+    @Benchmark
+    public long[] longRadixParallelSortBenchmark(BenchmarkInput input) {
+        long[] array = input.longs();
+        input.sorter.parallelSort(array);
+        return array;
+    }
+
+    @State(Scope.Thread)
+    public static class BenchmarkInput {
+        @Param({"1000", "100000", "1000000", "10000000"})
+        int size;
+        @Param({"uniform", "small", "fewDistinct", "almostSorted"})
+        String distribution;
+        final RadixSort sorter = new RadixSort();
+        private int[] unsortedInts;
+        private long[] unsortedLongs;
+        private int[] intArray;
+        private long[] longArray;
+
+        @Setup
+        public void setUp() {
+            SplittableRandom random = new SplittableRandom(42);
+            switch (distribution) {
+                case "uniform":
+                    unsortedLongs = random.longs(size).toArray();
+                    break;
+                case "small":
+                    unsortedLongs = random.longs(size, 0, 1 << 16).toArray();
+                    break;
+                case "fewDistinct":
+                    unsortedLongs = random.longs(size, 0, 16).map(key -> key * 0x9E3779B97F4A7C15L).toArray();
+                    break;
+                case "almostSorted":
+                    unsortedLongs = random.longs(size).sorted().toArray();
+                    for (int i = 0; i < size / 100; i++) {
+                        int a = random.nextInt(size);
+                        int b = random.nextInt(size);
+                        long swapped = unsortedLongs[a];
+                        unsortedLongs[a] = unsortedLongs[b];
+                        unsortedLongs[b] = swapped;
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown distribution: " + distribution);
+            }
+            // the upper half of every long, so sorted longs stay sorted as ints
+            unsortedInts = Arrays.stream(unsortedLongs)
+                    .mapToInt(key -> "small".equals(distribution) ? (int) key : (int) (key >> 32))
+                    .toArray();
+            intArray = new int[size];
+            longArray = new long[size];
+        }
+
+        int[] ints() {
+            System.arraycopy(unsortedInts, 0, intArray, 0, size);
+            return intArray;
+        }
+
+        long[] longs() {
+            System.arraycopy(unsortedLongs, 0, longArray, 0, size);
+            return longArray;
+        }
+    }
+}
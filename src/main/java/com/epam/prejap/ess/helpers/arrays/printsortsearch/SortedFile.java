@@ -0,0 +1,97 @@
+package com.epam.prejap.ess.helpers.arrays.printsortsearch;
+
+import com.epam.prejap.ess.helpers.arrays.printsortsearch.ExternalSort.ElementType;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Read-only view of a file sorted by {@link ExternalSort}, searched in place like an array with Arrays.binarySearch.
+ * <p>
+ * The file is memory-mapped in segments of {@link #SEGMENT_BYTES}, since a single mapping cannot be larger than 2 GB,
+ * so only the pages touched by the searches are read from the disk. Like {@link SortedIntIndex}, a search for a key
+ * present more than once returns the index of its first occurrence. Views are thread safe.
+ *
+ * @see ExternalSort
+ */
+final class SortedFile {
+
+    static final int SEGMENT_BYTES = 1 << 30;
+
+    private final ElementType type;
+    private final long length;
+    private final MappedByteBuffer[] segments;
+
+    private SortedFile(ElementType type, long length, MappedByteBuffer[] segments) {
+        this.type = type;
+        this.length = length;
+        this.segments = segments;
+    }
+
+    /**
+     * Maps the file. The mapping stays valid after the method returns, until the view is garbage collected.
+     *
+     * @param file file sorted in ascending order
+     * @param type type of the elements
+     * @return view of the file
+     * @throws IOException if the size of the file is not a multiple of the element size or mapping it fails
+     */
+    static SortedFile open(Path file, ElementType type) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size % type.bytes != 0) {
+                throw new IOException("Size of " + file + " is not a multiple of " + type.bytes + " bytes: " + size);
+            }
+            MappedByteBuffer[] segments = new MappedByteBuffer[(int) ((size + SEGMENT_BYTES - 1) / SEGMENT_BYTES)];
+            for (int i = 0; i < segments.length; i++) {
+                long position = (long) i * SEGMENT_BYTES;
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(SEGMENT_BYTES, size - position));
+                segments[i].order(ByteOrder.LITTLE_ENDIAN);
+            }
+            return new SortedFile(type, size / type.bytes, segments);
+        }
+    }
+
+    long length() {
+        return length;
+    }
+
+    /**
+     * @param index index of the element
+     * @return value of the element, an int widened to long for files of ints
+     * @throws IndexOutOfBoundsException if index is out of the file
+     */
+    long get(long index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + length);
+        }
+        return element(index);
+    }
+
+    /**
+     * @param key value to search for
+     * @return index of the first occurrence of the key, or {@code (-(insertion point) - 1)} like Arrays.binarySearch
+     */
+    long binarySearch(long key) {
+        long low = 0;
+        long high = length;
+        while (low < high) {
+            long middle = (low + high) >>> 1;
+            if (element(middle) < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low < length && element(low) == key ? low : -low - 1;
+    }
+
+    private long element(long index) {
+        long position = index * type.bytes;
+        return type.get(segments[(int) (position / SEGMENT_BYTES)], (int) (position % SEGMENT_BYTES));
+    }
+}
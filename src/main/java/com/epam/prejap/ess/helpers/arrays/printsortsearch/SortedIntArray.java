@@ -0,0 +1,221 @@
+package com.epam.prejap.ess.helpers.arrays.printsortsearch;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Growing multiset of ints that is always ready to be searched, an alternative to sorting an array again with
+ * Arrays.sort before every Arrays.binarySearch because elements were added since the last sort.
+ * <p>
+ * The elements are kept in a sorted main array and a small unsorted buffer. An element is added to the buffer,
+ * or straight to the end of the main array when it is not smaller than its last element and the buffer is empty,
+ * so ascending inserts never touch the buffer. When the buffer is full it is sorted and merged into the main array
+ * from the back, in place, like a log-structured merge tree with two levels. Searches look up the main array with a
+ * binary search and scan the buffer, so none of them needs a sort.
+ * <p>
+ * The results are the ones of Arrays.binarySearch on the sorted elements, except that for a key present more than
+ * once the index of its first occurrence is returned, like in {@link SortedIntIndex}. Instances are not thread safe.
+ *
+ * @see ArrayPrintSortSearch
+ */
+final class SortedIntArray {
+
+    static final int DEFAULT_BUFFER_CAPACITY = 256;
+
+    private int[] elements = new int[0];
+    private int size;
+    private final int[] buffer;
+    private int buffered;
+
+    SortedIntArray() {
+        this(DEFAULT_BUFFER_CAPACITY);
+    }
+
+    /**
+     * @param bufferCapacity number of unsorted elements kept before merging them into the sorted ones,
+     *                       a bigger buffer makes inserts cheaper and searches more expensive
+     * @throws IllegalArgumentException if bufferCapacity is not positive
+     */
+    SortedIntArray(int bufferCapacity) {
+        if (bufferCapacity <= 0) {
+            throw new IllegalArgumentException("bufferCapacity(" + bufferCapacity + ") must be positive");
+        }
+        buffer = new int[bufferCapacity];
+    }
+
+    int size() {
+        return size + buffered;
+    }
+
+    /**
+     * @return number of elements waiting in the buffer to be merged
+     */
+    int buffered() {
+        return buffered;
+    }
+
+    /**
+     * Adds the element, merging the buffer if it gets full.
+     *
+     * @param value element to add
+     */
+    void add(int value) {
+        if (buffered == 0 && (size == 0 || elements[size - 1] <= value)) {
+            ensureCapacity(size + 1);
+            elements[size++] = value;
+            return;
+        }
+        buffer[buffered++] = value;
+        if (buffered == buffer.length) {
+            flush();
+        }
+    }
+
+    /**
+     * Adds all the values. A batch larger than the buffer is sorted and merged with the sorted elements at once.
+     *
+     * @param values elements to add
+     * @throws NullPointerException if values is null
+     */
+    void addAll(int[] values) {
+        if (buffered + values.length < buffer.length) {
+            for (int value : values) {
+                add(value);
+            }
+            return;
+        }
+        int[] batch = Arrays.copyOf(values, values.length + buffered);
+        System.arraycopy(buffer, 0, batch, values.length, buffered);
+        buffered = 0;
+        Arrays.sort(batch);
+        merge(batch, batch.length);
+    }
+
+    /**
+     * Merges the buffer into the sorted elements.
+     */
+    void flush() {
+        Arrays.sort(buffer, 0, buffered);
+        merge(buffer, buffered);
+        buffered = 0;
+    }
+
+    /**
+     * @param key value to search for
+     * @return index of the first occurrence of the key among the sorted elements, or {@code (-(insertion point) - 1)}
+     * like Arrays.binarySearch
+     */
+    int search(int key) {
+        int index = lowerBound(key);
+        boolean found = index < size && elements[index] == key;
+        for (int i = 0; i < buffered; i++) {
+            if (buffer[i] < key) {
+                index++;
+            } else if (buffer[i] == key) {
+                found = true;
+            }
+        }
+        return found ? index : -index - 1;
+    }
+
+    boolean contains(int key) {
+        return search(key) >= 0;
+    }
+
+    /**
+     * @param fromKey lowest value counted (inclusive)
+     * @param toKey   highest value counted (exclusive)
+     * @return number of elements in the range
+     * @throws IllegalArgumentException if fromKey > toKey
+     */
+    int count(int fromKey, int toKey) {
+        checkRange(fromKey, toKey);
+        int count = lowerBound(toKey) - lowerBound(fromKey);
+        for (int i = 0; i < buffered; i++) {
+            if (buffer[i] >= fromKey && buffer[i] < toKey) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the elements in the range, merging the buffer first.
+     *
+     * @param fromKey lowest value returned (inclusive)
+     * @param toKey   highest value returned (exclusive)
+     * @return elements in the range in ascending order
+     * @throws IllegalArgumentException if fromKey > toKey
+     */
+    int[] range(int fromKey, int toKey) {
+        checkRange(fromKey, toKey);
+        flush();
+        return Arrays.copyOfRange(elements, lowerBound(fromKey), lowerBound(toKey));
+    }
+
+    /**
+     * Returns the element at the given position of the sorted elements, merging the buffer first.
+     *
+     * @param index position of the element
+     * @return element
+     * @throws IndexOutOfBoundsException if index is out of the elements
+     */
+    int get(int index) {
+        Objects.checkIndex(index, size());
+        flush();
+        return elements[index];
+    }
+
+    /**
+     * @return all elements in ascending order
+     */
+    int[] toArray() {
+        flush();
+        return Arrays.copyOf(elements, size);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /**
+     * Merges the sorted values into the sorted elements from the back, so no element is moved twice.
+     */
+    private void merge(int[] values, int count) {
+        ensureCapacity(size + count);
+        int target = size + count - 1;
+        int i = size - 1;
+        int j = count - 1;
+        while (j >= 0) {
+            elements[target--] = i >= 0 && elements[i] > values[j] ? elements[i--] : values[j--];
+        }
+        size += count;
+    }
+
+    private int lowerBound(int key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (elements[middle] < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > elements.length) {
+            elements = Arrays.copyOf(elements, Math.max(capacity, elements.length + (elements.length >> 1)));
+        }
+    }
+
+    private static void checkRange(int fromKey, int toKey) {
+        if (fromKey > toKey) {
+            throw new IllegalArgumentException("fromKey(" + fromKey + ") > toKey(" + toKey + ")");
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.epam.prejap.ess.helpers.arrays.printsortsearch;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Comparison of interleaved inserts and searches on a {@link SortedIntArray} with the defensive pattern of appending
+ * to a plain array and sorting it with Arrays.sort before every Arrays.binarySearch.
+ * Every operation is a batch of {@link BenchmarkInput#OPERATIONS} inserts, each followed by the given number
+ * of searches.
+ * <p>
+ * Inserts grow the arrays, so every iteration is a single batch timed on arrays recreated with the given number
+ * of elements. Both variants work on the same sizes however fast they are, and the arrays grow by at most a tenth.
+ */
+@Fork(value = 1)
+@Threads(value = 1)
+@BenchmarkMode(Mode.SingleShotTime)
+@Measurement(iterations = 200)
+@Warmup(iterations = 100)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SortedIntArrayBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    @Benchmark
+    public int sortBeforeEverySearchBenchmark(BenchmarkInput input) {
+        int found = 0;
+        for (int operation = 0; operation < BenchmarkInput.OPERATIONS; operation++) {
+            if (input.size == input.plain.length) {
+                input.plain = Arrays.copyOf(input.plain, input.size * 2);
+            }
+            input.plain[input.size++] = input.next();
+            for (int search = 0; search < input.searchesPerInsert; search++) {
+                Arrays.sort(input.plain, 0, input.size);
+                if (Arrays.binarySearch(input.plain, 0, input.size, input.next()) >= 0) {
+                    found++;
+                }
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int sortedIntArrayBenchmark(BenchmarkInput input) {
+        int found = 0;
+        for (int operation = 0; operation < BenchmarkInput.OPERATIONS; operation++) {
+            input.sorted.add(input.next());
+            for (int search = 0; search < input.searchesPerInsert; search++) {
+                if (input.sorted.contains(input.next())) {
+                    found++;
+                }
+            }
+        }
+        return found;
+    }
+
+    @State(Scope.Thread)
+    public static class BenchmarkInput {
+        static final int OPERATIONS = 100;
+
+        @Param({"1000", "100000"})
+        int initialSize;
+        @Param({"1", "10"})
+        int searchesPerInsert;
+        int[] plain;
+        int size;
+        SortedIntArray sorted;
+        private SplittableRandom random;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            random = new SplittableRandom(42);
+            plain = random.ints(initialSize, 0, initialSize * 4).toArray();
+            size = initialSize;
+            sorted = new SortedIntArray();
+            sorted.addAll(plain);
+        }
+
+        int next() {
+            return random.nextInt(initialSize * 4);
+        }
+    }
+}
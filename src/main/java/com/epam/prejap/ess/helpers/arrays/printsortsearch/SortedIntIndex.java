@@ -0,0 +1,196 @@
+package com.epam.prejap.ess.helpers.arrays.printsortsearch;
+
+import java.util.Arrays;
+
+/**
+ * Read-only index of a sorted int array, an alternative to Arrays.binarySearch for looking up many keys
+ * in the same array. The results are the same as the ones of Arrays.binarySearch, except that for a key
+ * present more than once the index of its first occurrence is returned.
+ * <p>
+ * There are two layouts. {@link Layout#SORTED} searches the sorted elements. {@link Layout#EYTZINGER}
+ * additionally lays the elements out in the order of a breadth-first walk of the implicit binary search tree,
+ * so the first levels of every search hit the same few cache lines and the children of a node lie next to
+ * each other, which lets the hardware prefetcher fetch the next levels ahead. It takes about three times
+ * the memory of the array. Both layouts are searched without branches on the compared values,
+ * so there are no mispredictions for the CPU to recover from.
+ * <p>
+ * {@link #searchAll(int[])} looks up a batch of keys. When the keys are sorted it walks the array once
+ * from left to right, galloping from the previous result to the next, instead of starting every search
+ * from the middle.
+ *
+ * @see ArrayPrintSortSearch
+ */
+final class SortedIntIndex {
+
+    enum Layout {
+        SORTED, EYTZINGER
+    }
+
+    private final int[] values;
+    /**
+     * The elements in Eytzinger order starting at index 1, null for the sorted layout.
+     */
+    private final int[] tree;
+    /**
+     * Indexes of the elements of {@link #tree} in {@link #values}.
+     */
+    private final int[] ranks;
+
+    private SortedIntIndex(int[] values, int[] tree, int[] ranks) {
+        this.values = values;
+        this.tree = tree;
+        this.ranks = ranks;
+    }
+
+    /**
+     * Creates an index of a copy of the array.
+     *
+     * @param sorted elements sorted in ascending order
+     * @param layout layout of the index
+     * @return new index
+     * @throws NullPointerException     if sorted or layout is null
+     * @throws IllegalArgumentException if the elements are not sorted
+     */
+    static SortedIntIndex of(int[] sorted, Layout layout) {
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i - 1] > sorted[i]) {
+                throw new IllegalArgumentException("Array not sorted at index " + i);
+            }
+        }
+        int[] values = sorted.clone();
+        switch (layout) {
+            case SORTED:
+                return new SortedIntIndex(values, null, null);
+            case EYTZINGER:
+                int[] tree = new int[values.length + 1];
+                int[] ranks = new int[values.length + 1];
+                layOut(values, tree, ranks, 0, 1);
+                return new SortedIntIndex(values, tree, ranks);
+            default:
+                throw new AssertionError(layout);
+        }
+    }
+
+    int length() {
+        return values.length;
+    }
+
+    /**
+     * @param key value to search for
+     * @return index of the first occurrence of the key, or {@code (-(insertion point) - 1)} like Arrays.binarySearch
+     */
+    int search(int key) {
+        return result(key, tree == null ? lowerBound(key) : eytzingerLowerBound(key));
+    }
+
+    /**
+     * Searches for every key, the same as calling {@link #search(int)} for each of them.
+     * A batch sorted in ascending order is looked up in one pass over the index.
+     *
+     * @param keys values to search for
+     * @return results of the searches in the order of the keys
+     * @throws NullPointerException if keys is null
+     */
+    int[] searchAll(int[] keys) {
+        int[] results = new int[keys.length];
+        if (!isSorted(keys)) {
+            for (int i = 0; i < keys.length; i++) {
+                results[i] = search(keys[i]);
+            }
+            return results;
+        }
+        int from = 0;
+        for (int i = 0; i < keys.length; i++) {
+            from = gallop(keys[i], from);
+            results[i] = result(keys[i], from);
+        }
+        return results;
+    }
+
+    /**
+     * @return copy of the indexed elements in ascending order
+     */
+    int[] toArray() {
+        return values.clone();
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(values);
+    }
+
+    private int result(int key, int lowerBound) {
+        return lowerBound < values.length && values[lowerBound] == key ? lowerBound : -lowerBound - 1;
+    }
+
+    /**
+     * @return index of the first element not less than the key, the length of the array if there is none
+     */
+    private int lowerBound(int key) {
+        return lowerBound(key, 0, values.length);
+    }
+
+    private int lowerBound(int key, int from, int to) {
+        if (from == to) {
+            return from;
+        }
+        int base = from;
+        int length = to - from;
+        while (length > 1) {
+            int half = length >>> 1;
+            base = values[base + half] < key ? base + half : base;
+            length -= half;
+        }
+        return values[base] < key ? base + 1 : base;
+    }
+
+    private int eytzingerLowerBound(int key) {
+        int node = 1;
+        while (node < tree.length) {
+            node = 2 * node + (tree[node] < key ? 1 : 0);
+        }
+        // the path ended below the answer: it is where the path last went left
+        node >>>= Integer.numberOfTrailingZeros(~node) + 1;
+        return node == 0 ? values.length : ranks[node];
+    }
+
+    /**
+     * Finds the lower bound of the key among the elements from the given index on,
+     * checking elements at doubling distances first, so a close bound is found in a few steps.
+     */
+    private int gallop(int key, int from) {
+        int low = from;
+        int high = from;
+        int step = 1;
+        while (high < values.length && values[high] < key) {
+            low = high + 1;
+            high = (int) Math.min(values.length, (long) from + step);
+            step <<= 1;
+        }
+        return lowerBound(key, low, high);
+    }
+
+    /**
+     * Fills the subtree of the given node with the elements from the given index on, in order.
+     *
+     * @return index of the first element not placed in the subtree
+     */
+    private static int layOut(int[] values, int[] tree, int[] ranks, int next, int node) {
+        if (node < tree.length) {
+            next = layOut(values, tree, ranks, next, 2 * node);
+            tree[node] = values[next];
+            ranks[node] = next++;
+            next = layOut(values, tree, ranks, next, 2 * node + 1);
+        }
+        return next;
+    }
+
+    private static boolean isSorted(int[] keys) {
+        for (int i = 1; i < keys.length; i++) {
+            if (keys[i - 1] > keys[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,94 @@
+package com.epam.prejap.ess.helpers.arrays.printsortsearch;
+
+import com.epam.prejap.ess.helpers.arrays.printsortsearch.SortedIntIndex.Layout;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Comparison of looking up a batch of {@link BenchmarkInput#BATCH} keys with Arrays.binarySearch
+ * and with both layouts of {@link SortedIntIndex}, one key at a time and with {@link SortedIntIndex#searchAll(int[])}.
+ * Half of the keys are present in the array. The sizes go from an array fitting in L1 to one far bigger than L3,
+ * where every level of a plain binary search is a cache miss.
+ */
+@Fork(value = 1)
+@Threads(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@Measurement(iterations = 20, timeUnit = TimeUnit.MILLISECONDS, time = 100)
+@Warmup(iterations = 10, timeUnit = TimeUnit.MILLISECONDS, time = 100)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SortedIntIndexBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    @Benchmark
+    public int[] arraysBinarySearchBenchmark(BenchmarkInput input) {
+        int[] results = new int[input.keys.length];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = Arrays.binarySearch(input.array, input.keys[i]);
+        }
+        return results;
+    }
+
+    @Benchmark
+    public int[] sortedLayoutSearchBenchmark(BenchmarkInput input) {
+        return searchOneByOne(input.sorted, input.keys);
+    }
+
+    @Benchmark
+    public int[] eytzingerLayoutSearchBenchmark(BenchmarkInput input) {
+        return searchOneByOne(input.eytzinger, input.keys);
+    }
+
+    @Benchmark
+    public int[] sortedLayoutSearchAllBenchmark(BenchmarkInput input) {
+        return input.sorted.searchAll(input.keys);
+    }
+
+    @Benchmark
+    public int[] eytzingerLayoutSearchAllBenchmark(BenchmarkInput input) {
+        return input.eytzinger.searchAll(input.keys);
+    }
+
+    private static int[] searchOneByOne(SortedIntIndex index, int[] keys) {
+        int[] results = new int[keys.length];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = index.search(keys[i]);
+        }
+        return results;
+    }
+
+    @State(Scope.Thread)
+    public static class BenchmarkInput {
+        static final int BATCH = 4096;
+
+        @Param({"1024", "65536", "1048576", "16777216"})
+        int size;
+        /**
+         * Whether the batch of keys is sorted, which lets searchAll walk the array once.
+         */
+        @Param({"false", "true"})
+        boolean sortedKeys;
+        int[] array;
+        int[] keys;
+        SortedIntIndex sorted;
+        SortedIntIndex eytzinger;
+
+        @Setup
+        public void setUp() {
+            SplittableRandom random = new SplittableRandom(42);
+            // even numbers, so odd keys are misses
+            array = random.ints(size, 0, Integer.MAX_VALUE).map(i -> i & ~1).sorted().toArray();
+            keys = random.ints(BATCH, 0, Integer.MAX_VALUE).map(i -> i % 2 == 0 ? array[i % size] : i | 1).toArray();
+            if (sortedKeys) {
+                Arrays.sort(keys);
+            }
+            sorted = SortedIntIndex.of(array, Layout.SORTED);
+            eytzinger = SortedIntIndex.of(array, Layout.EYTZINGER);
+        }
+    }
+}
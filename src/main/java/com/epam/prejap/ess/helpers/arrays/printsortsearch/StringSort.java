@@ -0,0 +1,297 @@
+package com.epam.prejap.ess.helpers.arrays.printsortsearch;
+
+import com.epam.prejap.ess.helpers.arrays.ArrayRanges;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Multikey quicksort of String arrays, an alternative to Arrays.sort for strings sharing long prefixes.
+ * The order is the same as the one of String::compareTo.
+ * <p>
+ * Arrays.sort compares whole strings, so every comparison of two strings with a common prefix of
+ * a hundred chars reads the prefix again. Multikey quicksort partitions the strings by a single char
+ * into the ones with a smaller, an equal and a greater char at that position and goes to the next char
+ * only in the equal part, so every char of the prefixes is read about log n times in total, not once per comparison.
+ * A string that ends sorts before any char. Ranges shorter than {@link #INSERTION_SORT_THRESHOLD}
+ * are insertion sorted, comparing the strings from the position they are known to share.
+ * <p>
+ * Of the three parts of a partition only the two smaller ones are sorted recursively, and the largest one
+ * is sorted in the loop, so every recursive call sorts at most half of the range and the recursion is at most
+ * log2 n deep, also for input built to make the median of three the worst pivot. The parallel sort forks
+ * the two smaller parts as separate tasks, unless they are shorter than {@link #PARALLEL_THRESHOLD}, and goes on
+ * with the largest one until it gets shorter than that.
+ *
+ * @see ArrayPrintSortSearch
+ */
+final class StringSort {
+
+    static final int INSERTION_SORT_THRESHOLD = 16;
+
+    /**
+     * Minimal number of strings a task of the parallel sort partitions before forking.
+     */
+    static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    private static final int END = -1;
+
+    private static final int LESS = 0;
+    private static final int EQUAL = 1;
+    private static final int GREATER = 2;
+
+    private StringSort() {
+    }
+
+    /**
+     * Sorts the array into the order of String::compareTo.
+     *
+     * @param array array to sort
+     * @throws NullPointerException if array or any of its elements is null
+     */
+    static void sort(String[] array) {
+        sort(array, 0, array.length);
+    }
+
+    /**
+     * Sorts the range of the array into the order of String::compareTo.
+     *
+     * @param array     array to sort
+     * @param fromIndex the index of the first element (inclusive) to be sorted
+     * @param toIndex   the index of the last element (exclusive) to be sorted
+     * @throws IllegalArgumentException       if fromIndex > toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > array.length
+     * @throws NullPointerException           if array or any of the sorted elements is null
+     */
+    static void sort(String[] array, int fromIndex, int toIndex) {
+        ArrayRanges.check(array.length, fromIndex, toIndex);
+        sort(array, fromIndex, toIndex, 0);
+    }
+
+    /**
+     * Sorts the array into the order of String::compareTo in parallel on the common pool.
+     *
+     * @param array array to sort
+     * @throws NullPointerException if array or any of its elements is null
+     */
+    static void parallelSort(String[] array) {
+        parallelSort(ForkJoinPool.commonPool(), array, 0, array.length, PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Sorts the range of the array into the order of String::compareTo in parallel on the given pool.
+     *
+     * @param pool      pool that runs the tasks
+     * @param array     array to sort
+     * @param fromIndex the index of the first element (inclusive) to be sorted
+     * @param toIndex   the index of the last element (exclusive) to be sorted
+     * @throws IllegalArgumentException       if fromIndex > toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > array.length
+     * @throws NullPointerException           if pool, array or any of the sorted elements is null
+     */
+    static void parallelSort(ForkJoinPool pool, String[] array, int fromIndex, int toIndex) {
+        parallelSort(pool, array, fromIndex, toIndex, PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * @param threshold minimal number of strings a task partitions before forking
+     */
+    static void parallelSort(ForkJoinPool pool, String[] array, int fromIndex, int toIndex, int threshold) {
+        ArrayRanges.check(array.length, fromIndex, toIndex);
+        if (toIndex - fromIndex < threshold) {
+            sort(array, fromIndex, toIndex, 0);
+            return;
+        }
+        pool.invoke(new SortTask(array, fromIndex, toIndex, 0, threshold));
+    }
+
+    /**
+     * Sorts the strings of the range, which have the same first depth chars.
+     * The two smaller parts are sorted recursively, the largest one in the loop.
+     */
+    private static void sort(String[] array, int from, int to, int depth) {
+        while (to - from >= INSERTION_SORT_THRESHOLD) {
+            long bounds = partition(array, from, to, depth);
+            int lessTo = (int) (bounds >>> 32);
+            int greaterFrom = (int) bounds;
+            boolean equalSorted = charAt(array[lessTo], depth) == END;
+            switch (largestPart(from, lessTo, greaterFrom, to, equalSorted)) {
+                case LESS:
+                    if (!equalSorted) {
+                        sort(array, lessTo, greaterFrom, depth + 1);
+                    }
+                    sort(array, greaterFrom, to, depth);
+                    to = lessTo;
+                    break;
+                case GREATER:
+                    sort(array, from, lessTo, depth);
+                    if (!equalSorted) {
+                        sort(array, lessTo, greaterFrom, depth + 1);
+                    }
+                    from = greaterFrom;
+                    break;
+                default:
+                    sort(array, from, lessTo, depth);
+                    sort(array, greaterFrom, to, depth);
+                    from = lessTo;
+                    to = greaterFrom;
+                    depth++;
+            }
+        }
+        insertionSort(array, from, to, depth);
+    }
+
+    /**
+     * @param equalSorted true if the strings of the equal part end at the depth, so it needs no sorting
+     * @return the largest part, which is sorted in the loop
+     */
+    private static int largestPart(int from, int lessTo, int greaterFrom, int to, boolean equalSorted) {
+        int less = lessTo - from;
+        int greater = to - greaterFrom;
+        if (!equalSorted && greaterFrom - lessTo >= Math.max(less, greater)) {
+            return EQUAL;
+        }
+        return less >= greater ? LESS : GREATER;
+    }
+
+    /**
+     * Splits the range into the strings whose char at the depth is less than, equal to and greater than
+     * the median of three chars.
+     *
+     * @return end of the less part in the upper half and start of the greater part in the lower half,
+     * the equal part is between them and is never empty
+     */
+    private static long partition(String[] array, int from, int to, int depth) {
+        int pivot = median(charAt(array[from], depth), charAt(array[(from + to) >>> 1], depth), charAt(array[to - 1], depth));
+        int less = from;
+        int greater = to - 1;
+        int i = from;
+        while (i <= greater) {
+            int c = charAt(array[i], depth);
+            if (c < pivot) {
+                swap(array, less++, i++);
+            } else if (c > pivot) {
+                swap(array, i, greater--);
+            } else {
+                i++;
+            }
+        }
+        return (long) less << 32 | (greater + 1);
+    }
+
+    private static void insertionSort(String[] array, int from, int to, int depth) {
+        for (int i = from + 1; i < to; i++) {
+            String inserted = array[i];
+            int j = i;
+            while (j > from && less(inserted, array[j - 1], depth)) {
+                array[j] = array[j - 1];
+                j--;
+            }
+            array[j] = inserted;
+        }
+    }
+
+    /**
+     * Compares the strings from the given position on, the chars before it are equal.
+     */
+    private static boolean less(String first, String second, int depth) {
+        int length = Math.min(first.length(), second.length());
+        for (int i = depth; i < length; i++) {
+            char a = first.charAt(i);
+            char b = second.charAt(i);
+            if (a != b) {
+                return a < b;
+            }
+        }
+        return first.length() < second.length();
+    }
+
+    private static int charAt(String string, int depth) {
+        return depth < string.length() ? string.charAt(depth) : END;
+    }
+
+    private static int median(int a, int b, int c) {
+        return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+    }
+
+    private static void swap(String[] array, int i, int j) {
+        String swapped = array[i];
+        array[i] = array[j];
+        array[j] = swapped;
+    }
+
+    @SuppressWarnings("serial")
+    private static final class SortTask extends RecursiveAction {
+        private final String[] array;
+        private final int from;
+        private final int to;
+        private final int depth;
+        private final int threshold;
+
+        SortTask(String[] array, int from, int to, int depth, int threshold) {
+            this.array = array;
+            this.from = from;
+            this.to = to;
+            this.depth = depth;
+            this.threshold = threshold;
+        }
+
+        /**
+         * Forks the two smaller parts of every partition and goes on with the largest one,
+         * then sorts what is left of it and waits for the forked parts.
+         */
+        @Override
+        protected void compute() {
+            List<SortTask> forked = new ArrayList<>();
+            int from = this.from;
+            int to = this.to;
+            int depth = this.depth;
+            while (to - from >= threshold) {
+                long bounds = partition(array, from, to, depth);
+                int lessTo = (int) (bounds >>> 32);
+                int greaterFrom = (int) bounds;
+                boolean equalSorted = charAt(array[lessTo], depth) == END;
+                int largest = largestPart(from, lessTo, greaterFrom, to, equalSorted);
+                if (largest != LESS) {
+                    sortOrFork(forked, from, lessTo, depth);
+                }
+                if (largest != EQUAL && !equalSorted) {
+                    sortOrFork(forked, lessTo, greaterFrom, depth + 1);
+                }
+                if (largest != GREATER) {
+                    sortOrFork(forked, greaterFrom, to, depth);
+                }
+                switch (largest) {
+                    case LESS:
+                        to = lessTo;
+                        break;
+                    case GREATER:
+                        from = greaterFrom;
+                        break;
+                    default:
+                        from = lessTo;
+                        to = greaterFrom;
+                        depth++;
+                }
+            }
+            sort(array, from, to, depth);
+            for (SortTask task : forked) {
+                task.join();
+            }
+        }
+
+        /**
+         * Sorts parts shorter than the threshold in this task, without the cost of a new one.
+         */
+        private void sortOrFork(List<SortTask> forked, int from, int to, int depth) {
+            if (to - from < threshold) {
+                sort(array, from, to, depth);
+                return;
+            }
+            SortTask task = new SortTask(array, from, to, depth, threshold);
+            task.fork();
+            forked.add(task);
+        }
+    }
+}
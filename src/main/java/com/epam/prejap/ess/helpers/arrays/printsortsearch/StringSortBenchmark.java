@@ -0,0 +1,100 @@
+package com.epam.prejap.ess.helpers.arrays.printsortsearch;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Comparison of {@link StringSort} with Arrays.sort and Arrays.parallelSort.
+ * Every benchmark first copies the unsorted strings into the array it sorts, which takes the same time for all of them.
+ * <ul>
+ *     <li>shortPrefix - random words of 5 to 15 lowercase letters, which differ in the first few chars</li>
+ *     <li>longPrefix - URL-like strings sharing a prefix of about 50 chars, followed by a few random path segments</li>
+ * </ul>
+ */
+@Fork(value = 1)
+@Threads(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@Measurement(iterations = 20, timeUnit = TimeUnit.MILLISECONDS, time = 100)
+@Warmup(iterations = 10, timeUnit = TimeUnit.MILLISECONDS, time = 100)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StringSortBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    @Benchmark
+    public String[] arraysSortBenchmark(BenchmarkInput input) {
+        String[] array = input.strings();
+        Arrays.sort(array);
+        return array;
+    }
+
+    @Benchmark
+    public String[] arraysParallelSortBenchmark(BenchmarkInput input) {
+        String[] array = input.strings();
+        Arrays.parallelSort(array);
+        return array;
+    }
+
+    @Benchmark
+    public String[] multikeyQuicksortBenchmark(BenchmarkInput input) {
+        String[] array = input.strings();
+        StringSort.sort(array);
+        return array;
+    }
+
+    @Benchmark
+    public String[] parallelMultikeyQuicksortBenchmark(BenchmarkInput input) {
+        String[] array = input.strings();
+        StringSort.parallelSort(array);
+        return array;
+    }
+
+    @State(Scope.Thread)
+    public static class BenchmarkInput {
+        private static final String LETTERS = "abcdefghijklmnopqrstuvwxyz";
+
+        @Param({"1000", "100000", "1000000"})
+        int size;
+        @Param({"shortPrefix", "longPrefix"})
+        String dataset;
+        private String[] unsorted;
+        private String[] array;
+
+        @Setup
+        public void setUp() {
+            SplittableRandom random = new SplittableRandom(42);
+            unsorted = new String[size];
+            for (int i = 0; i < size; i++) {
+                unsorted[i] = "shortPrefix".equals(dataset) ? word(random, 5, 15) : url(random);
+            }
+            array = new String[size];
+        }
+
+        String[] strings() {
+            System.arraycopy(unsorted, 0, array, 0, size);
+            return array;
+        }
+
+        private static String url(SplittableRandom random) {
+            StringBuilder url = new StringBuilder("https://www.example.com/catalog/products/category/");
+            url.append(word(random, 2, 2));
+            for (int segment = random.nextInt(1, 4); segment > 0; segment--) {
+                url.append('/').append(word(random, 3, 8));
+            }
+            return url.append("?id=").append(random.nextInt(1000)).toString();
+        }
+
+        private static String word(SplittableRandom random, int minLength, int maxLength) {
+            char[] word = new char[random.nextInt(minLength, maxLength + 1)];
+            for (int i = 0; i < word.length; i++) {
+                word[i] = LETTERS.charAt(random.nextInt(LETTERS.length()));
+            }
+            return new String(word);
+        }
+    }
+}
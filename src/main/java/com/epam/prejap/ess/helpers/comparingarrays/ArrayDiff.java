@@ -0,0 +1,308 @@
+package com.epam.prejap.ess.helpers.comparingarrays;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Finds all the differences between two int arrays, not only the first one like Arrays.mismatch and Arrays.compare,
+ * for example to bring a replica of an array up to date.
+ * <p>
+ * {@link #ranges(int[], int[])} is a lazy stream of the ranges of indexes at which the arrays differ. The next range
+ * is found only when the stream asks for it: Arrays.mismatch skips the equal elements up to its start, comparing
+ * many of them at once, and the elements are compared one by one only to its end. The stream keeps only its position,
+ * so it needs the same memory for any number of differences. The indexes past the end of the shorter array differ,
+ * so they are the last range.
+ * <p>
+ * {@link #patch(int[], int[])} records the ranges with the elements of the second array as a {@link Patch},
+ * which turns the first array into the second one and can be encoded to bytes and back.
+ *
+ * @see ArraysCompare
+ */
+final class ArrayDiff {
+
+    private ArrayDiff() {
+    }
+
+    /**
+     * Range of indexes at which two arrays differ.
+     *
+     * @param from index of the first differing element (inclusive)
+     * @param to   index after the last differing element (exclusive)
+     */
+    record Range(int from, int to) {
+
+        Range {
+            if (from < 0 || from >= to) {
+                throw new IllegalArgumentException("Invalid range [" + from + ", " + to + ")");
+            }
+        }
+
+        int length() {
+            return to - from;
+        }
+    }
+
+    /**
+     * Returns the maximal ranges of indexes at which the arrays differ, in ascending order. Two ranges are always
+     * separated by at least one index at which the arrays are equal. The arrays must not be modified until
+     * the stream is consumed.
+     *
+     * @param a first array
+     * @param b second array
+     * @return lazy sequential stream of the ranges, empty if the arrays are equal
+     * @throws NullPointerException if either array is null
+     */
+    static Stream<Range> ranges(int[] a, int[] b) {
+        return StreamSupport.stream(new RangeSpliterator(a, b), false);
+    }
+
+    /**
+     * Returns the patch turning the first array into the second one.
+     *
+     * @param source first array
+     * @param target second array
+     * @return patch holding the ranges of the target differing from the source
+     * @throws NullPointerException if either array is null
+     */
+    static Patch patch(int[] source, int[] target) {
+        PatchBuilder builder = new PatchBuilder(target);
+        ranges(source, target).forEach(builder);
+        return builder.build(source.length);
+    }
+
+    /**
+     * Ranges of elements that turn an array of the source length into the array of the target length they were
+     * taken from. Elements past the target length are dropped and the array is extended to the target length.
+     * <p>
+     * The encoded patch is the source length, the target length and the number of ranges, followed by every range
+     * as its first index, its length and its elements, all little-endian ints.
+     */
+    static final class Patch {
+
+        private final int sourceLength;
+        private final int targetLength;
+        private final int[] froms;
+        private final int[] lengths;
+        private final int[] values;
+
+        private Patch(int sourceLength, int targetLength, int[] froms, int[] lengths, int[] values) {
+            this.sourceLength = sourceLength;
+            this.targetLength = targetLength;
+            this.froms = froms;
+            this.lengths = lengths;
+            this.values = values;
+        }
+
+        int sourceLength() {
+            return sourceLength;
+        }
+
+        int targetLength() {
+            return targetLength;
+        }
+
+        /**
+         * @return number of ranges of the patch
+         */
+        int size() {
+            return froms.length;
+        }
+
+        /**
+         * @return true if the patch does not change the array
+         */
+        boolean isEmpty() {
+            return froms.length == 0 && sourceLength == targetLength;
+        }
+
+        /**
+         * Returns the patched copy of the array.
+         *
+         * @param source array of the source length
+         * @return new array equal to the target
+         * @throws IllegalArgumentException if the length of the array is not the source length
+         * @throws NullPointerException     if source is null
+         */
+        int[] apply(int[] source) {
+            checkLength(source, sourceLength);
+            int[] target = Arrays.copyOf(source, targetLength);
+            write(target);
+            return target;
+        }
+
+        /**
+         * Patches the array in place, for patches that do not change the length.
+         *
+         * @param array array of the source length, equal to the target after the call
+         * @throws IllegalArgumentException if the length of the array is not the source length
+         *                                  or if the patch changes the length
+         * @throws NullPointerException     if array is null
+         */
+        void applyInPlace(int[] array) {
+            checkLength(array, sourceLength);
+            if (sourceLength != targetLength) {
+                throw new IllegalArgumentException("Patch changes the length from " + sourceLength + " to " + targetLength);
+            }
+            write(array);
+        }
+
+        /**
+         * @return the patch encoded as described in the class comment
+         */
+        byte[] toBytes() {
+            ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES * (3 + 2 * froms.length + values.length))
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(sourceLength).putInt(targetLength).putInt(froms.length);
+            int offset = 0;
+            for (int range = 0; range < froms.length; range++) {
+                buffer.putInt(froms[range]).putInt(lengths[range]);
+                buffer.asIntBuffer().put(values, offset, lengths[range]);
+                buffer.position(buffer.position() + lengths[range] * Integer.BYTES);
+                offset += lengths[range];
+            }
+            return buffer.array();
+        }
+
+        /**
+         * Decodes the patch encoded with {@link #toBytes()}.
+         *
+         * @param bytes encoded patch
+         * @return patch
+         * @throws IllegalArgumentException if the bytes are not a valid patch
+         * @throws NullPointerException     if bytes is null
+         */
+        static Patch fromBytes(byte[] bytes) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+            try {
+                int sourceLength = buffer.getInt();
+                int targetLength = buffer.getInt();
+                int ranges = buffer.getInt();
+                if (sourceLength < 0 || targetLength < 0 || ranges < 0 || ranges > buffer.remaining() / (2 * Integer.BYTES)) {
+                    throw new IllegalArgumentException("Invalid patch header");
+                }
+                int[] froms = new int[ranges];
+                int[] lengths = new int[ranges];
+                int[] values = new int[(buffer.remaining() - ranges * 2 * Integer.BYTES) / Integer.BYTES];
+                int offset = 0;
+                int end = 0;
+                for (int range = 0; range < ranges; range++) {
+                    froms[range] = buffer.getInt();
+                    lengths[range] = buffer.getInt();
+                    if (froms[range] < end || lengths[range] <= 0 || lengths[range] > targetLength - froms[range]
+                            || lengths[range] > values.length - offset) {
+                        throw new IllegalArgumentException("Invalid range " + range + " of the patch");
+                    }
+                    buffer.asIntBuffer().get(values, offset, lengths[range]);
+                    buffer.position(buffer.position() + lengths[range] * Integer.BYTES);
+                    offset += lengths[range];
+                    end = froms[range] + lengths[range];
+                }
+                if (buffer.hasRemaining()) {
+                    throw new IllegalArgumentException("Trailing bytes after the patch");
+                }
+                return new Patch(sourceLength, targetLength, froms, lengths, Arrays.copyOf(values, offset));
+            } catch (BufferUnderflowException e) {
+                throw new IllegalArgumentException("Truncated patch", e);
+            }
+        }
+
+        private void write(int[] array) {
+            int offset = 0;
+            for (int range = 0; range < froms.length; range++) {
+                System.arraycopy(values, offset, array, froms[range], lengths[range]);
+                offset += lengths[range];
+            }
+        }
+
+        private static void checkLength(int[] array, int length) {
+            if (array.length != length) {
+                throw new IllegalArgumentException("Array length(" + array.length + ") differs from the patch source length(" + length + ")");
+            }
+        }
+    }
+
+    /**
+     * Finds the next range when the stream asks for it, starting from the end of the previous one.
+     */
+    private static final class RangeSpliterator extends Spliterators.AbstractSpliterator<Range> {
+        private final int[] a;
+        private final int[] b;
+        private final int common;
+        private final int longest;
+        private int position;
+
+        RangeSpliterator(int[] a, int[] b) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL);
+            this.a = a;
+            this.b = b;
+            this.common = Math.min(a.length, b.length);
+            this.longest = Math.max(a.length, b.length);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Range> action) {
+            if (position < common) {
+                int index = Arrays.mismatch(a, position, common, b, position, common);
+                position = index < 0 ? common : position + index;
+            }
+            if (position >= longest) {
+                return false;
+            }
+            int from = position;
+            int to = from + 1;
+            while (to < common && a[to] != b[to]) {
+                to++;
+            }
+            position = to < common ? to : longest;
+            action.accept(new Range(from, position));
+            return true;
+        }
+    }
+
+    /**
+     * Collects the ranges with the elements of the target, growing its arrays as needed.
+     */
+    private static final class PatchBuilder implements Consumer<Range> {
+        private final int[] target;
+        private int[] froms = new int[8];
+        private int[] lengths = new int[8];
+        private int[] values = new int[16];
+        private int ranges;
+        private int valueCount;
+
+        PatchBuilder(int[] target) {
+            this.target = target;
+        }
+
+        @Override
+        public void accept(Range range) {
+            int length = Math.min(range.to(), target.length) - range.from();
+            if (length <= 0) {
+                return;
+            }
+            if (ranges == froms.length) {
+                froms = Arrays.copyOf(froms, ranges * 2);
+                lengths = Arrays.copyOf(lengths, ranges * 2);
+            }
+            if (valueCount + length > values.length) {
+                values = Arrays.copyOf(values, Math.max(valueCount + length, values.length * 2));
+            }
+            froms[ranges] = range.from();
+            lengths[ranges++] = length;
+            System.arraycopy(target, range.from(), values, valueCount, length);
+            valueCount += length;
+        }
+
+        Patch build(int sourceLength) {
+            return new Patch(sourceLength, target.length, Arrays.copyOf(froms, ranges), Arrays.copyOf(lengths, ranges),
+                    Arrays.copyOf(values, valueCount));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.epam.prejap.ess.helpers.comparingarrays;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Comparison of finding all the ranges at which two arrays differ with {@link ArrayDiff} and with a loop comparing
+ * the elements one by one. The second array differs from the first one at the given number of random indexes.
+ * Both benchmarks sum the lengths of the ranges.
+ */
+@Fork(value = 1)
+@Threads(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@Measurement(iterations = 20, timeUnit = TimeUnit.MILLISECONDS, time = 100)
+@Warmup(iterations = 10, timeUnit = TimeUnit.MILLISECONDS, time = 100)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ArrayDiffBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    @Benchmark
+    public long elementLoopBenchmark(BenchmarkInput input) {
+        int[] a = input.first;
+        int[] b = input.second;
+        long differing = 0;
+        int from = -1;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] != b[i]) {
+                if (from < 0) {
+                    from = i;
+                }
+            } else if (from >= 0) {
+                differing += i - from;
+                from = -1;
+            }
+        }
+        return from < 0 ? differing : differing + a.length - from;
+    }
+
+    @Benchmark
+    public long diffRangesBenchmark(BenchmarkInput input) {
+        return ArrayDiff.ranges(input.first, input.second).mapToLong(ArrayDiff.Range::length).sum();
+    }
+
+    @Benchmark
+    public ArrayDiff.Patch diffPatchBenchmark(BenchmarkInput input) {
+        return ArrayDiff.patch(input.first, input.second);
+    }
+
+    @State(Scope.Thread)
+    public static class BenchmarkInput {
+        @Param({"1000000"})
+        int size;
+        @Param({"10", "1000", "100000"})
+        int differences;
+        int[] first;
+        int[] second;
+
+        @Setup
+        public void setUp() {
+            SplittableRandom random = new SplittableRandom(42);
+            first = random.ints(size).toArray();
+            second = first.clone();
+            for (int i = 0; i < differences; i++) {
+                second[random.nextInt(size)]++;
+            }
+        }
+    }
+}
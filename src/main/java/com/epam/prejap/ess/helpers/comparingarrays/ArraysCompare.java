@@ -2,6 +2,7 @@ package com.epam.prejap.ess.helpers.comparingarrays;
 
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.stream.Collectors;
 
 /**
  * Presentation of comparing arrays using helper class method
@@ -17,6 +18,8 @@ final class ArraysCompare {
         comparingNonPrimitiveArrays();
         comparingNonPrimitiveArraysUsingSpecifiedComparator();
         comparingNonPrimitiveArraysOverSpecifiedRanges();
+        comparingNonPrimitiveArraysByColumns();
+        findingAllMismatchRanges();
     }
 
     /**
@@ -57,6 +60,8 @@ final class ArraysCompare {
 
         System.out.format("Result of the comparison two primitive type arrays between given indexes when first one is lexicographically less: %d\n",
                 Arrays.compare(first, 5, 10, second, 5, 10));
+        System.out.format("Result of the same comparison in parallel: %d\n",
+                ParallelMismatch.compare(first, 5, 10, second, 5, 10));
     }
 
     /**
@@ -146,6 +151,37 @@ final class ArraysCompare {
                 Arrays.compare(firstObj, 2, 5, secondObj, 2, 5));
     }
 
+    /**
+     * Comparing first with second non-primitive type arrays lexicographically by the columns of their ids.
+     * <p>@implNote  The ids are extracted once into int arrays, compared using Arrays.compare(int[], int[]).</p>
+     * <p>Return the same values as comparing the trains, also with the descending {@link TrainById} comparator.</p>
+     *
+     * @see TrainColumn
+     */
+    private static void comparingNonPrimitiveArraysByColumns() {
+        TrainColumn first = TrainColumn.of(new Train[]{new Train(1), new Train(4), new Train(2), new Train(3)});
+        TrainColumn second = TrainColumn.of(new Train[]{new Train(0), new Train(5), new Train(6), new Train(7)});
+
+        System.out.format("Result of the comparison two columns of train ids when first" +
+                        " one is lexicographically grater: %d, descending: %d\n",
+                TrainColumn.compare(first, second), TrainColumn.compareById(first, second));
+    }
+
+    /**
+     * Finding all ranges at which two primitive type arrays differ, not only the first one.
+     * <p>@implNote  Skipping equal elements using Arrays.mismatch().</p>
+     *
+     * @see ArrayDiff
+     */
+    private static void findingAllMismatchRanges() {
+        int[] first = {1, 0, 0, 0, 1, 0, 0, 0, 1, 0};
+        int[] second = {1, 0, 2, 2, 1, 0, 0, 0, 1, 0, 5};
+
+        System.out.format("Ranges at which two primitive type arrays differ: %s\n",
+                ArrayDiff.ranges(first, second).map(range -> "[" + range.from() + ", " + range.to() + ")")
+                        .collect(Collectors.joining(", ")));
+    }
+
 }
 
 /**
@@ -0,0 +1,225 @@
+package com.epam.prejap.ess.helpers.comparingarrays;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Int array with a cached 64-bit fingerprint of its content, for code that checks again and again whether large
+ * arrays are equal, with Arrays.equals or Arrays.compare, when most of them differ and few of them change.
+ * <p>
+ * {@link #equals(Object)} compares the lengths and the fingerprints first, so two arrays that differ are almost
+ * always told apart in constant time once their fingerprints are cached. Only arrays with the same fingerprint are
+ * compared element by element with Arrays.equals, which compares many elements at once with vector instructions.
+ * <p>
+ * The fingerprint is the sum of a mix of every element with its index, computed on the first request, in parallel
+ * for arrays of at least {@link #PARALLEL_THRESHOLD} elements. Being a sum, it is updated in constant time when
+ * a single element is set. Writes of ranges drop it, so it is computed again on the next request.
+ * <p>
+ * The elements are kept by the wrapper and can only be written through it. Instances are not thread safe.
+ *
+ * @see ArraysCompare
+ */
+final class FingerprintedIntArray {
+
+    /**
+     * Minimal number of elements fingerprinted in parallel, also the most elements summed by a single task.
+     */
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    private final int[] values;
+    private final int parallelThreshold;
+    private long fingerprint;
+    private boolean fingerprinted;
+
+    private FingerprintedIntArray(int[] values, int parallelThreshold) {
+        this.values = values;
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * @param values elements, copied
+     * @return wrapper of the copy of the elements
+     * @throws NullPointerException if values is null
+     */
+    static FingerprintedIntArray of(int... values) {
+        return new FingerprintedIntArray(values.clone(), PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * @param values            elements, copied
+     * @param parallelThreshold minimal number of elements fingerprinted in parallel
+     * @throws IllegalArgumentException if parallelThreshold is not positive
+     */
+    static FingerprintedIntArray of(int[] values, int parallelThreshold) {
+        if (parallelThreshold <= 0) {
+            throw new IllegalArgumentException("parallelThreshold(" + parallelThreshold + ") must be positive");
+        }
+        return new FingerprintedIntArray(values.clone(), parallelThreshold);
+    }
+
+    int length() {
+        return values.length;
+    }
+
+    /**
+     * @param index index of the element
+     * @return element
+     * @throws ArrayIndexOutOfBoundsException if index is out of the array
+     */
+    int get(int index) {
+        return values[index];
+    }
+
+    /**
+     * Sets the element, updating the cached fingerprint.
+     *
+     * @param index index of the element
+     * @param value new value of the element
+     * @throws ArrayIndexOutOfBoundsException if index is out of the array
+     */
+    void set(int index, int value) {
+        int previous = values[index];
+        values[index] = value;
+        if (fingerprinted) {
+            fingerprint += mix(index, value) - mix(index, previous);
+        }
+    }
+
+    /**
+     * Fills the range with the value, dropping the cached fingerprint.
+     *
+     * @param fromIndex the index of the first element (inclusive) to be filled
+     * @param toIndex   the index of the last element (exclusive) to be filled
+     * @param value     value of the elements
+     * @throws IllegalArgumentException       if fromIndex > toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > length()
+     */
+    void fill(int fromIndex, int toIndex, int value) {
+        Arrays.fill(values, fromIndex, toIndex, value);
+        fingerprinted = false;
+    }
+
+    /**
+     * Copies the elements to the array starting at the given index, dropping the cached fingerprint.
+     *
+     * @param index  index of the first element written
+     * @param source elements to write
+     * @throws IndexOutOfBoundsException if the elements do not fit in the array from the index
+     * @throws NullPointerException      if source is null
+     */
+    void write(int index, int[] source) {
+        Objects.checkFromIndexSize(index, source.length, values.length);
+        System.arraycopy(source, 0, values, index, source.length);
+        fingerprinted = false;
+    }
+
+    /**
+     * @return copy of the elements
+     */
+    int[] toArray() {
+        return values.clone();
+    }
+
+    /**
+     * Returns the fingerprint, computing it if it is not cached. Equal arrays have equal fingerprints.
+     *
+     * @return 64-bit fingerprint of the elements
+     */
+    long fingerprint() {
+        if (!fingerprinted) {
+            fingerprint = values.length < parallelThreshold
+                    ? fingerprint(values, 0, values.length)
+                    : ForkJoinPool.commonPool().invoke(new FingerprintTask(values, 0, values.length, parallelThreshold));
+            fingerprinted = true;
+        }
+        return fingerprint;
+    }
+
+    /**
+     * @return true if the fingerprint is cached
+     */
+    boolean isFingerprinted() {
+        return fingerprinted;
+    }
+
+    /**
+     * Compares the elements, rejecting arrays of different length or fingerprint without reading them.
+     *
+     * @param o object to compare with
+     * @return true if o is a fingerprinted array with equal elements
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        FingerprintedIntArray other = (FingerprintedIntArray) o;
+        return values.length == other.values.length
+                && fingerprint() == other.fingerprint()
+                && Arrays.equals(values, other.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(fingerprint());
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(values);
+    }
+
+    private static long fingerprint(int[] values, int fromIndex, int toIndex) {
+        long sum = 0;
+        for (int i = fromIndex; i < toIndex; i++) {
+            sum += mix(i, values[i]);
+        }
+        return sum;
+    }
+
+    /**
+     * Mixes the element with its index with the finalizer of SplitMix64, which maps distinct pairs to distinct values,
+     * so the sum depends on the order of the elements.
+     */
+    private static long mix(int index, int value) {
+        long z = ((long) index << 32 | (value & 0xFFFFFFFFL)) + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Sums the fingerprints of the halves of the range until they are shorter than the threshold.
+     */
+    @SuppressWarnings("serial")
+    private static final class FingerprintTask extends RecursiveTask<Long> {
+        private final int[] values;
+        private final int fromIndex;
+        private final int toIndex;
+        private final int threshold;
+
+        FingerprintTask(int[] values, int fromIndex, int toIndex, int threshold) {
+            this.values = values;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected Long compute() {
+            if (toIndex - fromIndex <= threshold) {
+                return fingerprint(values, fromIndex, toIndex);
+            }
+            int middle = (fromIndex + toIndex) >>> 1;
+            FingerprintTask high = new FingerprintTask(values, middle, toIndex, threshold);
+            high.fork();
+            long low = new FingerprintTask(values, fromIndex, middle, threshold).compute();
+            return low + high.join();
+        }
+    }
+}
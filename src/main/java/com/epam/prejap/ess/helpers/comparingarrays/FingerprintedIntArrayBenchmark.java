@@ -0,0 +1,137 @@
+package com.epam.prejap.ess.helpers.comparingarrays;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Comparison of checking every pair of {@link BenchmarkInput#ARRAYS} arrays for equality with Arrays.equals and
+ * with {@link FingerprintedIntArray}. The arrays differ only at a random index, so most pairs are unequal and
+ * Arrays.equals reads a large part of them. Every array is equal to itself, so a few pairs are compared in full.
+ * <p>
+ * The writing benchmarks change one of the arrays before checking the pairs, and restore it on the next call,
+ * so the content really changes while the arrays stay the same over the iterations. Setting an element updates
+ * the fingerprint in place, writing a block of {@link BenchmarkInput#BLOCK} elements drops it, so it is computed
+ * again on the first check.
+ */
+@Fork(value = 1)
+@Threads(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@Measurement(iterations = 20, timeUnit = TimeUnit.MILLISECONDS, time = 100)
+@Warmup(iterations = 10, timeUnit = TimeUnit.MILLISECONDS, time = 100)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FingerprintedIntArrayBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    @Benchmark
+    public int arraysEqualsBenchmark(BenchmarkInput input) {
+        int equal = 0;
+        for (int[] first : input.plain) {
+            for (int[] second : input.copies) {
+                if (Arrays.equals(first, second)) {
+                    equal++;
+                }
+            }
+        }
+        return equal;
+    }
+
+    @Benchmark
+    public int fingerprintedEqualsBenchmark(BenchmarkInput input) {
+        int equal = 0;
+        for (FingerprintedIntArray first : input.fingerprinted) {
+            for (FingerprintedIntArray second : input.fingerprintedCopies) {
+                if (first.equals(second)) {
+                    equal++;
+                }
+            }
+        }
+        return equal;
+    }
+
+    @Benchmark
+    public int fingerprintedEqualsAfterSetBenchmark(BenchmarkInput input) {
+        input.setOrRestore();
+        return fingerprintedEqualsBenchmark(input);
+    }
+
+    @Benchmark
+    public int fingerprintedEqualsAfterWriteBenchmark(BenchmarkInput input) {
+        input.writeOrRestore();
+        return fingerprintedEqualsBenchmark(input);
+    }
+
+    @State(Scope.Thread)
+    public static class BenchmarkInput {
+        static final int ARRAYS = 16;
+        static final int BLOCK = 16;
+
+        @Param({"1000", "100000"})
+        int size;
+        int[][] plain;
+        int[][] copies;
+        FingerprintedIntArray[] fingerprinted;
+        FingerprintedIntArray[] fingerprintedCopies;
+        private SplittableRandom random;
+        private FingerprintedIntArray changed;
+        private int changedIndex;
+        private final int[] saved = new int[BLOCK];
+        private final int[] written = new int[BLOCK];
+
+        @Setup
+        public void setUp() {
+            random = new SplittableRandom(42);
+            int[] values = random.ints(size).toArray();
+            plain = new int[ARRAYS][];
+            fingerprinted = new FingerprintedIntArray[ARRAYS];
+            fingerprintedCopies = new FingerprintedIntArray[ARRAYS];
+            for (int i = 0; i < ARRAYS; i++) {
+                plain[i] = values.clone();
+                plain[i][random.nextInt(size)] ^= i;
+                fingerprinted[i] = FingerprintedIntArray.of(plain[i]);
+                fingerprintedCopies[i] = FingerprintedIntArray.of(plain[i]);
+            }
+            copies = Arrays.stream(plain).map(int[]::clone).toArray(int[][]::new);
+        }
+
+        /**
+         * Sets a random element of a random array to a different value, or restores the element set by the previous
+         * call.
+         */
+        void setOrRestore() {
+            if (changed != null) {
+                changed.set(changedIndex, saved[0]);
+                changed = null;
+                return;
+            }
+            changed = fingerprinted[random.nextInt(ARRAYS)];
+            changedIndex = random.nextInt(size);
+            saved[0] = changed.get(changedIndex);
+            changed.set(changedIndex, ~saved[0]);
+        }
+
+        /**
+         * Writes different values to a random block of a random array, or restores the block written by the previous
+         * call.
+         */
+        void writeOrRestore() {
+            if (changed != null) {
+                changed.write(changedIndex, saved);
+                changed = null;
+                return;
+            }
+            changed = fingerprinted[random.nextInt(ARRAYS)];
+            changedIndex = random.nextInt(size - BLOCK + 1);
+            for (int i = 0; i < BLOCK; i++) {
+                saved[i] = changed.get(changedIndex + i);
+                written[i] = ~saved[i];
+            }
+            changed.write(changedIndex, written);
+        }
+    }
+}
@@ -0,0 +1,495 @@
+package com.epam.prejap.ess.helpers.comparingarrays;
+
+import com.epam.prejap.ess.helpers.arrays.ArrayRanges;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Parallel versions of Arrays.mismatch and Arrays.compare for int, long, double and byte arrays, for huge arrays
+ * that are equal or nearly equal, which a sequential scan reads with the memory bandwidth of a single core.
+ * <p>
+ * The compared ranges are split into chunks of {@link #CHUNK_BYTES} bytes, scanned with Arrays.mismatch by the
+ * threads of the pool. The lowest mismatch found so far is shared by the chunks, and a chunk that starts after it
+ * is not scanned, so once a mismatch is found only the chunks before it are finished. Ranges that fit in a single
+ * chunk, and ranges compared on a pool of a single thread, are scanned by the calling thread.
+ * <p>
+ * The results and the exceptions are the ones of the Arrays methods with the same parameters.
+ *
+ * @see ArraysCompare
+ */
+final class ParallelMismatch {
+
+    /**
+     * Number of bytes of every array scanned by a chunk.
+     */
+    static final int CHUNK_BYTES = 1 << 18;
+
+    private ParallelMismatch() {
+    }
+
+    /**
+     * Finds the index of the first mismatch between the arrays in parallel on the common pool.
+     *
+     * @param a first array
+     * @param b second array
+     * @return index of the first mismatch, the length of the shorter array if it is a prefix of the other one,
+     * -1 if the arrays are equal
+     * @throws NullPointerException if either array is null
+     * @see Arrays#mismatch(int[], int[])
+     */
+    static int mismatch(int[] a, int[] b) {
+        return mismatch(ForkJoinPool.commonPool(), a, 0, a.length, b, 0, b.length, CHUNK_BYTES / Integer.BYTES);
+    }
+
+    /**
+     * Finds the index of the first mismatch between the ranges of the arrays in parallel on the common pool.
+     *
+     * @param a          first array
+     * @param aFromIndex the index of the first element (inclusive) of the first array
+     * @param aToIndex   the index of the last element (exclusive) of the first array
+     * @param b          second array
+     * @param bFromIndex the index of the first element (inclusive) of the second array
+     * @param bToIndex   the index of the last element (exclusive) of the second array
+     * @return relative index of the first mismatch, the length of the shorter range if it is a prefix of the other one,
+     * -1 if the ranges are equal
+     * @throws IllegalArgumentException       if aFromIndex > aToIndex or if bFromIndex > bToIndex
+     * @throws ArrayIndexOutOfBoundsException if aFromIndex < 0 or aToIndex > a.length or if bFromIndex < 0 or bToIndex > b.length
+     * @throws NullPointerException           if either array is null
+     * @see Arrays#mismatch(int[], int, int, int[], int, int)
+     */
+    static int mismatch(int[] a, int aFromIndex, int aToIndex, int[] b, int bFromIndex, int bToIndex) {
+        return mismatch(ForkJoinPool.commonPool(), a, aFromIndex, aToIndex, b, bFromIndex, bToIndex, CHUNK_BYTES / Integer.BYTES);
+    }
+
+    /**
+     * @param pool  pool that scans the chunks
+     * @param chunk number of elements scanned by a chunk
+     */
+    static int mismatch(ForkJoinPool pool, int[] a, int aFromIndex, int aToIndex, int[] b, int bFromIndex, int bToIndex, int chunk) {
+        ArrayRanges.check(a.length, aFromIndex, aToIndex);
+        ArrayRanges.check(b.length, bFromIndex, bToIndex);
+        return mismatch(pool, aToIndex - aFromIndex, bToIndex - bFromIndex, chunk, (offset, length) ->
+                Arrays.mismatch(a, aFromIndex + offset, aFromIndex + offset + length, b, bFromIndex + offset, bFromIndex + offset + length));
+    }
+
+    /**
+     * Compares the arrays lexicographically in parallel on the common pool.
+     *
+     * @param a first array
+     * @param b second array
+     * @return 0 if the arrays are equal, a negative value if a is lexicographically less than b,
+     * a positive value otherwise
+     * @see Arrays#compare(int[], int[])
+     */
+    static int compare(int[] a, int[] b) {
+        if (a == b) {
+            return 0;
+        }
+        if (a == null || b == null) {
+            return a == null ? -1 : 1;
+        }
+        return compare(ForkJoinPool.commonPool(), a, 0, a.length, b, 0, b.length, CHUNK_BYTES / Integer.BYTES);
+    }
+
+    /**
+     * Compares the ranges of the arrays lexicographically in parallel on the common pool.
+     *
+     * @param a          first array
+     * @param aFromIndex the index of the first element (inclusive) of the first array
+     * @param aToIndex   the index of the last element (exclusive) of the first array
+     * @param b          second array
+     * @param bFromIndex the index of the first element (inclusive) of the second array
+     * @param bToIndex   the index of the last element (exclusive) of the second array
+     * @return 0 if the ranges are equal, a negative value if the range of a is lexicographically less than the one of b,
+     * a positive value otherwise
+     * @throws IllegalArgumentException       if aFromIndex > aToIndex or if bFromIndex > bToIndex
+     * @throws ArrayIndexOutOfBoundsException if aFromIndex < 0 or aToIndex > a.length or if bFromIndex < 0 or bToIndex > b.length
+     * @throws NullPointerException           if either array is null
+     * @see Arrays#compare(int[], int, int, int[], int, int)
+     */
+    static int compare(int[] a, int aFromIndex, int aToIndex, int[] b, int bFromIndex, int bToIndex) {
+        return compare(ForkJoinPool.commonPool(), a, aFromIndex, aToIndex, b, bFromIndex, bToIndex, CHUNK_BYTES / Integer.BYTES);
+    }
+
+    /**
+     * @param pool  pool that scans the chunks
+     * @param chunk number of elements scanned by a chunk
+     */
+    static int compare(ForkJoinPool pool, int[] a, int aFromIndex, int aToIndex, int[] b, int bFromIndex, int bToIndex, int chunk) {
+        int index = mismatch(pool, a, aFromIndex, aToIndex, b, bFromIndex, bToIndex, chunk);
+        int aLength = aToIndex - aFromIndex;
+        int bLength = bToIndex - bFromIndex;
+        if (index >= 0 && index < Math.min(aLength, bLength)) {
+            return Integer.compare(a[aFromIndex + index], b[bFromIndex + index]);
+        }
+        return aLength - bLength;
+    }
+
+    /**
+     * Finds the index of the first mismatch between the arrays in parallel on the common pool.
+     *
+     * @param a first array
+     * @param b second array
+     * @return index of the first mismatch, the length of the shorter array if it is a prefix of the other one,
+     * -1 if the arrays are equal
+     * @throws NullPointerException if either array is null
+     * @see Arrays#mismatch(long[], long[])
+     */
+    static int mismatch(long[] a, long[] b) {
+        return mismatch(ForkJoinPool.commonPool(), a, 0, a.length, b, 0, b.length, CHUNK_BYTES / Long.BYTES);
+    }
+
+    /**
+     * Finds the index of the first mismatch between the ranges of the arrays in parallel on the common pool.
+     *
+     * @param a          first array
+     * @param aFromIndex the index of the first element (inclusive) of the first array
+     * @param aToIndex   the index of the last element (exclusive) of the first array
+     * @param b          second array
+     * @param bFromIndex the index of the first element (inclusive) of the second array
+     * @param bToIndex   the index of the last element (exclusive) of the second array
+     * @return relative index of the first mismatch, the length of the shorter range if it is a prefix of the other one,
+     * -1 if the ranges are equal
+     * @throws IllegalArgumentException       if aFromIndex > aToIndex or if bFromIndex > bToIndex
+     * @throws ArrayIndexOutOfBoundsException if aFromIndex < 0 or aToIndex > a.length or if bFromIndex < 0 or bToIndex > b.length
+     * @throws NullPointerException           if either array is null
+     * @see Arrays#mismatch(long[], int, int, long[], int, int)
+     */
+    static int mismatch(long[] a, int aFromIndex, int aToIndex, long[] b, int bFromIndex, int bToIndex) {
+        return mismatch(ForkJoinPool.commonPool(), a, aFromIndex, aToIndex, b, bFromIndex, bToIndex, CHUNK_BYTES / Long.BYTES);
+    }
+
+    /**
+     * @param pool  pool that scans the chunks
+     * @param chunk number of elements scanned by a chunk
+     */
+    static int mismatch(ForkJoinPool pool, long[] a, int aFromIndex, int aToIndex, long[] b, int bFromIndex, int bToIndex, int chunk) {
+        ArrayRanges.check(a.length, aFromIndex, aToIndex);
+        ArrayRanges.check(b.length, bFromIndex, bToIndex);
+        return mismatch(pool, aToIndex - aFromIndex, bToIndex - bFromIndex, chunk, (offset, length) ->
+                Arrays.mismatch(a, aFromIndex + offset, aFromIndex + offset + length, b, bFromIndex + offset, bFromIndex + offset + length));
+    }
+
+    /**
+     * Compares the arrays lexicographically in parallel on the common pool.
+     *
+     * @param a first array
+     * @param b second array
+     * @return 0 if the arrays are equal, a negative value if a is lexicographically less than b,
+     * a positive value otherwise
+     * @see Arrays#compare(long[], long[])
+     */
+    static int compare(long[] a, long[] b) {
+        if (a == b) {
+            return 0;
+        }
+        if (a == null || b == null) {
+            return a == null ? -1 : 1;
+        }
+        return compare(ForkJoinPool.commonPool(), a, 0, a.length, b, 0, b.length, CHUNK_BYTES / Long.BYTES);
+    }
+
+    /**
+     * Compares the ranges of the arrays lexicographically in parallel on the common pool.
+     *
+     * @param a          first array
+     * @param aFromIndex the index of the first element (inclusive) of the first array
+     * @param aToIndex   the index of the last element (exclusive) of the first array
+     * @param b          second array
+     * @param bFromIndex the index of the first element (inclusive) of the second array
+     * @param bToIndex   the index of the last element (exclusive) of the second array
+     * @return 0 if the ranges are equal, a negative value if the range of a is lexicographically less than the one of b,
+     * a positive value otherwise
+     * @throws IllegalArgumentException       if aFromIndex > aToIndex or if bFromIndex > bToIndex
+     * @throws ArrayIndexOutOfBoundsException if aFromIndex < 0 or aToIndex > a.length or if bFromIndex < 0 or bToIndex > b.length
+     * @throws NullPointerException           if either array is null
+     * @see Arrays#compare(long[], int, int, long[], int, int)
+     */
+    static int compare(long[] a, int aFromIndex, int aToIndex, long[] b, int bFromIndex, int bToIndex) {
+        return compare(ForkJoinPool.commonPool(), a, aFromIndex, aToIndex, b, bFromIndex, bToIndex, CHUNK_BYTES / Long.BYTES);
+    }
+
+    /**
+     * @param pool  pool that scans the chunks
+     * @param chunk number of elements scanned by a chunk
+     */
+    static int compare(ForkJoinPool pool, long[] a, int aFromIndex, int aToIndex, long[] b, int bFromIndex, int bToIndex, int chunk) {
+        int index = mismatch(pool, a, aFromIndex, aToIndex, b, bFromIndex, bToIndex, chunk);
+        int aLength = aToIndex - aFromIndex;
+        int bLength = bToIndex - bFromIndex;
+        if (index >= 0 && index < Math.min(aLength, bLength)) {
+            return Long.compare(a[aFromIndex + index], b[bFromIndex + index]);
+        }
+        return aLength - bLength;
+    }
+
+    /**
+     * Finds the index of the first mismatch between the arrays in parallel on the common pool.
+     *
+     * @param a first array
+     * @param b second array
+     * @return index of the first mismatch, the length of the shorter array if it is a prefix of the other one,
+     * -1 if the arrays are equal
+     * @throws NullPointerException if either array is null
+     * @see Arrays#mismatch(double[], double[])
+     */
+    static int mismatch(double[] a, double[] b) {
+        return mismatch(ForkJoinPool.commonPool(), a, 0, a.length, b, 0, b.length, CHUNK_BYTES / Double.BYTES);
+    }
+
+    /**
+     * Finds the index of the first mismatch between the ranges of the arrays in parallel on the common pool.
+     *
+     * @param a          first array
+     * @param aFromIndex the index of the first element (inclusive) of the first array
+     * @param aToIndex   the index of the last element (exclusive) of the first array
+     * @param b          second array
+     * @param bFromIndex the index of the first element (inclusive) of the second array
+     * @param bToIndex   the index of the last element (exclusive) of the second array
+     * @return relative index of the first mismatch, the length of the shorter range if it is a prefix of the other one,
+     * -1 if the ranges are equal
+     * @throws IllegalArgumentException       if aFromIndex > aToIndex or if bFromIndex > bToIndex
+     * @throws ArrayIndexOutOfBoundsException if aFromIndex < 0 or aToIndex > a.length or if bFromIndex < 0 or bToIndex > b.length
+     * @throws NullPointerException           if either array is null
+     * @see Arrays#mismatch(double[], int, int, double[], int, int)
+     */
+    static int mismatch(double[] a, int aFromIndex, int aToIndex, double[] b, int bFromIndex, int bToIndex) {
+        return mismatch(ForkJoinPool.commonPool(), a, aFromIndex, aToIndex, b, bFromIndex, bToIndex, CHUNK_BYTES / Double.BYTES);
+    }
+
+    /**
+     * @param pool  pool that scans the chunks
+     * @param chunk number of elements scanned by a chunk
+     */
+    static int mismatch(ForkJoinPool pool, double[] a, int aFromIndex, int aToIndex, double[] b, int bFromIndex, int bToIndex, int chunk) {
+        ArrayRanges.check(a.length, aFromIndex, aToIndex);
+        ArrayRanges.check(b.length, bFromIndex, bToIndex);
+        return mismatch(pool, aToIndex - aFromIndex, bToIndex - bFromIndex, chunk, (offset, length) ->
+                Arrays.mismatch(a, aFromIndex + offset, aFromIndex + offset + length, b, bFromIndex + offset, bFromIndex + offset + length));
+    }
+
+    /**
+     * Compares the arrays lexicographically in parallel on the common pool.
+     *
+     * @param a first array
+     * @param b second array
+     * @return 0 if the arrays are equal, a negative value if a is lexicographically less than b,
+     * a positive value otherwise
+     * @see Arrays#compare(double[], double[])
+     */
+    static int compare(double[] a, double[] b) {
+        if (a == b) {
+            return 0;
+        }
+        if (a == null || b == null) {
+            return a == null ? -1 : 1;
+        }
+        return compare(ForkJoinPool.commonPool(), a, 0, a.length, b, 0, b.length, CHUNK_BYTES / Double.BYTES);
+    }
+
+    /**
+     * Compares the ranges of the arrays lexicographically in parallel on the common pool.
+     *
+     * @param a          first array
+     * @param aFromIndex the index of the first element (inclusive) of the first array
+     * @param aToIndex   the index of the last element (exclusive) of the first array
+     * @param b          second array
+     * @param bFromIndex the index of the first element (inclusive) of the second array
+     * @param bToIndex   the index of the last element (exclusive) of the second array
+     * @return 0 if the ranges are equal, a negative value if the range of a is lexicographically less than the one of b,
+     * a positive value otherwise
+     * @throws IllegalArgumentException       if aFromIndex > aToIndex or if bFromIndex > bToIndex
+     * @throws ArrayIndexOutOfBoundsException if aFromIndex < 0 or aToIndex > a.length or if bFromIndex < 0 or bToIndex > b.length
+     * @throws NullPointerException           if either array is null
+     * @see Arrays#compare(double[], int, int, double[], int, int)
+     */
+    static int compare(double[] a, int aFromIndex, int aToIndex, double[] b, int bFromIndex, int bToIndex) {
+        return compare(ForkJoinPool.commonPool(), a, aFromIndex, aToIndex, b, bFromIndex, bToIndex, CHUNK_BYTES / Double.BYTES);
+    }
+
+    /**
+     * @param pool  pool that scans the chunks
+     * @param chunk number of elements scanned by a chunk
+     */
+    static int compare(ForkJoinPool pool, double[] a, int aFromIndex, int aToIndex, double[] b, int bFromIndex, int bToIndex, int chunk) {
+        int index = mismatch(pool, a, aFromIndex, aToIndex, b, bFromIndex, bToIndex, chunk);
+        int aLength = aToIndex - aFromIndex;
+        int bLength = bToIndex - bFromIndex;
+        if (index >= 0 && index < Math.min(aLength, bLength)) {
+            return Double.compare(a[aFromIndex + index], b[bFromIndex + index]);
+        }
+        return aLength - bLength;
+    }
+
+    /**
+     * Finds the index of the first mismatch between the arrays in parallel on the common pool.
+     *
+     * @param a first array
+     * @param b second array
+     * @return index of the first mismatch, the length of the shorter array if it is a prefix of the other one,
+     * -1 if the arrays are equal
+     * @throws NullPointerException if either array is null
+     * @see Arrays#mismatch(byte[], byte[])
+     */
+    static int mismatch(byte[] a, byte[] b) {
+        return mismatch(ForkJoinPool.commonPool(), a, 0, a.length, b, 0, b.length, CHUNK_BYTES / Byte.BYTES);
+    }
+
+    /**
+     * Finds the index of the first mismatch between the ranges of the arrays in parallel on the common pool.
+     *
+     * @param a          first array
+     * @param aFromIndex the index of the first element (inclusive) of the first array
+     * @param aToIndex   the index of the last element (exclusive) of the first array
+     * @param b          second array
+     * @param bFromIndex the index of the first element (inclusive) of the second array
+     * @param bToIndex   the index of the last element (exclusive) of the second array
+     * @return relative index of the first mismatch, the length of the shorter range if it is a prefix of the other one,
+     * -1 if the ranges are equal
+     * @throws IllegalArgumentException       if aFromIndex > aToIndex or if bFromIndex > bToIndex
+     * @throws ArrayIndexOutOfBoundsException if aFromIndex < 0 or aToIndex > a.length or if bFromIndex < 0 or bToIndex > b.length
+     * @throws NullPointerException           if either array is null
+     * @see Arrays#mismatch(byte[], int, int, byte[], int, int)
+     */
+    static int mismatch(byte[] a, int aFromIndex, int aToIndex, byte[] b, int bFromIndex, int bToIndex) {
+        return mismatch(ForkJoinPool.commonPool(), a, aFromIndex, aToIndex, b, bFromIndex, bToIndex, CHUNK_BYTES / Byte.BYTES);
+    }
+
+    /**
+     * @param pool  pool that scans the chunks
+     * @param chunk number of elements scanned by a chunk
+     */
+    static int mismatch(ForkJoinPool pool, byte[] a, int aFromIndex, int aToIndex, byte[] b, int bFromIndex, int bToIndex, int chunk) {
+        ArrayRanges.check(a.length, aFromIndex, aToIndex);
+        ArrayRanges.check(b.length, bFromIndex, bToIndex);
+        return mismatch(pool, aToIndex - aFromIndex, bToIndex - bFromIndex, chunk, (offset, length) ->
+                Arrays.mismatch(a, aFromIndex + offset, aFromIndex + offset + length, b, bFromIndex + offset, bFromIndex + offset + length));
+    }
+
+    /**
+     * Compares the arrays lexicographically in parallel on the common pool.
+     *
+     * @param a first array
+     * @param b second array
+     * @return 0 if the arrays are equal, a negative value if a is lexicographically less than b,
+     * a positive value otherwise
+     * @see Arrays#compare(byte[], byte[])
+     */
+    static int compare(byte[] a, byte[] b) {
+        if (a == b) {
+            return 0;
+        }
+        if (a == null || b == null) {
+            return a == null ? -1 : 1;
+        }
+        return compare(ForkJoinPool.commonPool(), a, 0, a.length, b, 0, b.length, CHUNK_BYTES / Byte.BYTES);
+    }
+
+    /**
+     * Compares the ranges of the arrays lexicographically in parallel on the common pool.
+     *
+     * @param a          first array
+     * @param aFromIndex the index of the first element (inclusive) of the first array
+     * @param aToIndex   the index of the last element (exclusive) of the first array
+     * @param b          second array
+     * @param bFromIndex the index of the first element (inclusive) of the second array
+     * @param bToIndex   the index of the last element (exclusive) of the second array
+     * @return 0 if the ranges are equal, a negative value if the range of a is lexicographically less than the one of b,
+     * a positive value otherwise
+     * @throws IllegalArgumentException       if aFromIndex > aToIndex or if bFromIndex > bToIndex
+     * @throws ArrayIndexOutOfBoundsException if aFromIndex < 0 or aToIndex > a.length or if bFromIndex < 0 or bToIndex > b.length
+     * @throws NullPointerException           if either array is null
+     * @see Arrays#compare(byte[], int, int, byte[], int, int)
+     */
+    static int compare(byte[] a, int aFromIndex, int aToIndex, byte[] b, int bFromIndex, int bToIndex) {
+        return compare(ForkJoinPool.commonPool(), a, aFromIndex, aToIndex, b, bFromIndex, bToIndex, CHUNK_BYTES / Byte.BYTES);
+    }
+
+    /**
+     * @param pool  pool that scans the chunks
+     * @param chunk number of elements scanned by a chunk
+     */
+    static int compare(ForkJoinPool pool, byte[] a, int aFromIndex, int aToIndex, byte[] b, int bFromIndex, int bToIndex, int chunk) {
+        int index = mismatch(pool, a, aFromIndex, aToIndex, b, bFromIndex, bToIndex, chunk);
+        int aLength = aToIndex - aFromIndex;
+        int bLength = bToIndex - bFromIndex;
+        if (index >= 0 && index < Math.min(aLength, bLength)) {
+            return Byte.compare(a[aFromIndex + index], b[bFromIndex + index]);
+        }
+        return aLength - bLength;
+    }
+
+    /**
+     * Finds the first mismatch of the ranges, scanning them in chunks on the pool when they are longer than a chunk.
+     */
+    private static int mismatch(ForkJoinPool pool, int aLength, int bLength, int chunk, RangeMismatch ranges) {
+        if (chunk <= 0) {
+            throw new IllegalArgumentException("chunk(" + chunk + ") must be positive");
+        }
+        int length = Math.min(aLength, bLength);
+        int index;
+        if (length <= chunk || pool.getParallelism() < 2) {
+            index = ranges.mismatch(0, length);
+        } else {
+            AtomicInteger lowest = new AtomicInteger(length);
+            pool.invoke(new ChunkTask(0, (length - 1) / chunk + 1, chunk, length, lowest, ranges));
+            index = lowest.get() < length ? lowest.get() : -1;
+        }
+        if (index >= 0 || aLength == bLength) {
+            return index;
+        }
+        return length;
+    }
+
+    /**
+     * Arrays.mismatch of the ranges of both arrays, starting at the offset from their first indexes.
+     */
+    @FunctionalInterface
+    private interface RangeMismatch {
+        int mismatch(int offset, int length);
+    }
+
+    /**
+     * Scans the chunks, halving the range of chunks into tasks, and lowers the shared lowest mismatch.
+     * Chunks starting at or after the lowest mismatch are skipped.
+     */
+    @SuppressWarnings("serial")
+    private static final class ChunkTask extends RecursiveAction {
+        private final int firstChunk;
+        private final int lastChunk;
+        private final int chunk;
+        private final int length;
+        private final AtomicInteger lowest;
+        private final RangeMismatch ranges;
+
+        ChunkTask(int firstChunk, int lastChunk, int chunk, int length, AtomicInteger lowest, RangeMismatch ranges) {
+            this.firstChunk = firstChunk;
+            this.lastChunk = lastChunk;
+            this.chunk = chunk;
+            this.length = length;
+            this.lowest = lowest;
+            this.ranges = ranges;
+        }
+
+        @Override
+        protected void compute() {
+            int start = firstChunk * chunk;
+            if (start >= lowest.get()) {
+                return;
+            }
+            if (lastChunk - firstChunk > 1) {
+                int middle = (firstChunk + lastChunk) >>> 1;
+                invokeAll(new ChunkTask(firstChunk, middle, chunk, length, lowest, ranges),
+                        new ChunkTask(middle, lastChunk, chunk, length, lowest, ranges));
+                return;
+            }
+            int index = ranges.mismatch(start, Math.min(chunk, length - start));
+            if (index >= 0) {
+                lowest.accumulateAndGet(start + index, Math::min);
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.epam.prejap.ess.helpers.comparingarrays;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Comparison of Arrays.mismatch with {@link ParallelMismatch} for int and byte arrays that differ at the given
+ * fraction of their length, so the sequential scan reads that part of them and the parallel one skips the chunks
+ * after the mismatch.
+ */
+@Fork(value = 1)
+@Threads(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@Measurement(iterations = 20, timeUnit = TimeUnit.MILLISECONDS, time = 100)
+@Warmup(iterations = 10, timeUnit = TimeUnit.MILLISECONDS, time = 100)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ParallelMismatchBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    @Benchmark
+    public int sequentialIntBenchmark(BenchmarkInput input) {
+        return Arrays.mismatch(input.firstInts, input.secondInts);
+    }
+
+    @Benchmark
+    public int parallelIntBenchmark(BenchmarkInput input) {
+        return ParallelMismatch.mismatch(input.firstInts, input.secondInts);
+    }
+
+    @Benchmark
+    public int sequentialByteBenchmark(BenchmarkInput input) {
+        return Arrays.mismatch(input.firstBytes, input.secondBytes);
+    }
+
+    @Benchmark
+    public int parallelByteBenchmark(BenchmarkInput input) {
+        return ParallelMismatch.mismatch(input.firstBytes, input.secondBytes);
+    }
+
+    @State(Scope.Thread)
+    public static class BenchmarkInput {
+        @Param({"1000000", "32000000"})
+        int size;
+        @Param({"0.5", "1.0"})
+        double mismatchAt;
+        int[] firstInts;
+        int[] secondInts;
+        byte[] firstBytes;
+        byte[] secondBytes;
+
+        @Setup
+        public void setUp() {
+            int index = Math.min(size - 1, (int) (size * mismatchAt));
+            firstInts = new SplittableRandom(42).ints(size).toArray();
+            secondInts = firstInts.clone();
+            secondInts[index]++;
+            firstBytes = new byte[size];
+            for (int i = 0; i < size; i++) {
+                firstBytes[i] = (byte) firstInts[i];
+            }
+            secondBytes = firstBytes.clone();
+            secondBytes[index]++;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.epam.prejap.ess.helpers.comparingarrays;
+
+import java.util.Arrays;
+
+/**
+ * Ids of an array of {@link Train}s kept in an int array, so arrays of trains can be compared with
+ * Arrays.compare(int[], int[]) and Arrays.mismatch(int[], int[]), which compare many ints at once with vector
+ * instructions, instead of following a reference and calling compareTo for every element.
+ * <p>
+ * The results are the same as the ones of the object comparisons of the trains:
+ * <ul>
+ *     <li>{@link #compare(TrainColumn, TrainColumn)} - Arrays.compare(Train[], Train[])</li>
+ *     <li>{@link #compareById(TrainColumn, TrainColumn)} - Arrays.compare(Train[], Train[], new TrainById())</li>
+ *     <li>{@link #mismatch(TrainColumn, TrainColumn)} - Arrays.mismatch(Train[], Train[], Comparator.naturalOrder()),
+ *     trains are equal when their ids are, since Train does not override equals</li>
+ * </ul>
+ * and the same for the ranges, with the same exceptions. Like the object comparisons, they accept null columns.
+ * Columns are immutable.
+ *
+ * @see ArraysCompare
+ */
+final class TrainColumn {
+
+    private final int[] ids;
+
+    private TrainColumn(int[] ids) {
+        this.ids = ids;
+    }
+
+    /**
+     * Extracts the ids of the trains.
+     *
+     * @param trains trains to extract the ids of
+     * @return column of the ids
+     * @throws NullPointerException if trains or any of them is null
+     */
+    static TrainColumn of(Train[] trains) {
+        int[] ids = new int[trains.length];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = trains[i].getId();
+        }
+        return new TrainColumn(ids);
+    }
+
+    /**
+     * @param ids ids of the trains, copied
+     * @return column of the ids
+     * @throws NullPointerException if ids is null
+     */
+    static TrainColumn ofIds(int... ids) {
+        return new TrainColumn(ids.clone());
+    }
+
+    int length() {
+        return ids.length;
+    }
+
+    /**
+     * @param index index of the train
+     * @return id of the train
+     * @throws ArrayIndexOutOfBoundsException if index is out of the column
+     */
+    int id(int index) {
+        return ids[index];
+    }
+
+    /**
+     * Compares the trains by id in ascending order, like Arrays.compare(Train[], Train[]).
+     *
+     * @param a first column
+     * @param b second column
+     * @return 0 if the columns are equal, a negative value if a is lexicographically less than b,
+     * a positive value otherwise
+     * @see Train#compareTo(Train)
+     */
+    static int compare(TrainColumn a, TrainColumn b) {
+        if (a == b) {
+            return 0;
+        }
+        if (a == null || b == null) {
+            return a == null ? -1 : 1;
+        }
+        return Arrays.compare(a.ids, b.ids);
+    }
+
+    /**
+     * Compares the ranges of trains by id in ascending order, like Arrays.compare(Train[], int, int, Train[], int, int).
+     *
+     * @param a         first column
+     * @param aFromIndex the index of the first train (inclusive) of the first column
+     * @param aToIndex   the index of the last train (exclusive) of the first column
+     * @param b         second column
+     * @param bFromIndex the index of the first train (inclusive) of the second column
+     * @param bToIndex   the index of the last train (exclusive) of the second column
+     * @return 0 if the ranges are equal, a negative value if the range of a is lexicographically less than the one of b,
+     * a positive value otherwise
+     * @throws IllegalArgumentException       if aFromIndex > aToIndex or if bFromIndex > bToIndex
+     * @throws ArrayIndexOutOfBoundsException if aFromIndex < 0 or aToIndex > a.length() or if bFromIndex < 0 or bToIndex > b.length()
+     * @throws NullPointerException           if either column is null
+     */
+    static int compare(TrainColumn a, int aFromIndex, int aToIndex, TrainColumn b, int bFromIndex, int bToIndex) {
+        return Arrays.compare(a.ids, aFromIndex, aToIndex, b.ids, bFromIndex, bToIndex);
+    }
+
+    /**
+     * Compares the trains by id in descending order, like Arrays.compare(Train[], Train[], new TrainById()).
+     * As there, a shorter column that is a prefix of a longer one is less than it.
+     *
+     * @param a first column
+     * @param b second column
+     * @return 0 if the columns are equal, a negative value if a is lexicographically less than b,
+     * a positive value otherwise
+     * @see TrainById
+     */
+    static int compareById(TrainColumn a, TrainColumn b) {
+        if (a == b) {
+            return 0;
+        }
+        if (a == null || b == null) {
+            return a == null ? -1 : 1;
+        }
+        return compareById(a.ids, 0, a.ids.length, b.ids, 0, b.ids.length);
+    }
+
+    /**
+     * Compares the ranges of trains by id in descending order,
+     * like Arrays.compare(Train[], int, int, Train[], int, int, new TrainById()).
+     *
+     * @param a         first column
+     * @param aFromIndex the index of the first train (inclusive) of the first column
+     * @param aToIndex   the index of the last train (exclusive) of the first column
+     * @param b         second column
+     * @param bFromIndex the index of the first train (inclusive) of the second column
+     * @param bToIndex   the index of the last train (exclusive) of the second column
+     * @return 0 if the ranges are equal, a negative value if the range of a is lexicographically less than the one of b,
+     * a positive value otherwise
+     * @throws IllegalArgumentException       if aFromIndex > aToIndex or if bFromIndex > bToIndex
+     * @throws ArrayIndexOutOfBoundsException if aFromIndex < 0 or aToIndex > a.length() or if bFromIndex < 0 or bToIndex > b.length()
+     * @throws NullPointerException           if either column is null
+     */
+    static int compareById(TrainColumn a, int aFromIndex, int aToIndex, TrainColumn b, int bFromIndex, int bToIndex) {
+        return compareById(a.ids, aFromIndex, aToIndex, b.ids, bFromIndex, bToIndex);
+    }
+
+    /**
+     * Finds the first index at which the ids differ, like Arrays.mismatch(Train[], Train[], Comparator.naturalOrder()).
+     *
+     * @param a first column
+     * @param b second column
+     * @return index of the first mismatch, the length of the shorter column if it is a prefix of the other one,
+     * -1 if the columns are equal
+     * @throws NullPointerException if either column is null
+     */
+    static int mismatch(TrainColumn a, TrainColumn b) {
+        return Arrays.mismatch(a.ids, b.ids);
+    }
+
+    /**
+     * Finds the first index relative to the ranges at which the ids differ,
+     * like Arrays.mismatch(Train[], int, int, Train[], int, int, Comparator.naturalOrder()).
+     *
+     * @param a         first column
+     * @param aFromIndex the index of the first train (inclusive) of the first column
+     * @param aToIndex   the index of the last train (exclusive) of the first column
+     * @param b         second column
+     * @param bFromIndex the index of the first train (inclusive) of the second column
+     * @param bToIndex   the index of the last train (exclusive) of the second column
+     * @return relative index of the first mismatch, the length of the shorter range if it is a prefix of the other one,
+     * -1 if the ranges are equal
+     * @throws IllegalArgumentException       if aFromIndex > aToIndex or if bFromIndex > bToIndex
+     * @throws ArrayIndexOutOfBoundsException if aFromIndex < 0 or aToIndex > a.length() or if bFromIndex < 0 or bToIndex > b.length()
+     * @throws NullPointerException           if either column is null
+     */
+    static int mismatch(TrainColumn a, int aFromIndex, int aToIndex, TrainColumn b, int bFromIndex, int bToIndex) {
+        return Arrays.mismatch(a.ids, aFromIndex, aToIndex, b.ids, bFromIndex, bToIndex);
+    }
+
+    private static int compareById(int[] a, int aFromIndex, int aToIndex, int[] b, int bFromIndex, int bToIndex) {
+        int index = Arrays.mismatch(a, aFromIndex, aToIndex, b, bFromIndex, bToIndex);
+        int aLength = aToIndex - aFromIndex;
+        int bLength = bToIndex - bFromIndex;
+        if (index >= 0 && index < Math.min(aLength, bLength)) {
+            return Integer.compare(b[bFromIndex + index], a[aFromIndex + index]);
+        }
+        return aLength - bLength;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return Arrays.equals(ids, ((TrainColumn) o).ids);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(ids);
+    }
+
+    @Override
+    public String toString() {
+        return "TrainColumn" + Arrays.toString(ids);
+    }
+}
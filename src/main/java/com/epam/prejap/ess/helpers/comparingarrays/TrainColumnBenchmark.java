@@ -0,0 +1,83 @@
+package com.epam.prejap.ess.helpers.comparingarrays;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Comparison of comparing arrays of {@link Train}s with Arrays.compare and of comparing the columns of their ids
+ * with {@link TrainColumn}, in ascending order, in descending order with {@link TrainById} and over ranges.
+ * The arrays differ only at the last element, so every comparison reads them whole.
+ * The extracting benchmark also pays for building both columns, which is paid once when the columns are kept.
+ */
+@Fork(value = 1)
+@Threads(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@Measurement(iterations = 20, timeUnit = TimeUnit.MILLISECONDS, time = 100)
+@Warmup(iterations = 10, timeUnit = TimeUnit.MILLISECONDS, time = 100)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TrainColumnBenchmark {
+
+    private static final TrainById BY_ID = new TrainById();
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    @Benchmark
+    public int objectsCompareBenchmark(BenchmarkInput input) {
+        return Arrays.compare(input.firstTrains, input.secondTrains);
+    }
+
+    @Benchmark
+    public int columnsCompareBenchmark(BenchmarkInput input) {
+        return TrainColumn.compare(input.firstColumn, input.secondColumn);
+    }
+
+    @Benchmark
+    public int extractingColumnsCompareBenchmark(BenchmarkInput input) {
+        return TrainColumn.compare(TrainColumn.of(input.firstTrains), TrainColumn.of(input.secondTrains));
+    }
+
+    @Benchmark
+    public int objectsCompareByIdBenchmark(BenchmarkInput input) {
+        return Arrays.compare(input.firstTrains, input.secondTrains, BY_ID);
+    }
+
+    @Benchmark
+    public int columnsCompareByIdBenchmark(BenchmarkInput input) {
+        return TrainColumn.compareById(input.firstColumn, input.secondColumn);
+    }
+
+    @Benchmark
+    public int objectsCompareRangeBenchmark(BenchmarkInput input) {
+        return Arrays.compare(input.firstTrains, 1, input.size, input.secondTrains, 1, input.size);
+    }
+
+    @Benchmark
+    public int columnsCompareRangeBenchmark(BenchmarkInput input) {
+        return TrainColumn.compare(input.firstColumn, 1, input.size, input.secondColumn, 1, input.size);
+    }
+
+    @State(Scope.Thread)
+    public static class BenchmarkInput {
+        @Param({"100", "10000", "1000000"})
+        int size;
+        Train[] firstTrains;
+        Train[] secondTrains;
+        TrainColumn firstColumn;
+        TrainColumn secondColumn;
+
+        @Setup
+        public void setUp() {
+            int[] ids = new SplittableRandom(42).ints(size).toArray();
+            firstTrains = Arrays.stream(ids).mapToObj(Train::new).toArray(Train[]::new);
+            ids[size - 1]++;
+            secondTrains = Arrays.stream(ids).mapToObj(Train::new).toArray(Train[]::new);
+            firstColumn = TrainColumn.of(firstTrains);
+            secondColumn = TrainColumn.of(secondTrains);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.epam.prejap.ess.helpers.objectscompare;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Comparator of {@link Person}s by name in the order of a Collator that computes the CollationKey of every distinct
+ * name once, instead of collating both names again on every comparison, like
+ * Comparator.comparing(Person::name, collator). A sort compares every name about log n times, the collator reads
+ * the whole names with its rules every time, and real lists of people repeat a small number of popular names
+ * many times.
+ * <p>
+ * The keys are kept in a cache of the given capacity that evicts the least recently used name, so the memory stays
+ * bounded for any number of distinct names.
+ * <p>
+ * Case folding for String.CASE_INSENSITIVE_ORDER is not worth caching: a lookup in the cache costs more than
+ * folding the few leading characters that usually tell two names apart.
+ * <p>
+ * Every lookup reorders the cache, so a comparator is not thread safe and must not be shared, for example
+ * as a constant or by a parallel sort. A sort should use its own comparator.
+ *
+ * @see PersonByNameComparator
+ */
+final class CachedNameComparator implements Comparator<Person> {
+
+    static final int DEFAULT_CAPACITY = 1 << 12;
+
+    private final Collator collator;
+    private final Map<String, CollationKey> cache;
+    private long misses;
+
+    private CachedNameComparator(Collator collator, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity(" + capacity + ") must be positive");
+        }
+        this.collator = Objects.requireNonNull(collator);
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CollationKey> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * @param collator collator of the names, not used by anything else while the comparator is
+     * @return comparator in the order of the collator
+     * @throws NullPointerException if collator is null
+     */
+    static CachedNameComparator collating(Collator collator) {
+        return collating(collator, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param collator collator of the names, not used by anything else while the comparator is
+     * @param capacity maximal number of cached names
+     * @return comparator in the order of the collator
+     * @throws IllegalArgumentException if capacity is not positive
+     * @throws NullPointerException     if collator is null
+     */
+    static CachedNameComparator collating(Collator collator, int capacity) {
+        return new CachedNameComparator(collator, capacity);
+    }
+
+    /**
+     * @throws NullPointerException if either person or their name is null
+     */
+    @Override
+    public int compare(Person o1, Person o2) {
+        return key(o1.name()).compareTo(key(o2.name()));
+    }
+
+    /**
+     * @return number of cached names
+     */
+    int size() {
+        return cache.size();
+    }
+
+    /**
+     * @return number of names collated so far, at most once while they stay cached
+     */
+    long misses() {
+        return misses;
+    }
+
+    private CollationKey key(String name) {
+        Objects.requireNonNull(name);
+        CollationKey key = cache.get(name);
+        if (key == null) {
+            key = collator.getCollationKey(name);
+            misses++;
+            cache.put(name, key);
+        }
+        return key;
+    }
+}
@@ -0,0 +1,67 @@
+package com.epam.prejap.ess.helpers.objectscompare;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Comparison of sorting a list of {@link Person}s by name with a Collator, collating both names on every
+ * comparison, and with {@link CachedNameComparator}, collating every distinct name once. A new cached comparator
+ * is created for every sort, so its time includes filling the cache.
+ * <p>
+ * The names follow the distribution of real first and last names, see {@link NameDistribution}.
+ * Every benchmark first copies the unsorted people into the sorted list, which takes the same time for all of them.
+ */
+@Fork(value = 1)
+@Threads(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@Measurement(iterations = 20, timeUnit = TimeUnit.MILLISECONDS, time = 100)
+@Warmup(iterations = 10, timeUnit = TimeUnit.MILLISECONDS, time = 100)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CachedNameComparatorBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    @Benchmark
+    public List<Person> collatorBenchmark(BenchmarkInput input) {
+        List<Person> people = input.people();
+        Collections.sort(people, Comparator.comparing(Person::name, input.collator));
+        return people;
+    }
+
+    @Benchmark
+    public List<Person> cachedCollatorBenchmark(BenchmarkInput input) {
+        List<Person> people = input.people();
+        Collections.sort(people, CachedNameComparator.collating(input.collator));
+        return people;
+    }
+
+    @State(Scope.Thread)
+    public static class BenchmarkInput {
+        @Param({"10000", "100000"})
+        int size;
+        Collator collator;
+        private List<Person> unsorted;
+        private List<Person> sorted;
+
+        @Setup
+        public void setUp() {
+            collator = Collator.getInstance(Locale.forLanguageTag("pl"));
+            unsorted = NameDistribution.people(size, 42);
+            sorted = new ArrayList<>(unsorted);
+        }
+
+        List<Person> people() {
+            Collections.copy(sorted, unsorted);
+            return sorted;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.epam.prejap.ess.helpers.objectscompare;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Comparison of the styles of comparators used in {@link TaskObjectsCompare}, all ordering {@link Person}s by id:
+ * a comparator class, a lambda, Comparator.comparingInt with a method reference, its reversed() and nullsFirst()
+ * wrappers and the natural order of Person, called directly and through Objects.compare.
+ * <p>
+ * Every operation compares each pair of neighbours of an array of people at one call site. Before the measurement
+ * the call site is also run with other comparator styles, so it sees one of them (monomorphic), two (bimorphic)
+ * or four (megamorphic). A megamorphic call site is not inlined, so its calls are virtual, which is the usual state
+ * of the comparator call sites of Collections.sort in a large application.
+ * The main method runs the benchmarks with the gc profiler, so every result is followed by {@code gc.alloc.rate.norm},
+ * which is 0 bytes for all of them.
+ */
+@Fork(value = 1)
+@Threads(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@Measurement(iterations = 20, timeUnit = TimeUnit.MILLISECONDS, time = 100)
+@Warmup(iterations = 10, timeUnit = TimeUnit.MILLISECONDS, time = 100)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ComparatorStyleBenchmark {
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ComparatorStyleBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+
+    @Benchmark
+    public int compareBenchmark(BenchmarkInput input) {
+        return compareNeighbours(input.people, input.comparator);
+    }
+
+    @Benchmark
+    public int objectsCompareBenchmark(BenchmarkInput input) {
+        return objectsCompareNeighbours(input.people, input.comparator);
+    }
+
+    private static int compareNeighbours(Person[] people, Comparator<Person> comparator) {
+        int ascending = 0;
+        for (int i = 1; i < people.length; i++) {
+            if (comparator.compare(people[i - 1], people[i]) < 0) {
+                ascending++;
+            }
+        }
+        return ascending;
+    }
+
+    private static int objectsCompareNeighbours(Person[] people, Comparator<Person> comparator) {
+        int ascending = 0;
+        for (int i = 1; i < people.length; i++) {
+            if (Objects.compare(people[i - 1], people[i], comparator) < 0) {
+                ascending++;
+            }
+        }
+        return ascending;
+    }
+
+    /**
+     * Styles of comparators, each creating a new instance, like the code sorting with it would.
+     */
+    public enum Style {
+        CLASS {
+            @Override
+            Comparator<Person> comparator() {
+                return new PersonByIdComparator();
+            }
+        },
+        LAMBDA {
+            @Override
+            Comparator<Person> comparator() {
+                return (p1, p2) -> Integer.compare(p1.id(), p2.id());
+            }
+        },
+        COMPARING_INT {
+            @Override
+            Comparator<Person> comparator() {
+                return Comparator.comparingInt(Person::id);
+            }
+        },
+        REVERSED {
+            @Override
+            Comparator<Person> comparator() {
+                return Comparator.comparingInt(Person::id).reversed();
+            }
+        },
+        NULLS_FIRST {
+            @Override
+            Comparator<Person> comparator() {
+                return Comparator.nullsFirst(Comparator.comparingInt(Person::id));
+            }
+        },
+        NATURAL_ORDER {
+            @Override
+            Comparator<Person> comparator() {
+                return Comparator.naturalOrder();
+            }
+        };
+
+        abstract Comparator<Person> comparator();
+    }
+
+    /**
+     * Number of comparator styles the call sites see.
+     */
+    public enum Profile {
+        MONOMORPHIC(1), BIMORPHIC(2), MEGAMORPHIC(4);
+
+        final int styles;
+
+        Profile(int styles) {
+            this.styles = styles;
+        }
+    }
+
+    /**
+     * Comparator class comparing instances of {@link Person} by id/ascending.
+     */
+    static final class PersonByIdComparator implements Comparator<Person> {
+        @Override
+        public int compare(Person o1, Person o2) {
+            return Integer.compare(o1.id(), o2.id());
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class BenchmarkInput {
+        private static final int POLLUTING_ROUNDS = 2000;
+
+        @Param({"CLASS", "LAMBDA", "COMPARING_INT", "REVERSED", "NULLS_FIRST", "NATURAL_ORDER"})
+        Style style;
+        @Param({"MONOMORPHIC", "BIMORPHIC", "MEGAMORPHIC"})
+        Profile profile;
+        @Param({"1000"})
+        int size;
+        Person[] people;
+        Comparator<Person> comparator;
+
+        /**
+         * Runs the call sites with the measured style and the following ones, enough times to compile them
+         * with this profile.
+         */
+        @Setup
+        public void setUp() {
+            SplittableRandom random = new SplittableRandom(42);
+            people = new Person[size];
+            for (int i = 0; i < size; i++) {
+                people[i] = new Person(random.nextInt(), "Person" + i);
+            }
+            comparator = style.comparator();
+            Style[] styles = Style.values();
+            for (int round = 0; round < POLLUTING_ROUNDS; round++) {
+                Comparator<Person> polluting = styles[(style.ordinal() + round % profile.styles) % styles.length].comparator();
+                compareNeighbours(people, polluting);
+                objectsCompareNeighbours(people, polluting);
+            }
+        }
+    }
+}
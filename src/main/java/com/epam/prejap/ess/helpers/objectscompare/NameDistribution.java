@@ -0,0 +1,75 @@
+package com.epam.prejap.ess.helpers.objectscompare;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Random {@link Person}s with names following the distribution of real first and last names, for the benchmarks.
+ * The names are drawn from Zipf distributions (exponent 1), so a few popular names make most of the list,
+ * and one in five is written in upper or lower case. Every person has its own String, like one read from a file.
+ */
+final class NameDistribution {
+
+    private static final String[] FIRST_NAMES = {"Anna", "Piotr", "Maria", "Krzysztof", "Katarzyna", "Andrzej",
+            "Małgorzata", "Tomasz", "Agnieszka", "Paweł", "Barbara", "Michał", "Ewa", "Łukasz", "Magdalena", "Marcin",
+            "Elżbieta", "Jakub", "Joanna", "Adam", "John", "Mary", "James", "Patricia", "Robert", "Jennifer", "David",
+            "Linda", "William", "Élodie", "José", "Zoë", "Jürgen", "Søren", "Ângela", "Björn", "Çağla", "Dmitrij",
+            "Olga", "Natalia"};
+    private static final String[] LAST_NAMES = {"Nowak", "Kowalski", "Wiśniewski", "Wójcik", "Kowalczyk",
+            "Kamiński", "Lewandowski", "Zieliński", "Szymański", "Woźniak", "Dąbrowski", "Kozłowski", "Jankowski",
+            "Mazur", "Smith", "Johnson", "Williams", "Brown", "Jones", "García", "Müller", "Schmidt", "Dubois",
+            "Ødegaard", "Öztürk", "Ivanov", "Rossi", "Fernández", "Novák", "Horváth"};
+
+    private NameDistribution() {
+    }
+
+    /**
+     * @param size number of people
+     * @param seed seed of the random names
+     * @return people with ids from 0 and random names
+     */
+    static List<Person> people(int size, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        double[] firstNames = zipf(FIRST_NAMES.length);
+        double[] lastNames = zipf(LAST_NAMES.length);
+        List<Person> people = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String name = FIRST_NAMES[draw(firstNames, random)] + " " + LAST_NAMES[draw(lastNames, random)];
+            int variant = random.nextInt(10);
+            if (variant == 0) {
+                name = name.toUpperCase(Locale.ROOT);
+            } else if (variant == 1) {
+                name = name.toLowerCase(Locale.ROOT);
+            }
+            people.add(new Person(i, name));
+        }
+        return people;
+    }
+
+    /**
+     * @return cumulative probabilities of the ranks of a Zipf distribution with exponent 1
+     */
+    private static double[] zipf(int ranks) {
+        double[] cumulative = new double[ranks];
+        double sum = 0;
+        for (int rank = 0; rank < ranks; rank++) {
+            sum += 1.0 / (rank + 1);
+            cumulative[rank] = sum;
+        }
+        for (int rank = 0; rank < ranks; rank++) {
+            cumulative[rank] /= sum;
+        }
+        return cumulative;
+    }
+
+    private static int draw(double[] cumulative, SplittableRandom random) {
+        double value = random.nextDouble();
+        int rank = 0;
+        while (rank < cumulative.length - 1 && cumulative[rank] < value) {
+            rank++;
+        }
+        return rank;
+    }
+}
@@ -0,0 +1,248 @@
+package com.epam.prejap.ess.helpers.objectscompare;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Columnar, immutable table of {@link Person}s with sorted views, an alternative to keeping a List of Persons and
+ * sorting it in place with Collections.sort for every ordering, like {@link TaskObjectsCompare} does, when millions
+ * of people are read in several orderings at the same time.
+ * <p>
+ * The ids are kept in an int array. The names are dictionary encoded: every distinct name is kept once, the names
+ * are sorted with String.compareTo and every row keeps the position of its name, so rows are ordered by name by
+ * comparing two ints. The distinct names are stored one after another in a single char array with an array of their
+ * offsets, so a name costs its chars and one int instead of a String with its own array. Reading a name creates
+ * a String of it. Real lists of people repeat a small number of popular names, so the table takes a fraction of
+ * the memory of the Persons, each with its own String. With all names distinct, it saves the objects of the Persons
+ * and the Strings, see {@link PersonTableBenchmark}.
+ * <p>
+ * A {@link View} is the permutation of the rows in an {@link Ordering}. It is built on the first request by packing
+ * the key and the position of every row into a long with Arrays.parallelSetAll and sorting them with
+ * Arrays.parallelSort, so rows with equal keys keep their order, like in the stable Collections.sort. Views are
+ * cached per ordering as futures, so a view is sorted once, outside of the lock of the cache, while other threads
+ * requesting it wait for the future. Views are read by position without copying, so any number of threads can read
+ * the table.
+ *
+ * @see TaskObjectsCompare
+ */
+final class PersonTable {
+
+    /**
+     * Orderings of the views, the same as of Collections.sort with the comparators of {@link TaskObjectsCompare}.
+     */
+    enum Ordering {
+        BY_ID(Comparator.naturalOrder()),
+        BY_ID_DESCENDING(Comparator.comparingInt(Person::id).reversed()),
+        BY_NAME(new PersonByNameComparator()),
+        BY_NAME_DESCENDING((p1, p2) -> p2.name().compareTo(p1.name()));
+
+        private final Comparator<Person> comparator;
+
+        Ordering(Comparator<Person> comparator) {
+            this.comparator = comparator;
+        }
+
+        /**
+         * @return comparator giving the order of the views
+         */
+        Comparator<Person> comparator() {
+            return comparator;
+        }
+    }
+
+    private final int[] ids;
+    private final int[] nameCodes;
+    private final char[] nameChars;
+    private final int[] nameOffsets;
+    private final Map<Ordering, CompletableFuture<View>> views = new ConcurrentHashMap<>();
+
+    private PersonTable(int[] ids, int[] nameCodes, char[] nameChars, int[] nameOffsets) {
+        this.ids = ids;
+        this.nameCodes = nameCodes;
+        this.nameChars = nameChars;
+        this.nameOffsets = nameOffsets;
+    }
+
+    /**
+     * @param people people in the order of the rows
+     * @return table of the people
+     * @throws NullPointerException if people, any person or their name is null
+     */
+    static PersonTable of(Collection<Person> people) {
+        int[] ids = new int[people.size()];
+        int[] nameCodes = new int[ids.length];
+        Map<String, Integer> codes = new HashMap<>();
+        int row = 0;
+        for (Person person : people) {
+            ids[row] = person.id();
+            Integer code = codes.putIfAbsent(Objects.requireNonNull(person.name()), codes.size());
+            nameCodes[row++] = code == null ? codes.size() - 1 : code;
+        }
+        String[] names = new String[codes.size()];
+        codes.forEach((name, code) -> names[code] = name);
+        int[] ranks = new int[names.length];
+        Integer[] byName = new Integer[names.length];
+        Arrays.setAll(byName, code -> code);
+        Arrays.parallelSort(byName, Comparator.comparing(code -> names[code]));
+        int[] nameOffsets = new int[names.length + 1];
+        for (int rank = 0; rank < byName.length; rank++) {
+            ranks[byName[rank]] = rank;
+            nameOffsets[rank + 1] = nameOffsets[rank] + names[byName[rank]].length();
+        }
+        char[] nameChars = new char[nameOffsets[names.length]];
+        for (int rank = 0; rank < byName.length; rank++) {
+            String name = names[byName[rank]];
+            name.getChars(0, name.length(), nameChars, nameOffsets[rank]);
+        }
+        Arrays.parallelSetAll(nameCodes, i -> ranks[nameCodes[i]]);
+        return new PersonTable(ids, nameCodes, nameChars, nameOffsets);
+    }
+
+    /**
+     * @return number of rows
+     */
+    int size() {
+        return ids.length;
+    }
+
+    /**
+     * @return number of distinct names
+     */
+    int distinctNames() {
+        return nameOffsets.length - 1;
+    }
+
+    int id(int row) {
+        return ids[row];
+    }
+
+    /**
+     * @param row index of the row
+     * @return new String of the name of the row
+     * @throws ArrayIndexOutOfBoundsException if row is out of the table
+     */
+    String name(int row) {
+        int code = nameCodes[row];
+        return new String(nameChars, nameOffsets[code], nameOffsets[code + 1] - nameOffsets[code]);
+    }
+
+    /**
+     * @param row index of the row
+     * @return new Person of the row
+     * @throws ArrayIndexOutOfBoundsException if row is out of the table
+     */
+    Person person(int row) {
+        return new Person(ids[row], name(row));
+    }
+
+    /**
+     * Returns the view of the rows in the ordering, sorting them in parallel on the common pool on the first request.
+     * Threads requesting a view that is being sorted wait for it. A failed sort is not cached, so the next request
+     * sorts again.
+     *
+     * @param ordering ordering of the rows
+     * @return cached view
+     * @throws NullPointerException if ordering is null
+     */
+    View view(Ordering ordering) {
+        CompletableFuture<View> view = views.get(ordering);
+        if (view == null) {
+            CompletableFuture<View> sorting = new CompletableFuture<>();
+            view = views.putIfAbsent(ordering, sorting);
+            if (view == null) {
+                try {
+                    sorting.complete(sort(ordering));
+                } catch (Throwable e) {
+                    views.remove(ordering, sorting);
+                    sorting.completeExceptionally(e);
+                    throw e;
+                }
+                view = sorting;
+            }
+        }
+        return view.join();
+    }
+
+    /**
+     * @param ordering ordering of the rows
+     * @return new view, not cached
+     */
+    View sort(Ordering ordering) {
+        long[] keys = new long[ids.length];
+        switch (ordering) {
+            case BY_ID:
+                Arrays.parallelSetAll(keys, row -> (long) ids[row] << Integer.SIZE | row);
+                break;
+            case BY_ID_DESCENDING:
+                Arrays.parallelSetAll(keys, row -> (long) ~ids[row] << Integer.SIZE | row);
+                break;
+            case BY_NAME:
+                Arrays.parallelSetAll(keys, row -> (long) nameCodes[row] << Integer.SIZE | row);
+                break;
+            case BY_NAME_DESCENDING:
+                Arrays.parallelSetAll(keys, row -> (long) ~nameCodes[row] << Integer.SIZE | row);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown ordering " + ordering);
+        }
+        Arrays.parallelSort(keys);
+        int[] rows = new int[keys.length];
+        Arrays.parallelSetAll(rows, position -> (int) keys[position]);
+        return new View(rows);
+    }
+
+    /**
+     * Rows of the table in an ordering, read by their position in it.
+     */
+    final class View {
+        private final int[] rows;
+
+        private View(int[] rows) {
+            this.rows = rows;
+        }
+
+        int size() {
+            return rows.length;
+        }
+
+        /**
+         * @param position position in the ordering
+         * @return index of the row at the position
+         * @throws ArrayIndexOutOfBoundsException if position is out of the view
+         */
+        int row(int position) {
+            return rows[position];
+        }
+
+        int id(int position) {
+            return ids[rows[position]];
+        }
+
+        String name(int position) {
+            return PersonTable.this.name(rows[position]);
+        }
+
+        Person person(int position) {
+            return PersonTable.this.person(rows[position]);
+        }
+
+        /**
+         * Passes the name and the id of every row to the action, in the ordering.
+         *
+         * @param action action receiving the name and the id
+         * @throws NullPointerException if action is null
+         */
+        void forEach(ObjIntConsumer<String> action) {
+            for (int row : rows) {
+                action.accept(PersonTable.this.name(row), ids[row]);
+            }
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.epam.prejap.ess.helpers.objectscompare;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+/**
+ * Comparison of a List of {@link Person}s sorted with Collections.sort with a {@link PersonTable}:
+ * the time of sorting the list and of building a view of the table for every ordering, and the time of reading
+ * all the people in the sorted list and in a cached view. The names follow {@link NameDistribution}.
+ * <p>
+ * Before the benchmarks the main method prints the heap taken by a million people in a list and in a table
+ * with the views of all orderings, measured as the used heap after a full garbage collection. It does so for
+ * the names of {@link NameDistribution}, which repeat, and for the same names made distinct by the id appended.
+ */
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@Threads(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@Measurement(iterations = 20, timeUnit = TimeUnit.MILLISECONDS, time = 100)
+@Warmup(iterations = 10, timeUnit = TimeUnit.MILLISECONDS, time = 100)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PersonTableBenchmark {
+
+    private static final int FOOTPRINT_SIZE = 1_000_000;
+
+    public static void main(String[] args) throws Exception {
+        printFootprint();
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    @Benchmark
+    public List<Person> listSortBenchmark(BenchmarkInput input) {
+        List<Person> people = input.people();
+        Collections.sort(people, input.ordering.comparator());
+        return people;
+    }
+
+    @Benchmark
+    public PersonTable.View tableSortBenchmark(BenchmarkInput input) {
+        return input.table.sort(input.ordering);
+    }
+
+    @Benchmark
+    public long listReadBenchmark(BenchmarkInput input) {
+        long sum = 0;
+        for (Person person : input.sortedList) {
+            sum += person.id() + person.name().length();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long viewReadBenchmark(BenchmarkInput input) {
+        PersonTable.View view = input.table.view(input.ordering);
+        long sum = 0;
+        for (int position = 0; position < view.size(); position++) {
+            sum += view.id(position) + view.name(position).length();
+        }
+        return sum;
+    }
+
+    private static void printFootprint() {
+        printFootprint("repeated names", NameDistribution::people);
+        printFootprint("distinct names", (size, seed) -> {
+            List<Person> people = NameDistribution.people(size, seed);
+            people.replaceAll(person -> new Person(person.id(), person.name() + " " + person.id()));
+            return people;
+        });
+    }
+
+    private static void printFootprint(String names, BiFunction<Integer, Long, List<Person>> generator) {
+        long empty = usedHeap();
+        List<Person> people = generator.apply(FOOTPRINT_SIZE, 42L);
+        long list = usedHeap() - empty;
+        PersonTable table = PersonTable.of(people);
+        for (PersonTable.Ordering ordering : PersonTable.Ordering.values()) {
+            table.view(ordering);
+        }
+        people = null;
+        long tableWithViews = usedHeap() - empty;
+        System.out.format("%d people, %s: list %d MB, table with %d views %d MB%n", table.size(), names, list >> 20,
+                PersonTable.Ordering.values().length, tableWithViews >> 20);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Orderings of the benchmarks, a public parameter type for the generated code of JMH.
+     */
+    public enum Order {
+        BY_ID(PersonTable.Ordering.BY_ID),
+        BY_NAME(PersonTable.Ordering.BY_NAME),
+        BY_NAME_DESCENDING(PersonTable.Ordering.BY_NAME_DESCENDING);
+
+        final PersonTable.Ordering ordering;
+
+        Order(PersonTable.Ordering ordering) {
+            this.ordering = ordering;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class BenchmarkInput {
+        @Param({"100000", "1000000"})
+        int size;
+        @Param({"BY_ID", "BY_NAME", "BY_NAME_DESCENDING"})
+        Order order;
+        PersonTable.Ordering ordering;
+        PersonTable table;
+        List<Person> sortedList;
+        private List<Person> unsorted;
+        private List<Person> sorted;
+
+        @Setup
+        public void setUp() {
+            ordering = order.ordering;
+            unsorted = NameDistribution.people(size, 42);
+            Collections.shuffle(unsorted, new Random(42));
+            sorted = new ArrayList<>(unsorted);
+            sortedList = new ArrayList<>(unsorted);
+            sortedList.sort(ordering.comparator());
+            table = PersonTable.of(unsorted);
+            table.view(ordering);
+        }
+
+        List<Person> people() {
+            Collections.copy(sorted, unsorted);
+            return sorted;
+        }
+    }
+}
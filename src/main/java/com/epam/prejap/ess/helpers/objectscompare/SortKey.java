@@ -0,0 +1,293 @@
+package com.epam.prejap.ess.helpers.objectscompare;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+import java.util.function.ToIntFunction;
+
+/**
+ * Order of objects by their int fields, sorted by normalized keys instead of calling a {@link Comparator}
+ * for every comparison, like comparingInt(Person::id).reversed() in {@link TaskObjectsCompare}.
+ * <p>
+ * The key of an object is built once: the fields become unsigned big-endian numbers, with the sign bit flipped
+ * so negative values come first and all bits inverted for descending fields, preceded by a byte that puts nulls
+ * first or last. Comparing two keys as unsigned bytes gives the order of the equivalent {@link #comparator()}.
+ * <p>
+ * The objects are sorted by sorting the positions of their keys and moving the objects to their new positions.
+ * When a key and the position fit in a long they are packed into one and sorted with Arrays.sort, otherwise the
+ * positions are sorted with a least significant digit radix sort of the key bytes. Both sorts are stable,
+ * like Collections.sort with the comparator. Two null objects are equal, where the comparator of an order with
+ * nulls first or last followed by more fields would throw a NullPointerException.
+ * <p>
+ * Orders are immutable, so they can be kept in constants and shared between threads.
+ *
+ * @param <T> type of the sorted objects
+ * @see TaskObjectsCompare
+ */
+final class SortKey<T> {
+
+    private static final int RADIX = 1 << Byte.SIZE;
+
+    private final ToIntFunction<? super T>[] fields;
+    private final boolean[] descending;
+    private final Nulls nulls;
+
+    private SortKey(ToIntFunction<? super T>[] fields, boolean[] descending, Nulls nulls) {
+        this.fields = fields;
+        this.descending = descending;
+        this.nulls = nulls;
+    }
+
+    /**
+     * Placement of null objects.
+     */
+    private enum Nulls {
+        NOT_ALLOWED, FIRST, LAST;
+
+        Nulls reversed() {
+            return this == FIRST ? LAST : this == LAST ? FIRST : NOT_ALLOWED;
+        }
+    }
+
+    /**
+     * @param field int field of the objects
+     * @return order by the field, ascending, like Comparator.comparingInt
+     * @throws NullPointerException if field is null
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static <T> SortKey<T> comparingInt(ToIntFunction<? super T> field) {
+        Objects.requireNonNull(field);
+        return new SortKey<>(new ToIntFunction[]{field}, new boolean[1], Nulls.NOT_ALLOWED);
+    }
+
+    /**
+     * @param field int field of the objects
+     * @return order by this order, then by the field, ascending, like Comparator.thenComparingInt
+     * @throws NullPointerException if field is null
+     */
+    SortKey<T> thenComparingInt(ToIntFunction<? super T> field) {
+        Objects.requireNonNull(field);
+        ToIntFunction<? super T>[] moreFields = Arrays.copyOf(fields, fields.length + 1);
+        moreFields[fields.length] = field;
+        return new SortKey<>(moreFields, Arrays.copyOf(descending, descending.length + 1), nulls);
+    }
+
+    /**
+     * @return reverse of this order, with the nulls on the other side, like Comparator.reversed
+     */
+    SortKey<T> reversed() {
+        boolean[] reversed = new boolean[descending.length];
+        for (int i = 0; i < reversed.length; i++) {
+            reversed[i] = !descending[i];
+        }
+        return new SortKey<>(fields, reversed, nulls.reversed());
+    }
+
+    /**
+     * @param order order of the non-null objects
+     * @return order with null objects first, like Comparator.nullsFirst
+     */
+    static <T> SortKey<T> nullsFirst(SortKey<T> order) {
+        return new SortKey<>(order.fields, order.descending, Nulls.FIRST);
+    }
+
+    /**
+     * @param order order of the non-null objects
+     * @return order with null objects last, like Comparator.nullsLast
+     */
+    static <T> SortKey<T> nullsLast(SortKey<T> order) {
+        return new SortKey<>(order.fields, order.descending, Nulls.LAST);
+    }
+
+    /**
+     * @return comparator of the same order
+     */
+    Comparator<T> comparator() {
+        Comparator<T> comparator = null;
+        for (int i = 0; i < fields.length; i++) {
+            Comparator<T> field = Comparator.comparingInt(fields[i]);
+            field = descending[i] ? field.reversed() : field;
+            comparator = comparator == null ? field : comparator.thenComparing(field);
+        }
+        if (nulls == Nulls.FIRST) {
+            return Comparator.nullsFirst(comparator);
+        }
+        return nulls == Nulls.LAST ? Comparator.nullsLast(comparator) : comparator;
+    }
+
+    /**
+     * @return number of bytes of the keys
+     */
+    int keyBytes() {
+        return (nulls == Nulls.NOT_ALLOWED ? 0 : 1) + fields.length * Integer.BYTES;
+    }
+
+    /**
+     * Returns the normalized key of the object. Keys of two objects compared with Arrays.compareUnsigned
+     * have the sign of the comparison of the objects.
+     *
+     * @param element object, null if the order places nulls
+     * @return key of the object
+     * @throws NullPointerException if element is null and the order does not place nulls
+     */
+    byte[] key(T element) {
+        byte[] key = new byte[keyBytes()];
+        encode(element, key, 0);
+        return key;
+    }
+
+    /**
+     * Sorts the array into this order.
+     *
+     * @param array objects to sort
+     * @throws NullPointerException if array is null, or if it holds null and the order does not place nulls
+     */
+    void sort(T[] array) {
+        int[] order = order(array);
+        T[] sorted = array.clone();
+        for (int i = 0; i < order.length; i++) {
+            sorted[i] = array[order[i]];
+        }
+        System.arraycopy(sorted, 0, array, 0, sorted.length);
+    }
+
+    /**
+     * Sorts the list into this order, setting its elements in their new order like List.sort.
+     *
+     * @param list objects to sort
+     * @throws NullPointerException if list is null, or if it holds null and the order does not place nulls
+     */
+    @SuppressWarnings("unchecked")
+    void sort(List<T> list) {
+        T[] array = (T[]) list.toArray();
+        sort(array);
+        ListIterator<T> iterator = list.listIterator();
+        for (T element : array) {
+            iterator.next();
+            iterator.set(element);
+        }
+    }
+
+    /**
+     * Returns the positions of the objects in this order, the one of the first object first.
+     *
+     * @param array objects to order
+     * @return positions of the objects in the array, ties in the order of the array
+     * @throws NullPointerException if array is null, or if it holds null and the order does not place nulls
+     */
+    int[] order(T[] array) {
+        int length = array.length;
+        int positionBits = Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(length - 1, 0));
+        if (keyBytes() * Byte.SIZE + positionBits <= Long.SIZE) {
+            return orderByLongKeys(array, positionBits);
+        }
+        return orderByByteKeys(array);
+    }
+
+    /**
+     * Packs every key with the position of its object below it into a long and sorts them as unsigned numbers,
+     * so equal keys are ordered by position.
+     */
+    private int[] orderByLongKeys(T[] array, int positionBits) {
+        long[] packed = new long[array.length];
+        for (int i = 0; i < packed.length; i++) {
+            packed[i] = (encode(array[i]) << positionBits | i) ^ Long.MIN_VALUE;
+        }
+        Arrays.sort(packed);
+        int[] order = new int[packed.length];
+        long positionMask = (1L << positionBits) - 1;
+        for (int i = 0; i < order.length; i++) {
+            order[i] = (int) (packed[i] & positionMask);
+        }
+        return order;
+    }
+
+    /**
+     * Sorts the positions by the bytes of the keys from the last one, stably, skipping the bytes equal in all keys.
+     */
+    private int[] orderByByteKeys(T[] array) {
+        int length = array.length;
+        int width = keyBytes();
+        byte[] keys = new byte[length * width];
+        for (int i = 0; i < length; i++) {
+            encode(array[i], keys, i * width);
+        }
+        int[] order = new int[length];
+        for (int i = 0; i < length; i++) {
+            order[i] = i;
+        }
+        if (length < 2) {
+            return order;
+        }
+        int[] moved = new int[length];
+        int[] counts = new int[RADIX];
+        for (int digit = width - 1; digit >= 0; digit--) {
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < length; i++) {
+                counts[keys[i * width + digit] & 0xFF]++;
+            }
+            if (counts[keys[digit] & 0xFF] == length) {
+                continue;
+            }
+            for (int bucket = 0, start = 0; bucket < RADIX; bucket++) {
+                int count = counts[bucket];
+                counts[bucket] = start;
+                start += count;
+            }
+            for (int position : order) {
+                moved[counts[keys[position * width + digit] & 0xFF]++] = position;
+            }
+            int[] swap = order;
+            order = moved;
+            moved = swap;
+        }
+        return order;
+    }
+
+    /**
+     * @return key of the object as an unsigned number, for keys of at most 8 bytes
+     */
+    private long encode(T element) {
+        long key = 0;
+        if (nulls != Nulls.NOT_ALLOWED) {
+            key = nullByte(element);
+            if (element == null) {
+                return key << (fields.length * Integer.SIZE);
+            }
+        }
+        for (int i = 0; i < fields.length; i++) {
+            key = key << Integer.SIZE | (field(element, i) & 0xFFFFFFFFL);
+        }
+        return key;
+    }
+
+    private void encode(T element, byte[] key, int offset) {
+        if (nulls != Nulls.NOT_ALLOWED) {
+            key[offset++] = (byte) nullByte(element);
+            if (element == null) {
+                return;
+            }
+        }
+        for (int i = 0; i < fields.length; i++) {
+            int value = field(element, i);
+            key[offset++] = (byte) (value >>> 24);
+            key[offset++] = (byte) (value >>> 16);
+            key[offset++] = (byte) (value >>> 8);
+            key[offset++] = (byte) value;
+        }
+    }
+
+    private int nullByte(T element) {
+        return (element == null) == (nulls == Nulls.FIRST) ? 0 : 1;
+    }
+
+    /**
+     * @return value of the field with the sign bit flipped, inverted for descending fields
+     */
+    private int field(T element, int index) {
+        int value = fields[index].applyAsInt(element) ^ Integer.MIN_VALUE;
+        return descending[index] ? ~value : value;
+    }
+}
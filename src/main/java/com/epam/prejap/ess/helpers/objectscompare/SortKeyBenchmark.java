@@ -0,0 +1,89 @@
+package com.epam.prejap.ess.helpers.objectscompare;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Comparison of sorting a list of {@link Person}s with Collections.sort and a comparator and with the equivalent
+ * {@link SortKey}, by id descending as in {@link TaskObjectsCompare} and by id descending, then by the length
+ * of the name, whose keys do not fit in a long with the position. Every benchmark first copies the unsorted people
+ * into the sorted list, which takes the same time for all of them.
+ */
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@Threads(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@Measurement(iterations = 20, timeUnit = TimeUnit.MILLISECONDS, time = 100)
+@Warmup(iterations = 10, timeUnit = TimeUnit.MILLISECONDS, time = 100)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SortKeyBenchmark {
+
+    private static final Comparator<Person> BY_ID_DESCENDING = Comparator.comparingInt(Person::id).reversed();
+    private static final Comparator<Person> BY_ID_DESCENDING_THEN_NAME_LENGTH =
+            BY_ID_DESCENDING.thenComparingInt(person -> person.name().length());
+    private static final SortKey<Person> KEY_BY_ID_DESCENDING = SortKey.<Person>comparingInt(Person::id).reversed();
+    private static final SortKey<Person> KEY_BY_ID_DESCENDING_THEN_NAME_LENGTH =
+            KEY_BY_ID_DESCENDING.thenComparingInt(person -> person.name().length());
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    @Benchmark
+    public List<Person> collectionsSortByIdBenchmark(BenchmarkInput input) {
+        List<Person> people = input.people();
+        Collections.sort(people, BY_ID_DESCENDING);
+        return people;
+    }
+
+    @Benchmark
+    public List<Person> sortKeyByIdBenchmark(BenchmarkInput input) {
+        List<Person> people = input.people();
+        KEY_BY_ID_DESCENDING.sort(people);
+        return people;
+    }
+
+    @Benchmark
+    public List<Person> collectionsSortByIdThenNameBenchmark(BenchmarkInput input) {
+        List<Person> people = input.people();
+        Collections.sort(people, BY_ID_DESCENDING_THEN_NAME_LENGTH);
+        return people;
+    }
+
+    @Benchmark
+    public List<Person> sortKeyByIdThenNameBenchmark(BenchmarkInput input) {
+        List<Person> people = input.people();
+        KEY_BY_ID_DESCENDING_THEN_NAME_LENGTH.sort(people);
+        return people;
+    }
+
+    @State(Scope.Thread)
+    public static class BenchmarkInput {
+        private static final String[] NAMES = {"Lukasz", "Anthony", "David", "Ann", "Bartholomew"};
+
+        @Param({"100000", "10000000"})
+        int size;
+        private List<Person> unsorted;
+        private List<Person> sorted;
+
+        @Setup
+        public void setUp() {
+            SplittableRandom random = new SplittableRandom(42);
+            unsorted = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                unsorted.add(new Person(random.nextInt(), NAMES[random.nextInt(NAMES.length)]));
+            }
+            sorted = new ArrayList<>(unsorted);
+        }
+
+        List<Person> people() {
+            Collections.copy(sorted, unsorted);
+            return sorted;
+        }
+    }
+}
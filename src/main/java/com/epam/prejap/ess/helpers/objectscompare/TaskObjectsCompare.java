@@ -1,6 +1,7 @@
 package com.epam.prejap.ess.helpers.objectscompare;
 
 import java.io.PrintStream;
+import java.text.Collator;
 import java.util.*;
 
 /**
@@ -33,6 +34,20 @@ final class TaskObjectsCompare {
         Collections.sort(people, Comparator.comparingInt(Person::id).reversed());
         out.println("Comparator by id descending:" + people);
 
+        //sorting by name using collation keys of the names, computed once per distinct name
+        Collections.sort(people, CachedNameComparator.collating(Collator.getInstance(Locale.ROOT)));
+        out.println("Comparator by collation keys of names:" + people);
+
+        //sorting by id descending using normalized keys instead of calling the comparator for every comparison
+        SortKey.<Person>comparingInt(Person::id).reversed().sort(people);
+        out.println("Sort key by id descending:" + people);
+
+        //reading a columnar table of the people in a sorted view, without sorting the people themselves
+        PersonTable.View byName = PersonTable.of(people).view(PersonTable.Ordering.BY_NAME);
+        StringJoiner names = new StringJoiner(", ", "[", "]");
+        byName.forEach((name, id) -> names.add(id + " " + name));
+        out.println("Table view by name ascending:" + names);
+
         //comparing two objects using helper Objects class and its compare() with comparator
         out.println("Lukasz - Anthony/by name asc/returns positive number: " + Objects.compare(lukasz, anthony, new PersonByNameComparator()));
         out.println("Lukasz - Anthony/by id asc/returns negative number: " + Objects.compare(lukasz, anthony, Comparator.comparingInt(Person::id)));
@@ -49,12 +64,13 @@ final class TaskObjectsCompare {
 /**
  * Represents Person with name and id.
  *
- * Implements {@link Comparable<Person>} for comparing by id/ascending as natural order.
+ * Implements {@link Comparable<Person>} for comparing by id/ascending as natural order,
+ * with Integer.compare, as subtracting the ids overflows for ids far apart.
  */
 record Person(int id, String name) implements Comparable<Person> {
     @Override
     public int compareTo(final Person o) {
-        return this.id - o.id;
+        return Integer.compare(this.id, o.id);
     }
 }
 
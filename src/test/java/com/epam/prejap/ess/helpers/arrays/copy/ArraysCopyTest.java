@@ -52,6 +52,16 @@ public class ArraysCopyTest {
         Assert.assertEquals(actual, EXPECTED_ARRAY);
     }
 
+    @Test
+    public void shouldReturnTheSameArray_whenCopiedWithBinaryCodec() {
+
+        //when
+        int[] actual = ArraysCopy.copyWithBinaryCodec(EXPECTED_ARRAY);
+
+        //then
+        Assert.assertEquals(actual, EXPECTED_ARRAY);
+    }
+
     @Test
     public void shouldReturnTheSameArray_whenCopiedWithSystemArrayCopy() {
 
@@ -72,6 +82,60 @@ public class ArraysCopyTest {
         Assert.assertEquals(actual, EXPECTED_ARRAY);
     }
 
+    @Test
+    public void shouldReturnTheSameArray_whenCopiedWithParallelArrayCopy() {
+
+        //when
+        int[] actual = ArraysCopy.copyWithParallelArrayCopy(EXPECTED_ARRAY);
+
+        //then
+        Assert.assertEquals(actual, EXPECTED_ARRAY);
+    }
+
+    @Test
+    public void shouldWriteIntoDestination_whenCopiedWithSystemArrayCopy() {
+        //given
+        int[] destination = new int[EXPECTED_ARRAY.length];
+
+        //when
+        int[] actual = ArraysCopy.copyWithSystemArrayCopy(EXPECTED_ARRAY, destination);
+
+        //then
+        Assert.assertSame(actual, destination);
+        Assert.assertEquals(actual, EXPECTED_ARRAY);
+    }
+
+    @Test
+    public void shouldWriteIntoDestination_whenCopiedForLoop() {
+        //given
+        int[] destination = new int[EXPECTED_ARRAY.length];
+
+        //when
+        int[] actual = ArraysCopy.copyWithForLoop(EXPECTED_ARRAY, destination);
+
+        //then
+        Assert.assertSame(actual, destination);
+        Assert.assertEquals(actual, EXPECTED_ARRAY);
+    }
+
+    @Test
+    public void shouldWriteIntoDestination_whenCopiedWithParallelArrayCopy() {
+        //given
+        int[] destination = new int[EXPECTED_ARRAY.length];
+
+        //when
+        int[] actual = ArraysCopy.copyWithParallelArrayCopy(EXPECTED_ARRAY, destination);
+
+        //then
+        Assert.assertSame(actual, destination);
+        Assert.assertEquals(actual, EXPECTED_ARRAY);
+    }
+
+    @Test(expectedExceptions = ArrayIndexOutOfBoundsException.class)
+    public void shouldThrownAnException_whenDestinationIsTooShort() {
+        ArraysCopy.copyWithSystemArrayCopy(EXPECTED_ARRAY, new int[10]);
+    }
+
     @Test(expectedExceptions = NullPointerException.class)
     public void shouldThrownAnException_whenSourceArrayIsNull() {
         ArraysCopy.copyWithSystemArrayCopy(null);
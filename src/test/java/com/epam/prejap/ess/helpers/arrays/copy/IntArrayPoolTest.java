@@ -0,0 +1,108 @@
+package com.epam.prejap.ess.helpers.arrays.copy;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+
+@Test(groups = "ArrayCopy")
+public class IntArrayPoolTest {
+
+    @DataProvider
+    public Object[][] lengthsAndSizeClasses() {
+        return new Object[][]{{0, 0}, {1, 0}, {2, 1}, {3, 2}, {4, 2}, {5, 3}, {1000, 10}, {1024, 10}, {1 << 30, 30}};
+    }
+
+    @Test(dataProvider = "lengthsAndSizeClasses")
+    public void shouldRoundLengthUpToPowerOfTwo(int length, int expected) {
+        //when
+        int actual = IntArrayPool.sizeClassOf(length);
+
+        //then
+        Assert.assertEquals(actual, expected);
+    }
+
+    @Test
+    public void shouldReturnArrayOfPowerOfTwoLength() {
+        //given
+        IntArrayPool pool = new IntArrayPool();
+
+        //when
+        int[] array = pool.acquire(1000);
+
+        //then
+        Assert.assertEquals(array.length, 1024);
+    }
+
+    @Test
+    public void shouldReuseReleasedArray() {
+        //given
+        IntArrayPool pool = new IntArrayPool();
+        int[] released = pool.acquire(100);
+        pool.release(released);
+
+        //when
+        int[] acquired = pool.acquire(120);
+
+        //then
+        Assert.assertSame(acquired, released);
+    }
+
+    @Test
+    public void shouldReuseArrayReleasedByAnotherThread() {
+        //given
+        IntArrayPool pool = new IntArrayPool(0, 1);
+        int[] released = pool.acquire(16);
+        CompletableFuture.runAsync(() -> pool.release(released)).join();
+
+        //when
+        int[] acquired = pool.acquire(16);
+
+        //then
+        Assert.assertSame(acquired, released);
+    }
+
+    @Test
+    public void shouldDropArray_whenCachesAreFull() {
+        //given
+        IntArrayPool pool = new IntArrayPool(1, 0);
+        int[] first = pool.acquire(8);
+        int[] second = pool.acquire(8);
+        pool.release(first);
+        pool.release(second);
+
+        //when
+        int[] acquired = pool.acquire(8);
+        int[] allocated = pool.acquire(8);
+
+        //then
+        Assert.assertSame(acquired, first);
+        Assert.assertNotSame(allocated, second);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldThrowAnException_whenReleasedArrayIsNotPowerOfTwo() {
+        new IntArrayPool().release(new int[10]);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldThrowAnException_whenLengthIsNegative() {
+        new IntArrayPool().acquire(-1);
+    }
+
+    @Test
+    public void shouldCopyIntoPooledDestination() {
+        //given
+        IntArrayPool pool = new IntArrayPool();
+        int[] source = {1, 2, 3, 4, 5};
+
+        //when
+        int[] actual = ArraysCopy.copyWithPooledDestination(source, pool);
+
+        //then
+        Assert.assertEquals(actual.length, 8);
+        Assert.assertEquals(Arrays.copyOf(actual, source.length), source);
+    }
+}
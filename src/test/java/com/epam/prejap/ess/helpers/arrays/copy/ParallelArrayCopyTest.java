@@ -0,0 +1,143 @@
+package com.epam.prejap.ess.helpers.arrays.copy;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+@Test(groups = "ArrayCopy")
+public class ParallelArrayCopyTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterClass
+    public void shutDownPool() {
+        pool.shutdown();
+    }
+
+    @DataProvider
+    public Object[][] sizes() {
+        return new Object[][]{{0}, {1}, {63}, {64}, {1_000}, {4_099}};
+    }
+
+    @Test(dataProvider = "sizes")
+    public void shouldReturnTheSameArray_whenCopiedInChunks(int size) {
+        //given
+        int[] expected = IntStream.range(0, size).toArray();
+        int[] actual = new int[size];
+
+        //when
+        ParallelArrayCopy.parallelCopy(pool, expected, 0, actual, 0, size, 64, 64);
+
+        //then
+        Assert.assertEquals(actual, expected);
+    }
+
+    @Test
+    public void shouldReturnTheSameArray_whenCopiedWithDefaultThreshold() {
+        //given
+        int[] expected = IntStream.range(0, 10_000).toArray();
+
+        //when
+        int[] actual = ParallelArrayCopy.copy(expected);
+
+        //then
+        Assert.assertEquals(actual, expected);
+    }
+
+    @Test
+    public void shouldCopyOnlyTheGivenRange() {
+        //given
+        long[] source = new long[5_000];
+        Arrays.setAll(source, i -> i);
+        long[] actual = new long[source.length];
+        long[] expected = new long[source.length];
+        System.arraycopy(source, 10, expected, 20, 3_000);
+
+        //when
+        ParallelArrayCopy.parallelCopy(pool, source, 10, actual, 20, 3_000, 100, 100);
+
+        //then
+        Assert.assertEquals(actual, expected);
+    }
+
+    @Test
+    public void shouldCopyLongsDoublesAndBytes() {
+        //given
+        long[] longs = new long[1_000];
+        Arrays.setAll(longs, i -> i * 3L);
+        double[] doubles = new double[1_000];
+        Arrays.setAll(doubles, i -> i / 2.0);
+        byte[] bytes = new byte[1_000];
+        Arrays.fill(bytes, (byte) 7);
+
+        //when
+        long[] actualLongs = ParallelArrayCopy.copy(longs);
+        double[] actualDoubles = ParallelArrayCopy.copy(doubles);
+        byte[] actualBytes = ParallelArrayCopy.copy(bytes);
+
+        //then
+        Assert.assertEquals(actualLongs, longs);
+        Assert.assertEquals(actualDoubles, doubles);
+        Assert.assertEquals(actualBytes, bytes);
+    }
+
+    @Test
+    public void shouldBehaveLikeSystemArrayCopy_whenRangesOverlap() {
+        //given
+        int[] actual = IntStream.range(0, 6_000).toArray();
+        int[] expected = actual.clone();
+        System.arraycopy(expected, 0, expected, 1, 5_000);
+
+        //when
+        ParallelArrayCopy.parallelCopy(pool, actual, 0, actual, 1, 5_000, 64, 64);
+
+        //then
+        Assert.assertEquals(actual, expected);
+    }
+
+    @Test
+    public void shouldUseTheGivenPool() {
+        //given
+        ForkJoinPool pool = new ForkJoinPool(2);
+        int[] source = IntStream.range(0, 5_000).toArray();
+        int[] actual = new int[source.length];
+
+        //when
+        ParallelArrayCopy.copy(pool, source, 0, actual, 0, source.length);
+        pool.shutdown();
+
+        //then
+        Assert.assertEquals(actual, source);
+    }
+
+    @Test
+    public void shouldCopyInCallingThread_whenPoolHasSingleThread() {
+        //given
+        ForkJoinPool single = new ForkJoinPool(1);
+        int[] source = IntStream.range(0, 5_000).toArray();
+        int[] actual = new int[source.length];
+
+        //when
+        ParallelArrayCopy.parallelCopy(single, source, 0, actual, 0, source.length, 64, 64);
+        single.shutdown();
+
+        //then
+        Assert.assertEquals(actual, source);
+        Assert.assertEquals(single.getPoolSize(), 0);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void shouldThrowAnException_whenRangeIsOutOfBounds() {
+        ParallelArrayCopy.copy(new int[10], 5, new int[10], 0, 6);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void shouldThrowAnException_whenSourceArrayIsNull() {
+        ParallelArrayCopy.copy((int[]) null);
+    }
+}
@@ -0,0 +1,117 @@
+package com.epam.prejap.ess.helpers.arrays.copy;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.stream.IntStream;
+
+@Test(groups = "ArrayCopy")
+public class PersistentIntArrayTest {
+
+    @DataProvider
+    public Object[][] lengths() {
+        return new Object[][]{{0}, {1}, {63}, {64}, {65}, {2048}, {2049}, {70_001}};
+    }
+
+    @Test(dataProvider = "lengths")
+    public void shouldReturnTheSameElements_whenCreatedFromArray(int length) {
+        //given
+        int[] expected = IntStream.range(0, length).map(i -> i * 7).toArray();
+
+        //when
+        PersistentIntArray array = PersistentIntArray.of(expected);
+
+        //then
+        Assert.assertEquals(array.length(), length);
+        Assert.assertEquals(array.toArray(), expected);
+        Assert.assertEquals(array.stream().toArray(), expected);
+    }
+
+    @Test(dataProvider = "lengths")
+    public void shouldStartWithZeros_whenCreatedWithLength(int length) {
+        //when
+        PersistentIntArray array = new PersistentIntArray(length);
+
+        //then
+        Assert.assertEquals(array.toArray(), new int[length]);
+    }
+
+    @Test
+    public void shouldReturnWrittenValues() {
+        //given
+        PersistentIntArray array = new PersistentIntArray(5_000);
+
+        //when
+        array.set(0, 1);
+        array.set(64, 2);
+        array.set(4_999, 3);
+
+        //then
+        Assert.assertEquals(array.get(0), 1);
+        Assert.assertEquals(array.get(1), 0);
+        Assert.assertEquals(array.get(64), 2);
+        Assert.assertEquals(array.get(4_999), 3);
+    }
+
+    @Test
+    public void shouldNotShareWrites_betweenArrayAndSnapshot() {
+        //given
+        int[] values = IntStream.range(0, 3_000).toArray();
+        PersistentIntArray array = PersistentIntArray.of(values);
+        array.set(10, -1);
+
+        //when
+        PersistentIntArray snapshot = array.snapshot();
+        array.set(10, -2);
+        array.set(11, -3);
+        snapshot.set(2_999, -4);
+
+        //then
+        values[10] = -1;
+        int[] expectedSnapshot = values.clone();
+        expectedSnapshot[2_999] = -4;
+        values[10] = -2;
+        values[11] = -3;
+        Assert.assertEquals(array.toArray(), values);
+        Assert.assertEquals(snapshot.toArray(), expectedSnapshot);
+    }
+
+    @Test
+    public void shouldNotChangeZeroFilledArrays_whenAnotherOneIsWritten() {
+        //given
+        PersistentIntArray first = new PersistentIntArray(200);
+        PersistentIntArray second = first.snapshot();
+
+        //when
+        first.set(150, 1);
+
+        //then
+        Assert.assertEquals(second.get(150), 0);
+        Assert.assertEquals(first.get(150), 1);
+    }
+
+    @Test
+    public void shouldStreamElementsFromTheTimeOfTheCall() {
+        //given
+        PersistentIntArray array = PersistentIntArray.of(new int[]{1, 2, 3});
+
+        //when
+        IntStream stream = array.stream();
+        array.set(0, 9);
+
+        //then
+        Assert.assertEquals(stream.toArray(), new int[]{1, 2, 3});
+        Assert.assertEquals(array.toString(), "[9, 2, 3]");
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void shouldThrowAnException_whenIndexIsOutOfArray() {
+        new PersistentIntArray(65).get(65);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldThrowAnException_whenLengthIsNegative() {
+        new PersistentIntArray(-1);
+    }
+}
@@ -0,0 +1,131 @@
+package com.epam.prejap.ess.helpers.arrays.copy;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+@Test(groups = "ArrayCopy")
+public class PrimitiveArrayCodecTest {
+
+    @Test
+    public void shouldWriteLengthAndLittleEndianPayload() {
+        //when
+        byte[] actual = PrimitiveArrayCodec.INTS.encode(new int[]{1, 0x01020304});
+
+        //then
+        Assert.assertEquals(actual, new byte[]{2, 0, 0, 0, 1, 0, 0, 0, 4, 3, 2, 1});
+    }
+
+    @Test
+    public void shouldDecodeEncodedArraysOfAllTypes() {
+        //given
+        int[] ints = {Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE};
+        long[] longs = {Long.MIN_VALUE, -1L, 0L, Long.MAX_VALUE};
+        double[] doubles = {Double.NaN, -0.0, 1.5, Double.MAX_VALUE};
+        byte[] bytes = {Byte.MIN_VALUE, 0, Byte.MAX_VALUE};
+
+        //when
+        int[] actualInts = PrimitiveArrayCodec.INTS.decode(PrimitiveArrayCodec.INTS.encode(ints));
+        long[] actualLongs = PrimitiveArrayCodec.LONGS.decode(PrimitiveArrayCodec.LONGS.encode(longs));
+        double[] actualDoubles = PrimitiveArrayCodec.DOUBLES.decode(PrimitiveArrayCodec.DOUBLES.encode(doubles));
+        byte[] actualBytes = PrimitiveArrayCodec.BYTES.decode(PrimitiveArrayCodec.BYTES.encode(bytes));
+
+        //then
+        Assert.assertEquals(actualInts, ints);
+        Assert.assertEquals(actualLongs, longs);
+        Assert.assertTrue(Arrays.equals(actualDoubles, doubles));
+        Assert.assertEquals(actualBytes, bytes);
+    }
+
+    @Test
+    public void shouldEncodeSeveralArraysIntoOneBuffer() {
+        //given
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+
+        //when
+        PrimitiveArrayCodec.INTS.encode(new int[]{1, 2}, buffer);
+        PrimitiveArrayCodec.LONGS.encode(new long[]{3L}, buffer);
+        buffer.flip();
+
+        //then
+        Assert.assertEquals(PrimitiveArrayCodec.INTS.decode(buffer), new int[]{1, 2});
+        Assert.assertEquals(PrimitiveArrayCodec.LONGS.decode(buffer), new long[]{3L});
+        Assert.assertFalse(buffer.hasRemaining());
+    }
+
+    @Test(expectedExceptions = BufferOverflowException.class)
+    public void shouldThrowAnException_whenBufferIsTooSmall() {
+        PrimitiveArrayCodec.INTS.encode(new int[]{1, 2}, ByteBuffer.allocate(11));
+    }
+
+    @Test(expectedExceptions = BufferUnderflowException.class)
+    public void shouldThrowAnException_whenEncodedArrayIsTruncated() {
+        byte[] encoded = PrimitiveArrayCodec.INTS.encode(new int[]{1, 2});
+
+        PrimitiveArrayCodec.INTS.decode(Arrays.copyOf(encoded, encoded.length - 1));
+    }
+
+    @Test
+    public void shouldReadArraysBackFromStream_whenLargerThanChunk() throws IOException {
+        //given
+        long[] longs = new long[PrimitiveArrayCodec.CHUNK_BYTES / Long.BYTES * 2 + 3];
+        Arrays.setAll(longs, i -> i * 31L);
+        int[] ints = {7, 8, 9};
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        //when
+        PrimitiveArrayCodec.LONGS.write(longs, out);
+        PrimitiveArrayCodec.INTS.write(ints, out);
+        ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+
+        //then
+        Assert.assertEquals(PrimitiveArrayCodec.LONGS.read(in), longs);
+        Assert.assertEquals(PrimitiveArrayCodec.INTS.read(in), ints);
+        Assert.assertEquals(in.read(), -1);
+    }
+
+    @Test(expectedExceptions = EOFException.class)
+    public void shouldThrowAnException_whenStreamEndsInsideArray() throws IOException {
+        byte[] encoded = PrimitiveArrayCodec.INTS.encode(new int[]{1, 2});
+
+        PrimitiveArrayCodec.INTS.read(new ByteArrayInputStream(encoded, 0, encoded.length - 2));
+    }
+
+    @Test
+    public void shouldReadArrayBackFromFile() throws IOException {
+        //given
+        Path file = Files.createTempFile("codec", ".bin");
+        double[] expected = {1.0, 2.0, 3.0};
+
+        //when
+        PrimitiveArrayCodec.DOUBLES.write(new double[100], file);
+        PrimitiveArrayCodec.DOUBLES.write(expected, file);
+        double[] actual = PrimitiveArrayCodec.DOUBLES.read(file);
+        Files.delete(file);
+
+        //then
+        Assert.assertEquals(actual, expected);
+    }
+
+    @Test(expectedExceptions = EOFException.class)
+    public void shouldThrowAnException_whenFileIsShorterThanHeaderClaims() throws IOException {
+        Path file = Files.createTempFile("codec", ".bin");
+        try {
+            Files.write(file, new byte[]{(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x7F});
+
+            PrimitiveArrayCodec.INTS.read(file);
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.epam.prejap.ess.helpers.arrays.copy;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+@Test(groups = "ArrayCopy")
+public class TrackedIntArrayTest {
+
+    @Test
+    public void shouldCopyWholeArray_whenSyncedForTheFirstTime() {
+        //given
+        int[] values = IntStream.range(0, 1_000).toArray();
+        TrackedIntArray array = TrackedIntArray.of(values);
+        int[] mirror = new int[values.length];
+
+        //when
+        int copied = array.syncTo(mirror);
+
+        //then
+        Assert.assertEquals(copied, values.length);
+        Assert.assertEquals(mirror, values);
+        Assert.assertEquals(array.dirtyBlocks(), 0);
+    }
+
+    @Test
+    public void shouldCopyOnlyDirtyBlocks() {
+        //given
+        TrackedIntArray array = new TrackedIntArray(1_000);
+        int[] mirror = new int[1_000];
+        array.syncTo(mirror);
+
+        //when
+        array.set(5, 1);
+        array.set(130, 2);
+        array.set(999, 3);
+        int copied = array.syncTo(mirror);
+
+        //then
+        Assert.assertEquals(copied, 64 + 64 + 1_000 - 15 * 64);
+        Assert.assertEquals(mirror, array.toArray());
+    }
+
+    @Test
+    public void shouldJoinNeighbouringDirtyBlocks() {
+        //given
+        TrackedIntArray array = new TrackedIntArray(640);
+        int[] mirror = new int[640];
+        array.syncTo(mirror);
+        int[] source = IntStream.range(0, 200).toArray();
+
+        //when
+        array.copyFrom(source, 0, 60, 200);
+        array.set(300, 7);
+
+        //then
+        Assert.assertEquals(array.dirtyBlocks(), 5);
+        Assert.assertEquals(array.syncTo(mirror), 5 * 64);
+        Assert.assertEquals(mirror, array.toArray());
+    }
+
+    @Test
+    public void shouldCopyNothing_whenNothingWasWritten() {
+        //given
+        TrackedIntArray array = new TrackedIntArray(100);
+        int[] mirror = new int[100];
+        array.syncTo(mirror);
+        mirror[0] = 42;
+
+        //when
+        int copied = array.syncTo(mirror);
+
+        //then
+        Assert.assertEquals(copied, 0);
+        Assert.assertEquals(mirror[0], 42);
+    }
+
+    @Test
+    public void shouldKeepMirrorEqual_whenWrittenRandomly() {
+        //given
+        TrackedIntArray array = new TrackedIntArray(5_000);
+        int[] mirror = new int[5_000];
+        Random random = new Random(7);
+
+        //when
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 50; i++) {
+                array.set(random.nextInt(5_000), random.nextInt());
+            }
+            array.syncTo(mirror);
+        }
+
+        //then
+        Assert.assertEquals(mirror, array.toArray());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldThrowAnException_whenTargetLengthDiffers() {
+        new TrackedIntArray(10).syncTo(new int[11]);
+    }
+
+    @Test(expectedExceptions = ArrayIndexOutOfBoundsException.class)
+    public void shouldThrowAnException_whenIndexIsOutOfArray() {
+        new TrackedIntArray(10).set(10, 1);
+    }
+}
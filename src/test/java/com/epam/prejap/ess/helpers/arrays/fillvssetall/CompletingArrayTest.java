@@ -63,4 +63,34 @@ public class CompletingArrayTest {
         //then
         assertEquals(array, new int[]{1, 2, 3, 4});
     }
+
+    @Test
+    public void shouldReturnExpectedArrayUsingFillSelectedPartOfArrayBySetAllMethod() {
+        //given
+        array = new int[]{0, 0, 0, 0};
+        //when
+        CompletingArray.fillSelectedPartOfArrayBySetAll(array, 1, 3, i -> i * 10);
+        //then
+        assertEquals(array, new int[]{0, 10, 20, 0});
+    }
+
+    @Test
+    public void shouldReturnExpectedArrayUsingFillEntireArrayByParallelSetAllMethod() {
+        //given
+        array = new int[4];
+        //when
+        CompletingArray.fillEntireArrayByParallelSetAll(array, i -> i + 1);
+        //then
+        assertEquals(array, new int[]{1, 2, 3, 4});
+    }
+
+    @Test
+    public void shouldReturnExpectedArrayUsingFillEntireArrayByPatternMethod() {
+        //given
+        array = new int[5];
+        //when
+        CompletingArray.fillEntireArrayByPattern(array, 1, 2);
+        //then
+        assertEquals(array, new int[]{1, 2, 1, 2, 1});
+    }
 }
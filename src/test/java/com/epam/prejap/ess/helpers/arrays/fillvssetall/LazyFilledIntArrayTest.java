@@ -0,0 +1,97 @@
+package com.epam.prejap.ess.helpers.arrays.fillvssetall;
+
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+
+import static org.testng.Assert.*;
+
+@Test(groups = "CompletingArrays")
+public class LazyFilledIntArrayTest {
+
+    @Test
+    public void shouldReadFillValue_withoutMaterializingChunks() {
+        //given
+        LazyFilledIntArray array = new LazyFilledIntArray(10_000, 4);
+        //when
+        int first = array.get(0);
+        int last = array.get(9_999);
+        //then
+        assertEquals(first, 4);
+        assertEquals(last, 4);
+        assertEquals(array.materializedChunks(), 0);
+    }
+
+    @Test
+    public void shouldMaterializeOnlyWrittenChunk() {
+        //given
+        LazyFilledIntArray array = new LazyFilledIntArray(10_000, 4);
+        //when
+        array.set(2_000, 5);
+        array.set(3_000, 4);
+        //then
+        assertEquals(array.get(2_000), 5);
+        assertEquals(array.get(2_001), 4);
+        assertEquals(array.materializedChunks(), 1);
+    }
+
+    @Test
+    public void shouldMatchArraysFill_whenRangesAreFilled() {
+        //given
+        LazyFilledIntArray array = new LazyFilledIntArray(5_000, 1);
+        int[] expected = new int[5_000];
+        Arrays.fill(expected, 1);
+        int[][] ranges = {{0, 5_000}, {10, 20}, {1_000, 4_100}, {4_999, 5_000}, {1_024, 2_048}, {7, 7}};
+        //when
+        for (int i = 0; i < ranges.length; i++) {
+            array.fill(ranges[i][0], ranges[i][1], i + 2);
+            Arrays.fill(expected, ranges[i][0], ranges[i][1], i + 2);
+        }
+        //then
+        assertEquals(array.toArray(), expected);
+    }
+
+    @Test
+    public void shouldDropMaterializedChunks_whenWholeArrayIsFilled() {
+        //given
+        LazyFilledIntArray array = new LazyFilledIntArray(3_000, 0);
+        array.setAll(i -> i);
+        //when
+        array.fill(9);
+        //then
+        assertEquals(array.materializedChunks(), 0);
+        assertEquals(array.get(2_999), 9);
+    }
+
+    @Test
+    public void shouldReturnExpectedArrayUsingSetAll() {
+        //given
+        LazyFilledIntArray array = new LazyFilledIntArray(4, 0);
+        //when
+        array.setAll(i -> i + 1);
+        //then
+        assertEquals(array.toArray(), new int[]{1, 2, 3, 4});
+    }
+
+    @Test
+    public void shouldReturnSameStringAsCompletingArray() {
+        //given
+        LazyFilledIntArray array = new LazyFilledIntArray(5, 1);
+        array.set(2, 3);
+        //when
+        String actual = array.toString();
+        //then
+        assertEquals(actual, CompletingArray.getArrayAsString(new int[]{1, 1, 3, 1, 1}));
+        assertEquals(new LazyFilledIntArray(0, 1).toString(), "[]");
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void shouldThrowAnException_whenIndexIsOutOfArray() {
+        new LazyFilledIntArray(10, 0).set(10, 1);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldThrowAnException_whenFromIndexIsGreaterThanToIndex() {
+        new LazyFilledIntArray(10, 0).fill(5, 4, 1);
+    }
+}
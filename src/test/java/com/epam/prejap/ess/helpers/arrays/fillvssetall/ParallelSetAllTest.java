@@ -0,0 +1,73 @@
+package com.epam.prejap.ess.helpers.arrays.fillvssetall;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntUnaryOperator;
+
+import static org.testng.Assert.*;
+
+@Test(groups = "CompletingArrays")
+public class ParallelSetAllTest {
+    private static final IntUnaryOperator GENERATOR = i -> i * 3 + 1;
+
+    @DataProvider
+    public Object[][] rangesAndChunkSizes() {
+        return new Object[][]{{0, 0, 1}, {0, 10, 1}, {3, 1000, 7}, {0, 10_000, 64}, {17, 9_999, 10_000}};
+    }
+
+    @Test(dataProvider = "rangesAndChunkSizes")
+    public void shouldSetOnlyTheGivenRangeInParallel(int fromIndex, int toIndex, int chunkSize) {
+        //given
+        int[] array = new int[10_000];
+        int[] expected = new int[10_000];
+        for (int i = fromIndex; i < toIndex; i++) {
+            expected[i] = GENERATOR.applyAsInt(i);
+        }
+        ForkJoinPool pool = new ForkJoinPool(3);
+        //when
+        ParallelSetAll.parallelSetAll(pool, array, fromIndex, toIndex, chunkSize, GENERATOR);
+        pool.shutdown();
+        //then
+        assertEquals(array, expected);
+    }
+
+    @Test
+    public void shouldMatchArraysSetAll() {
+        //given
+        int[] array = new int[50_000];
+        int[] expected = new int[50_000];
+        Arrays.setAll(expected, GENERATOR);
+        //when
+        ParallelSetAll.parallelSetAll(array, GENERATOR);
+        //then
+        assertEquals(array, expected);
+    }
+
+    @Test
+    public void shouldSetOnlyTheGivenRange() {
+        //given
+        int[] array = {9, 9, 9, 9, 9};
+        //when
+        ParallelSetAll.setAll(array, 1, 4, i -> -i);
+        //then
+        assertEquals(array, new int[]{9, -1, -2, -3, 9});
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentException_whenFromIndexIsGreaterThanToIndex() {
+        ParallelSetAll.setAll(new int[5], 3, 2, GENERATOR);
+    }
+
+    @Test(expectedExceptions = ArrayIndexOutOfBoundsException.class)
+    public void shouldThrowArrayIndexOutOfBoundsException_whenToIndexIsOutOfArray() {
+        ParallelSetAll.setAll(new int[5], 0, 6, GENERATOR);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentException_whenChunkSizeIsNotPositive() {
+        ParallelSetAll.parallelSetAll(ForkJoinPool.commonPool(), new int[5], 0, 5, 0, GENERATOR);
+    }
+}
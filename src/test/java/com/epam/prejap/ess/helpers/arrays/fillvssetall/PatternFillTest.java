@@ -0,0 +1,77 @@
+package com.epam.prejap.ess.helpers.arrays.fillvssetall;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+
+import static org.testng.Assert.*;
+
+@Test(groups = "CompletingArrays")
+public class PatternFillTest {
+
+    @DataProvider
+    public Object[][] lengthsAndPatternLengths() {
+        return new Object[][]{{0, 3}, {1, 3}, {2, 3}, {3, 3}, {10, 3}, {1000, 1}, {1000, 7}, {1024, 16}, {5, 100}};
+    }
+
+    @Test(dataProvider = "lengthsAndPatternLengths")
+    public void shouldMatchSetAllWithModulo(int length, int patternLength) {
+        //given
+        int[] pattern = new int[patternLength];
+        Arrays.setAll(pattern, i -> i * 11 + 1);
+        int[] expected = new int[length];
+        Arrays.setAll(expected, i -> pattern[i % patternLength]);
+        int[] array = new int[length];
+        //when
+        PatternFill.fill(array, pattern);
+        //then
+        assertEquals(array, expected);
+    }
+
+    @Test
+    public void shouldStartPatternAtFromIndex() {
+        //given
+        int[] array = new int[8];
+        //when
+        PatternFill.fill(array, 2, 7, new int[]{1, 2, 3});
+        //then
+        assertEquals(array, new int[]{0, 0, 1, 2, 3, 1, 2, 0});
+    }
+
+    @Test
+    public void shouldFillLongsDoublesAndBytes() {
+        //given
+        long[] longs = new long[5];
+        double[] doubles = new double[4];
+        byte[] bytes = new byte[7];
+        //when
+        PatternFill.fill(longs, new long[]{Long.MAX_VALUE, 1L});
+        PatternFill.fill(doubles, 1, 4, new double[]{0.5});
+        PatternFill.fill(bytes, new byte[]{1, 2, 3});
+        //then
+        assertEquals(longs, new long[]{Long.MAX_VALUE, 1L, Long.MAX_VALUE, 1L, Long.MAX_VALUE});
+        assertEquals(doubles, new double[]{0.0, 0.5, 0.5, 0.5});
+        assertEquals(bytes, new byte[]{1, 2, 3, 1, 2, 3, 1});
+    }
+
+    @Test
+    public void shouldAcceptEmptyPattern_whenRangeIsEmpty() {
+        //given
+        int[] array = {1, 2};
+        //when
+        PatternFill.fill(array, 1, 1, new int[0]);
+        //then
+        assertEquals(array, new int[]{1, 2});
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentException_whenPatternIsEmpty() {
+        PatternFill.fill(new int[3], new int[0]);
+    }
+
+    @Test(expectedExceptions = ArrayIndexOutOfBoundsException.class)
+    public void shouldThrowArrayIndexOutOfBoundsException_whenToIndexIsOutOfArray() {
+        PatternFill.fill(new byte[3], 0, 4, new byte[]{1});
+    }
+}
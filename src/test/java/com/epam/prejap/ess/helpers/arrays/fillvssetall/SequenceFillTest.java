@@ -0,0 +1,86 @@
+package com.epam.prejap.ess.helpers.arrays.fillvssetall;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+
+import static org.testng.Assert.*;
+
+@Test(groups = "CompletingArrays")
+public class SequenceFillTest {
+    private static final int SIZE = 1_000;
+
+    @Test
+    public void shouldMatchSetAll_whenFilledWithArithmeticProgression() {
+        //given
+        int[] expected = new int[SIZE];
+        Arrays.setAll(expected, i -> 7 + i * 3_000_001);
+        int[] array = new int[SIZE];
+        //when
+        SequenceFill.arithmetic(array, 7, 3_000_001);
+        //then
+        assertEquals(array, expected);
+    }
+
+    @Test
+    public void shouldMatchSetAll_whenFilledWithGeometricProgression() {
+        //given
+        int[] expected = new int[SIZE];
+        expected[0] = 3;
+        for (int i = 1; i < SIZE; i++) {
+            expected[i] = expected[i - 1] * -5;
+        }
+        int[] array = new int[SIZE];
+        //when
+        SequenceFill.geometric(array, 3, -5);
+        //then
+        assertEquals(array, expected);
+    }
+
+    @DataProvider
+    public Object[][] moduli() {
+        return new Object[][]{{1}, {2}, {7}, {SIZE}, {SIZE + 1}};
+    }
+
+    @Test(dataProvider = "moduli")
+    public void shouldMatchSetAll_whenFilledWithModulo(int modulus) {
+        //given
+        int[] expected = new int[SIZE];
+        Arrays.setAll(expected, i -> -2 + i % modulus);
+        int[] array = new int[SIZE];
+        //when
+        SequenceFill.modulo(array, modulus, -2);
+        //then
+        assertEquals(array, expected);
+    }
+
+    @DataProvider
+    public Object[][] scalesAndOffsets() {
+        return new Object[][]{{1, 0}, {-1, -1}, {3, 5}, {-7, 100}, {Integer.MAX_VALUE, Integer.MIN_VALUE}};
+    }
+
+    @Test(dataProvider = "scalesAndOffsets")
+    public void shouldMatchSetAll_whenFilledWithAffineTransform(int scale, int offset) {
+        //given
+        int[] source = new int[37];
+        Arrays.setAll(source, i -> i * i);
+        int[] expected = new int[SIZE];
+        Arrays.setAll(expected, i -> source[Math.floorMod((long) scale * i + offset, source.length)]);
+        int[] array = new int[SIZE];
+        //when
+        SequenceFill.affine(array, source, scale, offset);
+        //then
+        assertEquals(array, expected);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentException_whenModulusIsNotPositive() {
+        SequenceFill.modulo(new int[3], 0, 0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentException_whenSourceIsEmpty() {
+        SequenceFill.affine(new int[3], new int[0], 1, 0);
+    }
+}
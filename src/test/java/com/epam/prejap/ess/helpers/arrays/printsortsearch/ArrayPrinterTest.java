@@ -0,0 +1,176 @@
+package com.epam.prejap.ess.helpers.arrays.printsortsearch;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+@Test(groups = "ArrayPrintSortSearch")
+public class ArrayPrinterTest {
+
+    @DataProvider
+    public Object[][] primitiveArrays() {
+        return new Object[][]{
+                {new int[]{}, Arrays.toString(new int[]{})},
+                {new int[]{42, -3, 0, Integer.MIN_VALUE, Integer.MAX_VALUE},
+                        Arrays.toString(new int[]{42, -3, 0, Integer.MIN_VALUE, Integer.MAX_VALUE})},
+                {new long[]{Long.MIN_VALUE, -1, Long.MAX_VALUE}, Arrays.toString(new long[]{Long.MIN_VALUE, -1, Long.MAX_VALUE})},
+                {new short[]{Short.MIN_VALUE, 7}, Arrays.toString(new short[]{Short.MIN_VALUE, 7})},
+                {new byte[]{Byte.MIN_VALUE, 7}, Arrays.toString(new byte[]{Byte.MIN_VALUE, 7})},
+                {new char[]{'a', 'b'}, Arrays.toString(new char[]{'a', 'b'})},
+                {new boolean[]{true, false}, Arrays.toString(new boolean[]{true, false})},
+                {new float[]{1.5f, Float.NaN}, Arrays.toString(new float[]{1.5f, Float.NaN})},
+                {new double[]{-0.0, 1e300}, Arrays.toString(new double[]{-0.0, 1e300})},
+        };
+    }
+
+    @Test(dataProvider = "primitiveArrays")
+    public void shouldPrintPrimitiveArrayLikeArraysToString(Object array, String expected) throws IOException {
+        //given
+        StringWriter out = new StringWriter();
+
+        //when
+        ArrayPrinter.DEFAULT.print(array, out);
+
+        //then
+        Assert.assertEquals(out.toString(), expected);
+    }
+
+    @Test
+    public void shouldPrintNestedArrayLikeArraysDeepToString() throws IOException {
+        //given
+        Object[] array = {"how", null, new int[]{1, 2}, new String[][]{{"six", "nine"}, {}}};
+        StringBuilder out = new StringBuilder();
+
+        //when
+        ArrayPrinter.DEFAULT.print(array, out);
+
+        //then
+        Assert.assertEquals(out.toString(), Arrays.deepToString(array));
+    }
+
+    @Test
+    public void shouldPrintCycleLikeArraysDeepToString() throws IOException {
+        //given
+        Object[] outer = new Object[2];
+        Object[] inner = {outer, "x"};
+        outer[0] = inner;
+        outer[1] = outer;
+        StringBuilder out = new StringBuilder();
+
+        //when
+        ArrayPrinter.DEFAULT.print(outer, out);
+
+        //then
+        Assert.assertEquals(out.toString(), "[[[...], x], [...]]");
+        Assert.assertEquals(out.toString(), Arrays.deepToString(outer));
+    }
+
+    @Test
+    public void shouldPrintSameArrayTwice_whenItIsNotItsOwnElement() throws IOException {
+        //given
+        int[] repeated = {1};
+        Object[] array = {repeated, repeated};
+        StringBuilder out = new StringBuilder();
+
+        //when
+        ArrayPrinter.DEFAULT.print(array, out);
+
+        //then
+        Assert.assertEquals(out.toString(), "[[1], [1]]");
+    }
+
+    @Test
+    public void shouldElideElementsOverLimitOfEveryArray() throws IOException {
+        //given
+        Object[] array = {new int[]{1, 2, 3, 4}, new int[]{5}, new int[]{6}};
+        StringBuilder out = new StringBuilder();
+
+        //when
+        ArrayPrinter.DEFAULT.withLimit(2).print(array, out);
+
+        //then
+        Assert.assertEquals(out.toString(), "[[1, 2, ... (2 more)], [5], ... (1 more)]");
+    }
+
+    @Test
+    public void shouldElideAllElements_whenLimitIsZero() throws IOException {
+        //given
+        StringBuilder out = new StringBuilder();
+
+        //when
+        ArrayPrinter.DEFAULT.withLimit(0).print(new int[]{1, 2, 3}, out);
+
+        //then
+        Assert.assertEquals(out.toString(), "[... (3 more)]");
+    }
+
+    @Test
+    public void shouldUseConfiguredSeparators() throws IOException {
+        //given
+        ArrayPrinter printer = ArrayPrinter.DEFAULT.withSeparators("{", ";", "}");
+        StringBuilder out = new StringBuilder();
+
+        //when
+        printer.print(new int[][]{{1, 2}, {3}}, out);
+
+        //then
+        Assert.assertEquals(out.toString(), "{{1;2};{3}}");
+    }
+
+    @Test
+    public void shouldPrintArrayLongerThanBuffer() throws IOException {
+        //given
+        int[] array = new int[ArrayPrinter.BUFFER_SIZE];
+        Arrays.setAll(array, i -> i * 31 - 1000);
+        StringWriter out = new StringWriter();
+
+        //when
+        ArrayPrinter.DEFAULT.print(array, out);
+
+        //then
+        Assert.assertEquals(out.toString(), Arrays.toString(array));
+    }
+
+    @Test
+    public void shouldEncodeSurrogatePairsSplitByBuffer() throws IOException {
+        //given
+        String[] array = new String[ArrayPrinter.BUFFER_SIZE / 3];
+        Arrays.fill(array, "a😀");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        //when
+        ArrayPrinter.DEFAULT.print(array, Channels.newChannel(bytes), StandardCharsets.UTF_8);
+
+        //then
+        Assert.assertEquals(bytes.toString(StandardCharsets.UTF_8), Arrays.toString(array));
+    }
+
+    @Test
+    public void shouldPrintNull() throws IOException {
+        //given
+        StringBuilder out = new StringBuilder();
+
+        //when
+        ArrayPrinter.DEFAULT.print(null, out);
+
+        //then
+        Assert.assertEquals(out.toString(), "null");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldThrowAnException_whenPrintedObjectIsNotAnArray() throws IOException {
+        ArrayPrinter.DEFAULT.print("not an array", new StringBuilder());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldThrowAnException_whenLimitIsNegative() {
+        ArrayPrinter.DEFAULT.withLimit(-1);
+    }
+}
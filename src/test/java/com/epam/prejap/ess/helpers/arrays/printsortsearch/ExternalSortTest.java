@@ -0,0 +1,212 @@
+package com.epam.prejap.ess.helpers.arrays.printsortsearch;
+
+import com.epam.prejap.ess.helpers.arrays.printsortsearch.ExternalSort.ElementType;
+import com.epam.prejap.ess.helpers.arrays.printsortsearch.ExternalSort.Phase;
+import com.epam.prejap.ess.helpers.arrays.printsortsearch.ExternalSort.Progress;
+import com.epam.prejap.ess.helpers.arrays.printsortsearch.ExternalSort.Statistics;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+@Test(groups = "ArrayPrintSortSearch")
+public class ExternalSortTest {
+
+    private Path directory;
+    private Path runs;
+
+    @BeforeMethod
+    public void createDirectories() throws IOException {
+        directory = Files.createTempDirectory("external-sort");
+        runs = Files.createDirectory(directory.resolve("runs"));
+    }
+
+    @AfterMethod
+    public void deleteDirectories() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    public void shouldSortIntsLikeArraysSort() throws IOException {
+        //given
+        int[] values = new Random(15).ints(5000).toArray();
+        Path input = write(values);
+        Path output = directory.resolve("sorted.bin");
+        int[] expected = values.clone();
+        Arrays.sort(expected);
+
+        //when
+        new ExternalSort(4096, runs, ForkJoinPool.commonPool(), progress -> {
+        }).sort(input, output, ElementType.INT);
+
+        //then
+        Assert.assertEquals(readInts(output), expected);
+    }
+
+    @Test
+    public void shouldSortLongsInPlace_whenOutputIsInput() throws IOException {
+        //given
+        long[] values = new Random(15).longs(3000).toArray();
+        Path input = write(values);
+        long[] expected = values.clone();
+        Arrays.sort(expected);
+
+        //when
+        new ExternalSort(4096, runs, ForkJoinPool.commonPool(), progress -> {
+        }).sort(input, input, ElementType.LONG);
+
+        //then
+        Assert.assertEquals(readLongs(input), expected);
+    }
+
+    @Test
+    public void shouldMergeRunsInSeveralPasses_whenTheyDoNotFitInBudget() throws IOException {
+        //given
+        int[] values = new Random(15).ints(2000, -50, 50).toArray();
+        Path input = write(values);
+        Path output = directory.resolve("sorted.bin");
+        int[] expected = values.clone();
+        Arrays.sort(expected);
+
+        //when
+        Statistics statistics = new ExternalSort(ExternalSort.MIN_MEMORY_BUDGET, runs, ForkJoinPool.commonPool(), progress -> {
+        }).sort(input, output, ElementType.INT);
+
+        //then
+        Assert.assertEquals(readInts(output), expected);
+        Assert.assertEquals(statistics.elements(), 2000);
+        Assert.assertEquals(statistics.runs(), 24);
+        Assert.assertEquals(statistics.mergePasses(), 5);
+    }
+
+    @Test
+    public void shouldDeleteRuns() throws IOException {
+        //given
+        Path input = write(new Random(15).ints(2000).toArray());
+
+        //when
+        new ExternalSort(ExternalSort.MIN_MEMORY_BUDGET, runs, ForkJoinPool.commonPool(), progress -> {
+        }).sort(input, directory.resolve("sorted.bin"), ElementType.INT);
+
+        //then
+        try (Stream<Path> files = Files.list(runs)) {
+            Assert.assertEquals(files.count(), 0);
+        }
+    }
+
+    @Test
+    public void shouldReportProgressOfBothPhases() throws IOException {
+        //given
+        Path input = write(new Random(15).ints(2000).toArray());
+        List<Progress> reported = new ArrayList<>();
+
+        //when
+        new ExternalSort(ExternalSort.MIN_MEMORY_BUDGET, runs, ForkJoinPool.commonPool(), reported::add)
+                .sort(input, directory.resolve("sorted.bin"), ElementType.INT);
+
+        //then
+        Progress lastSplit = reported.stream().filter(progress -> progress.phase() == Phase.SPLIT)
+                .reduce((first, second) -> second).orElseThrow();
+        Progress lastMerge = reported.get(reported.size() - 1);
+        Assert.assertEquals(lastSplit.processedBytes(), 8000);
+        Assert.assertEquals(lastSplit.fraction(), 1.0);
+        Assert.assertEquals(lastMerge.phase(), Phase.MERGE);
+        Assert.assertEquals(lastMerge.fraction(), 1.0);
+    }
+
+    @Test
+    public void shouldSortEmptyFile() throws IOException {
+        //given
+        Path input = write(new int[0]);
+        Path output = directory.resolve("sorted.bin");
+
+        //when
+        Statistics statistics = new ExternalSort(ExternalSort.MIN_MEMORY_BUDGET, runs, ForkJoinPool.commonPool(), progress -> {
+        }).sort(input, output, ElementType.INT);
+
+        //then
+        Assert.assertEquals(Files.size(output), 0);
+        Assert.assertEquals(statistics.runs(), 0);
+    }
+
+    @Test
+    public void shouldSearchSortedFileInPlace() throws IOException {
+        //given
+        int[] values = new Random(15).ints(3000, -1000, 1000).toArray();
+        Path output = directory.resolve("sorted.bin");
+        new ExternalSort(4096, runs, ForkJoinPool.commonPool(), progress -> {
+        }).sort(write(values), output, ElementType.INT);
+        int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        SortedFile file = SortedFile.open(output, ElementType.INT);
+
+        for (int key = -1001; key <= 1000; key++) {
+            //when
+            long actual = file.binarySearch(key);
+
+            //then
+            int expected = Arrays.binarySearch(sorted, key);
+            if (expected >= 0) {
+                Assert.assertEquals(file.get(actual), key);
+                Assert.assertTrue(actual == 0 || file.get(actual - 1) < key);
+            } else {
+                Assert.assertEquals(actual, expected);
+            }
+        }
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void shouldThrowAnException_whenFileSizeIsNotMultipleOfElementSize() throws IOException {
+        Path input = Files.write(directory.resolve("input.bin"), new byte[6]);
+        new ExternalSort(ExternalSort.MIN_MEMORY_BUDGET, runs, ForkJoinPool.commonPool(), progress -> {
+        }).sort(input, directory.resolve("sorted.bin"), ElementType.LONG);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldThrowAnException_whenBudgetIsTooSmall() {
+        new ExternalSort(ExternalSort.MIN_MEMORY_BUDGET - 1);
+    }
+
+    private Path write(int[] values) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asIntBuffer().put(values);
+        return Files.write(directory.resolve("input.bin"), buffer.array());
+    }
+
+    private Path write(long[] values) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asLongBuffer().put(values);
+        return Files.write(directory.resolve("input.bin"), buffer.array());
+    }
+
+    private static int[] readInts(Path file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+        int[] values = new int[buffer.remaining() / Integer.BYTES];
+        buffer.asIntBuffer().get(values);
+        return values;
+    }
+
+    private static long[] readLongs(Path file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+        long[] values = new long[buffer.remaining() / Long.BYTES];
+        buffer.asLongBuffer().get(values);
+        return values;
+    }
+}
@@ -0,0 +1,217 @@
+package com.epam.prejap.ess.helpers.arrays.printsortsearch;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+@Test(groups = "ArrayPrintSortSearch")
+public class PartialSortTest {
+
+    private static final Comparator<String> BY_LENGTH_NULLS_FIRST =
+            Comparator.nullsFirst(Comparator.comparingInt(String::length));
+
+    @DataProvider
+    public Object[][] ranks() {
+        return new Object[][]{{1, 0}, {10, 3}, {500, 0}, {500, 250}, {500, 499}, {1000, 777}};
+    }
+
+    @Test(dataProvider = "ranks")
+    public void shouldSelectIntLikeSort(int length, int rank) {
+        //given
+        int[] array = new Random(length).ints(length, -20, 20).toArray();
+        int[] sorted = array.clone();
+        Arrays.sort(sorted);
+
+        //when
+        int actual = PartialSort.select(array, rank);
+
+        //then
+        Assert.assertEquals(actual, sorted[rank]);
+        for (int i = 0; i < length; i++) {
+            Assert.assertTrue(i < rank ? array[i] <= actual : i == rank ? array[i] == actual : array[i] >= actual);
+        }
+        Arrays.sort(array);
+        Assert.assertEquals(array, sorted);
+    }
+
+    @Test(dataProvider = "ranks")
+    public void shouldSelectLongLikeSort(int length, int rank) {
+        //given
+        long[] array = new Random(length).longs(length).toArray();
+        long[] sorted = array.clone();
+        Arrays.sort(sorted);
+
+        //when
+        long actual = PartialSort.select(array, rank);
+
+        //then
+        Assert.assertEquals(actual, sorted[rank]);
+        Assert.assertEquals(array[rank], sorted[rank]);
+    }
+
+    @Test(dataProvider = "ranks")
+    public void shouldSelectDoubleInOrderOfDoubleCompare(int length, int rank) {
+        //given
+        double[] array = new Random(length).doubles(length).map(d -> d < 0.1 ? Double.NaN : d < 0.2 ? -0.0 : d < 0.3 ? 0.0 : d)
+                .toArray();
+        double[] sorted = array.clone();
+        Arrays.sort(sorted);
+
+        //when
+        double actual = PartialSort.select(array, rank);
+
+        //then
+        Assert.assertEquals(Double.compare(actual, sorted[rank]), 0);
+    }
+
+    @Test(dataProvider = "ranks")
+    public void shouldSelectObjectInOrderOfComparator(int length, int rank) {
+        //given
+        String[] array = randomStrings(length);
+        String[] sorted = array.clone();
+        Arrays.sort(sorted, BY_LENGTH_NULLS_FIRST);
+
+        //when
+        String actual = PartialSort.select(array, rank, BY_LENGTH_NULLS_FIRST);
+
+        //then
+        Assert.assertEquals(BY_LENGTH_NULLS_FIRST.compare(actual, sorted[rank]), 0);
+        Assert.assertSame(array[rank], actual);
+    }
+
+    @Test
+    public void shouldSelectFromAdversarialInputWithinDepthLimit() {
+        //given
+        int[] array = new int[1000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = i % 2 == 0 ? i : array.length - i;
+        }
+
+        //when
+        int actual = PartialSort.select(array, 600);
+
+        //then
+        int[] sorted = array.clone();
+        Arrays.sort(sorted);
+        Assert.assertEquals(actual, sorted[600]);
+    }
+
+    @Test(dataProvider = "ranks")
+    public void shouldSortFirstPositions(int length, int k) {
+        //given
+        int[] array = new Random(length).ints(length).toArray();
+        int[] sorted = array.clone();
+        Arrays.sort(sorted);
+
+        //when
+        PartialSort.partialSort(array, k);
+
+        //then
+        Assert.assertEquals(Arrays.copyOf(array, k), Arrays.copyOf(sorted, k));
+    }
+
+    @Test
+    public void shouldSortFirstPositionsOfEveryType() {
+        //given
+        long[] longs = new Random(1).longs(100).toArray();
+        double[] doubles = new Random(1).doubles(100).toArray();
+        String[] strings = randomStrings(100);
+        long[] sortedLongs = longs.clone();
+        double[] sortedDoubles = doubles.clone();
+        String[] sortedStrings = strings.clone();
+        Arrays.sort(sortedLongs);
+        Arrays.sort(sortedDoubles);
+        Arrays.sort(sortedStrings, BY_LENGTH_NULLS_FIRST);
+
+        //when
+        PartialSort.partialSort(longs, 30);
+        PartialSort.partialSort(doubles, 30);
+        PartialSort.partialSort(strings, 30, BY_LENGTH_NULLS_FIRST);
+
+        //then
+        Assert.assertEquals(Arrays.copyOf(longs, 30), Arrays.copyOf(sortedLongs, 30));
+        Assert.assertEquals(Arrays.copyOf(doubles, 30), Arrays.copyOf(sortedDoubles, 30));
+        for (int i = 0; i < 30; i++) {
+            Assert.assertEquals(BY_LENGTH_NULLS_FIRST.compare(strings[i], sortedStrings[i]), 0);
+        }
+    }
+
+    @Test(dataProvider = "ranks")
+    public void shouldReturnSmallestAndLargestInts(int length, int k) {
+        //given
+        int[] array = new Random(length).ints(length, -100, 100).toArray();
+        int[] original = array.clone();
+        int[] sorted = array.clone();
+        Arrays.sort(sorted);
+        int[] descending = new int[k];
+        for (int i = 0; i < k; i++) {
+            descending[i] = sorted[length - 1 - i];
+        }
+
+        //when
+        int[] smallest = PartialSort.smallest(array, k);
+        int[] largest = PartialSort.largest(array, k);
+
+        //then
+        Assert.assertEquals(smallest, Arrays.copyOf(sorted, k));
+        Assert.assertEquals(largest, descending);
+        Assert.assertEquals(array, original);
+    }
+
+    @Test
+    public void shouldReturnSmallestAndLargestLongsAndDoubles() {
+        //given
+        long[] longs = {5, Long.MIN_VALUE, 3, Long.MAX_VALUE, 3};
+        double[] doubles = {0.0, Double.NaN, -0.0, 1.5, Double.NEGATIVE_INFINITY};
+
+        //when
+        long[] smallestLongs = PartialSort.smallest(longs, 3);
+        long[] largestLongs = PartialSort.largest(longs, 2);
+        double[] smallestDoubles = PartialSort.smallest(doubles, 3);
+        double[] largestDoubles = PartialSort.largest(doubles, 3);
+
+        //then
+        Assert.assertEquals(smallestLongs, new long[]{Long.MIN_VALUE, 3, 3});
+        Assert.assertEquals(largestLongs, new long[]{Long.MAX_VALUE, 5});
+        Assert.assertEquals(smallestDoubles, new double[]{Double.NEGATIVE_INFINITY, -0.0, 0.0});
+        Assert.assertEquals(largestDoubles, new double[]{Double.NaN, 1.5, 0.0});
+    }
+
+    @Test
+    public void shouldReturnSmallestObjectsInOrderOfComparator() {
+        //given
+        String[] array = {"many", null, "roads", "a", "man", "walk"};
+
+        //when
+        String[] smallest = PartialSort.smallest(array, 3, BY_LENGTH_NULLS_FIRST);
+        String[] largest = PartialSort.smallest(array, 2, BY_LENGTH_NULLS_FIRST.reversed());
+
+        //then
+        Assert.assertEquals(smallest, new String[]{null, "a", "man"});
+        Assert.assertEquals(largest[0], "roads");
+        Assert.assertEquals(largest[1].length(), 4);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void shouldThrowAnException_whenRankIsOutOfArray() {
+        PartialSort.select(new int[3], 3);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void shouldThrowAnException_whenKIsGreaterThanLength() {
+        PartialSort.smallest(new double[3], 4);
+    }
+
+    private static String[] randomStrings(int length) {
+        Random random = new Random(length);
+        String[] strings = new String[length];
+        for (int i = 0; i < length; i++) {
+            strings[i] = random.nextInt(10) == 0 ? null : "x".repeat(random.nextInt(8));
+        }
+        return strings;
+    }
+}
@@ -0,0 +1,175 @@
+package com.epam.prejap.ess.helpers.arrays.printsortsearch;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+@Test(groups = "ArrayPrintSortSearch")
+public class RadixSortTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterClass
+    public void shutDownPool() {
+        pool.shutdown();
+    }
+
+    @DataProvider
+    public Object[][] intArrays() {
+        Random random = new Random(13);
+        return new Object[][]{
+                {new int[0]},
+                {random.ints(100).toArray()},
+                {random.ints(1000).toArray()},
+                {random.ints(1000, -100, 100).toArray()},
+                {random.ints(1000, 0, 1 << 16).toArray()},
+                {random.ints(1000, -1 << 16, 0).toArray()},
+                {withExtremes(random.ints(999).toArray(), Integer.MIN_VALUE, Integer.MAX_VALUE, 0, -1)},
+                {new int[1000]},
+        };
+    }
+
+    @DataProvider
+    public Object[][] longArrays() {
+        Random random = new Random(13);
+        return new Object[][]{
+                {new long[0]},
+                {random.longs(100).toArray()},
+                {random.longs(1000).toArray()},
+                {random.longs(1000, -100, 100).toArray()},
+                {random.longs(1000, 1L << 40, 1L << 41).toArray()},
+                {withExtremes(random.longs(999).toArray(), Long.MIN_VALUE, Long.MAX_VALUE, 0, -1)},
+                {new long[1000]},
+        };
+    }
+
+    @Test(dataProvider = "intArrays")
+    public void shouldSortIntsLikeArraysSort(int[] array) {
+        //given
+        int[] expected = sorted(array);
+
+        //when
+        new RadixSort().sort(array);
+
+        //then
+        Assert.assertEquals(array, expected);
+    }
+
+    @Test(dataProvider = "longArrays")
+    public void shouldSortLongsLikeArraysSort(long[] array) {
+        //given
+        long[] expected = sorted(array);
+
+        //when
+        new RadixSort().sort(array);
+
+        //then
+        Assert.assertEquals(array, expected);
+    }
+
+    @Test(dataProvider = "intArrays")
+    public void shouldSortIntsInParallelLikeArraysSort(int[] array) {
+        //given
+        int[] expected = sorted(array);
+
+        //when
+        new RadixSort().parallelSort(pool, array, 0, array.length, 64);
+
+        //then
+        Assert.assertEquals(array, expected);
+    }
+
+    @Test(dataProvider = "longArrays")
+    public void shouldSortLongsInParallelLikeArraysSort(long[] array) {
+        //given
+        long[] expected = sorted(array);
+
+        //when
+        new RadixSort().parallelSort(pool, array, 0, array.length, 64);
+
+        //then
+        Assert.assertEquals(array, expected);
+    }
+
+    @Test
+    public void shouldSortOnlyRange() {
+        //given
+        int[] array = new Random(7).ints(1000).toArray();
+        int[] expected = array.clone();
+        Arrays.sort(expected, 100, 900);
+
+        //when
+        new RadixSort().sort(array, 100, 900);
+
+        //then
+        Assert.assertEquals(array, expected);
+    }
+
+    @Test
+    public void shouldSortOnlyRangeInParallel() {
+        //given
+        long[] array = new Random(7).longs(1000).toArray();
+        long[] expected = array.clone();
+        Arrays.sort(expected, 100, 900);
+
+        //when
+        new RadixSort().parallelSort(pool, array, 100, 900, 64);
+
+        //then
+        Assert.assertEquals(array, expected);
+    }
+
+    @Test
+    public void shouldReuseScratchBufferForShorterArray() {
+        //given
+        RadixSort sorter = new RadixSort();
+        sorter.sort(new Random(1).ints(2000).toArray());
+        int[] array = new Random(2).ints(500).toArray();
+        int[] expected = sorted(array);
+
+        //when
+        sorter.sort(array);
+
+        //then
+        Assert.assertEquals(array, expected);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldThrowAnException_whenFromIndexIsGreaterThanToIndex() {
+        new RadixSort().sort(new int[10], 5, 4);
+    }
+
+    @Test(expectedExceptions = ArrayIndexOutOfBoundsException.class)
+    public void shouldThrowAnException_whenToIndexIsOutOfArray() {
+        new RadixSort().parallelSort(pool, new long[10], 0, 11);
+    }
+
+    private static int[] withExtremes(int[] array, int... extremes) {
+        int[] result = Arrays.copyOf(array, array.length + extremes.length);
+        System.arraycopy(extremes, 0, result, array.length, extremes.length);
+        return result;
+    }
+
+    private static long[] withExtremes(long[] array, long... extremes) {
+        long[] result = Arrays.copyOf(array, array.length + extremes.length);
+        System.arraycopy(extremes, 0, result, array.length, extremes.length);
+        return result;
+    }
+
+    private static int[] sorted(int[] array) {
+        int[] sorted = array.clone();
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    private static long[] sorted(long[] array) {
+        long[] sorted = array.clone();
+        Arrays.sort(sorted);
+        return sorted;
+    }
+}
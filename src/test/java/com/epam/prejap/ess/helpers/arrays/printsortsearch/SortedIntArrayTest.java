@@ -0,0 +1,157 @@
+package com.epam.prejap.ess.helpers.arrays.printsortsearch;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+@Test(groups = "ArrayPrintSortSearch")
+public class SortedIntArrayTest {
+
+    @Test
+    public void shouldSearchLikeBinarySearchOnSortedElements_whileElementsAreAdded() {
+        //given
+        SortedIntArray array = new SortedIntArray(8);
+        Random random = new Random(17);
+        int[] added = new int[300];
+
+        for (int i = 0; i < added.length; i++) {
+            //when
+            added[i] = random.nextInt(1000) * 2;
+            array.add(added[i]);
+            int key = random.nextInt(2002) - 1;
+            int actual = array.search(key);
+
+            //then
+            int[] sorted = Arrays.copyOf(added, i + 1);
+            Arrays.sort(sorted);
+            int expected = Arrays.binarySearch(sorted, key);
+            if (expected >= 0) {
+                Assert.assertTrue(actual >= 0 && sorted[actual] == key && (actual == 0 || sorted[actual - 1] < key));
+            } else {
+                Assert.assertEquals(actual, expected);
+            }
+        }
+    }
+
+    @Test
+    public void shouldFindElementWaitingInBuffer() {
+        //given
+        SortedIntArray array = new SortedIntArray(8);
+        array.addAll(new int[]{10, 20, 30});
+
+        //when
+        array.add(15);
+
+        //then
+        Assert.assertEquals(array.buffered(), 1);
+        Assert.assertEquals(array.search(15), 1);
+        Assert.assertEquals(array.search(20), 2);
+        Assert.assertEquals(array.search(25), -4);
+        Assert.assertTrue(array.contains(15));
+    }
+
+    @Test
+    public void shouldAppendAscendingElementsWithoutBuffering() {
+        //given
+        SortedIntArray array = new SortedIntArray(4);
+
+        //when
+        for (int i = 0; i < 100; i++) {
+            array.add(i / 3);
+        }
+
+        //then
+        Assert.assertEquals(array.buffered(), 0);
+        Assert.assertEquals(array.size(), 100);
+    }
+
+    @Test
+    public void shouldMergeBuffer_whenItIsFull() {
+        //given
+        SortedIntArray array = new SortedIntArray(4);
+        array.add(100);
+
+        //when
+        array.add(4);
+        array.add(3);
+        array.add(2);
+        array.add(1);
+
+        //then
+        Assert.assertEquals(array.buffered(), 0);
+        Assert.assertEquals(array.toArray(), new int[]{1, 2, 3, 4, 100});
+    }
+
+    @Test
+    public void shouldMergeBulkInsertWithBufferAndSortedElements() {
+        //given
+        SortedIntArray array = new SortedIntArray(16);
+        array.addAll(new int[]{5, 1, 9});
+        array.add(0);
+        int[] batch = new Random(3).ints(100, -50, 50).toArray();
+
+        //when
+        array.addAll(batch);
+
+        //then
+        int[] expected = Arrays.copyOf(batch, 104);
+        expected[100] = 5;
+        expected[101] = 1;
+        expected[102] = 9;
+        expected[103] = 0;
+        Arrays.sort(expected);
+        Assert.assertEquals(array.buffered(), 0);
+        Assert.assertEquals(array.toArray(), expected);
+    }
+
+    @Test
+    public void shouldCountAndReturnRange() {
+        //given
+        SortedIntArray array = new SortedIntArray(8);
+        array.addAll(new int[]{1, 3, 5, 7});
+        array.add(4);
+        array.add(4);
+
+        //when
+        int count = array.count(3, 6);
+        int[] range = array.range(3, 6);
+
+        //then
+        Assert.assertEquals(count, 4);
+        Assert.assertEquals(range, new int[]{3, 4, 4, 5});
+        Assert.assertEquals(array.count(8, 8), 0);
+    }
+
+    @Test
+    public void shouldGetElementAtSortedPosition() {
+        //given
+        SortedIntArray array = new SortedIntArray(8);
+        array.addAll(new int[]{50, 10, 30});
+        array.add(20);
+
+        //when
+        int actual = array.get(1);
+
+        //then
+        Assert.assertEquals(actual, 20);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldThrowAnException_whenRangeIsReversed() {
+        new SortedIntArray().count(5, 4);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void shouldThrowAnException_whenIndexIsOutOfElements() {
+        SortedIntArray array = new SortedIntArray();
+        array.add(1);
+        array.get(1);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldThrowAnException_whenBufferCapacityIsNotPositive() {
+        new SortedIntArray(0);
+    }
+}
@@ -0,0 +1,113 @@
+package com.epam.prejap.ess.helpers.arrays.printsortsearch;
+
+import com.epam.prejap.ess.helpers.arrays.printsortsearch.SortedIntIndex.Layout;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+@Test(groups = "ArrayPrintSortSearch")
+public class SortedIntIndexTest {
+
+    @DataProvider
+    public Object[][] layoutsAndLengths() {
+        return IntStream.of(0, 1, 2, 3, 7, 8, 100, 1023)
+                .boxed()
+                .flatMap(length -> Arrays.stream(Layout.values()).map(layout -> new Object[]{layout, length}))
+                .toArray(Object[][]::new);
+    }
+
+    @Test(dataProvider = "layoutsAndLengths")
+    public void shouldFindSameIndexesAsBinarySearch(Layout layout, int length) {
+        //given
+        int[] sorted = IntStream.range(0, length).map(i -> i * 3 - 50).toArray();
+        SortedIntIndex index = SortedIntIndex.of(sorted, layout);
+
+        for (int key = -55; key < length * 3 - 45; key++) {
+            //when
+            int actual = index.search(key);
+
+            //then
+            Assert.assertEquals(actual, Arrays.binarySearch(sorted, key), "key " + key);
+        }
+    }
+
+    @Test(dataProvider = "layoutsAndLengths")
+    public void shouldSearchSortedBatchLikeSingleKeys(Layout layout, int length) {
+        //given
+        Random random = new Random(length);
+        int[] sorted = random.ints(length, -1000, 1000).sorted().toArray();
+        int[] keys = random.ints(200, -1100, 1100).sorted().toArray();
+        SortedIntIndex index = SortedIntIndex.of(sorted, layout);
+
+        //when
+        int[] actual = index.searchAll(keys);
+
+        //then
+        Assert.assertEquals(actual, Arrays.stream(keys).map(index::search).toArray());
+    }
+
+    @Test(dataProvider = "layoutsAndLengths")
+    public void shouldSearchUnsortedBatchLikeSingleKeys(Layout layout, int length) {
+        //given
+        Random random = new Random(length);
+        int[] sorted = random.ints(length, -1000, 1000).sorted().toArray();
+        int[] keys = random.ints(200, -1100, 1100).toArray();
+        SortedIntIndex index = SortedIntIndex.of(sorted, layout);
+
+        //when
+        int[] actual = index.searchAll(keys);
+
+        //then
+        Assert.assertEquals(actual, Arrays.stream(keys).map(index::search).toArray());
+    }
+
+    @Test(dataProvider = "layoutsAndLengths")
+    public void shouldFindFirstOccurrenceOfRepeatedKey(Layout layout, int length) {
+        //given
+        int[] sorted = IntStream.range(0, length).map(i -> i / 4).toArray();
+        SortedIntIndex index = SortedIntIndex.of(sorted, layout);
+
+        for (int i = 0; i < length; i++) {
+            //when
+            int actual = index.search(sorted[i]);
+
+            //then
+            Assert.assertEquals(actual, i - i % 4);
+        }
+    }
+
+    @Test
+    public void shouldFindExtremeValues() {
+        //given
+        int[] sorted = {Integer.MIN_VALUE, 0, Integer.MAX_VALUE};
+        SortedIntIndex index = SortedIntIndex.of(sorted, Layout.EYTZINGER);
+
+        //when
+        int[] actual = index.searchAll(new int[]{Integer.MIN_VALUE, -1, 1, Integer.MAX_VALUE});
+
+        //then
+        Assert.assertEquals(actual, new int[]{0, -2, -3, 2});
+    }
+
+    @Test
+    public void shouldNotDependOnIndexedArray() {
+        //given
+        int[] sorted = {1, 2, 3};
+        SortedIntIndex index = SortedIntIndex.of(sorted, Layout.SORTED);
+
+        //when
+        sorted[1] = 5;
+
+        //then
+        Assert.assertEquals(index.toArray(), new int[]{1, 2, 3});
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldThrowAnException_whenArrayIsNotSorted() {
+        SortedIntIndex.of(new int[]{1, 3, 2}, Layout.EYTZINGER);
+    }
+}
@@ -0,0 +1,189 @@
+package com.epam.prejap.ess.helpers.arrays.printsortsearch;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.FutureTask;
+import java.util.stream.IntStream;
+
+@Test(groups = "ArrayPrintSortSearch")
+public class StringSortTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final String[] killer = medianOfThreeKiller(1 << 12);
+
+    @AfterClass
+    public void shutDownPool() {
+        pool.shutdown();
+    }
+
+    @DataProvider
+    public Object[][] stringArrays() {
+        Random random = new Random(14);
+        return new Object[][]{
+                {new String[0]},
+                {new String[]{"how", "many", "roads", "must", "a", "man", "walk", "down"}},
+                {randomStrings(random, 1000, "", 0, 8, "ab")},
+                {randomStrings(random, 1000, "", 0, 30, "abcdefghijklmnopqrstuvwxyz")},
+                {randomStrings(random, 1000, "https://example.com/api/v1/resources/", 0, 6, "0123456789")},
+                {IntStream.range(0, 500).mapToObj(i -> "same").toArray(String[]::new)},
+        };
+    }
+
+    @Test(dataProvider = "stringArrays")
+    public void shouldSortLikeArraysSort(String[] array) {
+        //given
+        String[] expected = sorted(array);
+
+        //when
+        StringSort.sort(array);
+
+        //then
+        Assert.assertEquals(array, expected);
+    }
+
+    @Test(dataProvider = "stringArrays")
+    public void shouldSortInParallelLikeArraysSort(String[] array) {
+        //given
+        String[] expected = sorted(array);
+
+        //when
+        StringSort.parallelSort(pool, array, 0, array.length, 32);
+
+        //then
+        Assert.assertEquals(array, expected);
+    }
+
+    @Test
+    public void shouldSortLikeArraysSort_whenStringsHaveExtremeAndSurrogateChars() {
+        //given
+        String[] array = randomStrings(new Random(14), 1000, "", 1, 3, "\u0000￿a😀");
+        String[] expected = sorted(array);
+
+        //when
+        StringSort.sort(array);
+
+        //then
+        Assert.assertEquals(array, expected);
+    }
+
+    @Test
+    public void shouldSortOnlyRange() {
+        //given
+        String[] array = randomStrings(new Random(3), 200, "x", 0, 5, "xyz");
+        String[] expected = array.clone();
+        Arrays.sort(expected, 50, 150);
+
+        //when
+        StringSort.sort(array, 50, 150);
+
+        //then
+        Assert.assertEquals(array, expected);
+    }
+
+    @Test
+    public void shouldSortWithBoundedRecursion_whenEveryPivotIsTheWorst() throws Exception {
+        //given
+        String[] array = killer.clone();
+        String[] expected = sorted(array);
+        FutureTask<Void> sort = new FutureTask<>(() -> StringSort.sort(array), null);
+
+        //when
+        new Thread(null, sort, "small stack", 1 << 16).start();
+        sort.get();
+
+        //then
+        Assert.assertEquals(array, expected);
+    }
+
+    @Test
+    public void shouldSortInParallel_whenEveryPivotIsTheWorst() {
+        //given
+        String[] array = killer.clone();
+        String[] expected = sorted(array);
+
+        //when
+        StringSort.parallelSort(pool, array, 0, array.length, 32);
+
+        //then
+        Assert.assertEquals(array, expected);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void shouldThrowAnException_whenElementIsNull() {
+        StringSort.sort(new String[]{"a", null, "b"});
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldThrowAnException_whenFromIndexIsGreaterThanToIndex() {
+        StringSort.sort(new String[3], 2, 1);
+    }
+
+    private static String[] randomStrings(Random random, int count, String prefix, int minLength, int maxLength,
+                                          String alphabet) {
+        String[] strings = new String[count];
+        for (int i = 0; i < count; i++) {
+            StringBuilder builder = new StringBuilder(prefix);
+            int length = minLength + random.nextInt(maxLength - minLength + 1);
+            for (int j = 0; j < length; j++) {
+                builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            strings[i] = builder.toString();
+        }
+        return strings;
+    }
+
+    /**
+     * Single char strings for which the median of three pivot of every partition is the second smallest char,
+     * so each partition splits off only two strings. Built like the adversary of McIlroy's killer for quicksort:
+     * the partitions are replayed with chars not given yet being greater than all the given ones, and only the first
+     * and the middle candidate of every pivot get the smallest free chars.
+     */
+    private static String[] medianOfThreeKiller(int size) {
+        int[] strings = IntStream.range(0, size).toArray();
+        int[] chars = new int[size];
+        Arrays.fill(chars, Character.MAX_VALUE + 1);
+        int next = 0;
+        int from = 0;
+        while (size - from >= StringSort.INSERTION_SORT_THRESHOLD) {
+            chars[strings[from]] = next++;
+            int pivot = next++;
+            chars[strings[(from + size) >>> 1]] = pivot;
+            int less = from;
+            int greater = size - 1;
+            int i = from;
+            while (i <= greater) {
+                int c = chars[strings[i]];
+                if (c < pivot) {
+                    swap(strings, less++, i++);
+                } else if (c > pivot) {
+                    swap(strings, i, greater--);
+                } else {
+                    i++;
+                }
+            }
+            from = greater + 1;
+        }
+        for (int i = from; i < size; i++) {
+            chars[strings[i]] = next++;
+        }
+        return Arrays.stream(chars).mapToObj(c -> String.valueOf((char) c)).toArray(String[]::new);
+    }
+
+    private static void swap(int[] array, int i, int j) {
+        int swapped = array[i];
+        array[i] = array[j];
+        array[j] = swapped;
+    }
+
+    private static String[] sorted(String[] array) {
+        String[] sorted = array.clone();
+        Arrays.sort(sorted);
+        return sorted;
+    }
+}
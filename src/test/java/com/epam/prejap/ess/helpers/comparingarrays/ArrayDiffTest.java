@@ -0,0 +1,155 @@
+package com.epam.prejap.ess.helpers.comparingarrays;
+
+import com.epam.prejap.ess.helpers.comparingarrays.ArrayDiff.Patch;
+import com.epam.prejap.ess.helpers.comparingarrays.ArrayDiff.Range;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.testng.Assert.*;
+
+public class ArrayDiffTest {
+
+    //given
+    @Test(dataProvider = "arrays")
+    public void shouldFindAllMismatchRanges(int[] a, int[] b, List<Range> expected) {
+        //when
+        List<Range> actual = ArrayDiff.ranges(a, b).collect(Collectors.toList());
+
+        //then
+        assertEquals(actual, expected);
+    }
+
+    //given
+    @Test(dataProvider = "arrays")
+    public void shouldTurnSourceIntoTarget(int[] a, int[] b, List<Range> expected) {
+        //when
+        int[] actual = ArrayDiff.patch(a, b).apply(a.clone());
+
+        //then
+        assertEquals(actual, b);
+    }
+
+    @Test
+    public void shouldFindRangesLikeElementLoop() {
+        //given
+        Random random = new Random(20);
+        for (int i = 0; i < 50; i++) {
+            int[] a = random.ints(random.nextInt(100), 0, 3).toArray();
+            int[] b = random.ints(random.nextInt(100), 0, 3).toArray();
+
+            //when
+            List<Range> actual = ArrayDiff.ranges(a, b).collect(Collectors.toList());
+
+            //then
+            assertEquals(actual, naiveRanges(a, b));
+        }
+    }
+
+    @Test
+    public void shouldStopAtFirstRange_whenStreamIsShortCircuited() {
+        //given
+        int[] a = new int[1000];
+        int[] b = new int[1000];
+        b[10] = 1;
+        b[500] = 1;
+
+        //when
+        Range first = ArrayDiff.ranges(a, b).findFirst().orElseThrow();
+
+        //then
+        assertEquals(first, new Range(10, 11));
+    }
+
+    @Test
+    public void shouldPatchInPlace() {
+        //given
+        int[] replica = {1, 2, 3, 4, 5, 6};
+        int[] primary = {1, 9, 3, 4, 8, 7};
+        Patch patch = ArrayDiff.patch(replica, primary);
+
+        //when
+        patch.applyInPlace(replica);
+
+        //then
+        assertEquals(replica, primary);
+        assertEquals(patch.size(), 2);
+    }
+
+    @Test
+    public void shouldDecodeEncodedPatch() {
+        //given
+        int[] source = new Random(1).ints(300, 0, 4).toArray();
+        int[] target = new Random(2).ints(350, 0, 4).toArray();
+        Patch patch = ArrayDiff.patch(source, target);
+
+        //when
+        Patch decoded = Patch.fromBytes(patch.toBytes());
+
+        //then
+        assertEquals(decoded.size(), patch.size());
+        assertEquals(decoded.targetLength(), 350);
+        assertEquals(decoded.apply(source), target);
+    }
+
+    @Test
+    public void shouldCreateEmptyPatch_whenArraysAreEqual() {
+        int[] array = {1, 2, 3};
+
+        assertTrue(ArrayDiff.patch(array, array.clone()).isEmpty());
+        assertFalse(ArrayDiff.patch(array, new int[]{1, 2}).isEmpty());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentException_whenSourceLengthDiffers() {
+        ArrayDiff.patch(new int[]{1, 2}, new int[]{1, 3}).apply(new int[]{1, 2, 3});
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentException_whenPatchChangesLengthInPlace() {
+        int[] source = {1, 2};
+        ArrayDiff.patch(source, new int[]{1, 2, 3}).applyInPlace(source);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentException_whenPatchIsTruncated() {
+        byte[] bytes = ArrayDiff.patch(new int[]{1, 2}, new int[]{3, 4}).toBytes();
+
+        Patch.fromBytes(Arrays.copyOf(bytes, bytes.length - 1));
+    }
+
+    @DataProvider
+    public Object[][] arrays() {
+        return new Object[][]{
+                {new int[]{1, 2, 3}, new int[]{1, 2, 3}, List.of()},
+                {new int[]{1, 2, 3, 4, 5}, new int[]{0, 2, 0, 0, 5}, List.of(new Range(0, 1), new Range(2, 4))},
+                {new int[]{1, 2, 3}, new int[]{1, 2, 3, 4, 5}, List.of(new Range(3, 5))},
+                {new int[]{1, 2, 3, 4}, new int[]{1, 0}, List.of(new Range(1, 4))},
+                {new int[0], new int[]{7}, List.of(new Range(0, 1))}
+        };
+    }
+
+    private static List<Range> naiveRanges(int[] a, int[] b) {
+        List<Range> ranges = new ArrayList<>();
+        int longest = Math.max(a.length, b.length);
+        int from = -1;
+        for (int i = 0; i < longest; i++) {
+            boolean differ = i >= a.length || i >= b.length || a[i] != b[i];
+            if (differ && from < 0) {
+                from = i;
+            } else if (!differ && from >= 0) {
+                ranges.add(new Range(from, i));
+                from = -1;
+            }
+        }
+        if (from >= 0) {
+            ranges.add(new Range(from, longest));
+        }
+        return ranges;
+    }
+}
@@ -0,0 +1,114 @@
+package com.epam.prejap.ess.helpers.comparingarrays;
+
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+import static org.testng.Assert.*;
+
+public class FingerprintedIntArrayTest {
+
+    @Test
+    public void shouldBeEqual_whenElementsAreEqual() {
+        //given
+        int[] values = new Random(21).ints(1000).toArray();
+        FingerprintedIntArray first = FingerprintedIntArray.of(values);
+        FingerprintedIntArray second = FingerprintedIntArray.of(values);
+
+        //when
+        boolean actual = first.equals(second);
+
+        //then
+        assertTrue(actual);
+        assertEquals(first.hashCode(), second.hashCode());
+    }
+
+    @Test
+    public void shouldDifferInFingerprint_whenElementsAreSwapped() {
+        //given
+        FingerprintedIntArray first = FingerprintedIntArray.of(1, 2, 3);
+        FingerprintedIntArray second = FingerprintedIntArray.of(2, 1, 3);
+
+        //when
+        boolean actual = first.equals(second);
+
+        //then
+        assertFalse(actual);
+        assertNotEquals(first.fingerprint(), second.fingerprint());
+    }
+
+    @Test
+    public void shouldComputeSameFingerprintInParallel() {
+        //given
+        int[] values = new Random(1).ints(1000).toArray();
+        FingerprintedIntArray parallel = FingerprintedIntArray.of(values, 16);
+        FingerprintedIntArray sequential = FingerprintedIntArray.of(values);
+
+        //when
+        long actual = parallel.fingerprint();
+
+        //then
+        assertEquals(actual, sequential.fingerprint());
+        assertEquals(parallel, sequential);
+    }
+
+    @Test
+    public void shouldUpdateFingerprint_whenElementIsSet() {
+        //given
+        FingerprintedIntArray array = FingerprintedIntArray.of(new Random(2).ints(100).toArray());
+        array.fingerprint();
+
+        //when
+        array.set(42, 7);
+
+        //then
+        assertTrue(array.isFingerprinted());
+        assertEquals(array.fingerprint(), FingerprintedIntArray.of(array.toArray()).fingerprint());
+    }
+
+    @Test
+    public void shouldDropFingerprint_whenRangeIsWritten() {
+        //given
+        FingerprintedIntArray array = FingerprintedIntArray.of(1, 2, 3, 4);
+        FingerprintedIntArray expected = FingerprintedIntArray.of(0, 5, 6, 0);
+        array.fingerprint();
+
+        //when
+        array.fill(0, 4, 0);
+        boolean filled = array.isFingerprinted();
+        array.write(1, new int[]{5, 6});
+
+        //then
+        assertFalse(filled);
+        assertFalse(array.isFingerprinted());
+        assertEquals(array, expected);
+    }
+
+    @Test
+    public void shouldNotBeEqual_whenLengthsDiffer() {
+        assertNotEquals(FingerprintedIntArray.of(0, 0), FingerprintedIntArray.of(0, 0, 0));
+    }
+
+    @Test
+    public void shouldCopyElements() {
+        //given
+        int[] values = {1, 2, 3};
+        FingerprintedIntArray array = FingerprintedIntArray.of(values);
+
+        //when
+        values[0] = 9;
+
+        //then
+        assertEquals(array.get(0), 1);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void shouldThrowIndexOutOfBoundsException_whenWrittenElementsDoNotFit() {
+        FingerprintedIntArray.of(1, 2, 3).write(2, new int[]{1, 2});
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentException_whenThresholdIsNotPositive() {
+        FingerprintedIntArray.of(new int[]{1}, 0);
+    }
+}
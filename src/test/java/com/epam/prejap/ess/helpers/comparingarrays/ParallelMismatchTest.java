@@ -0,0 +1,150 @@
+package com.epam.prejap.ess.helpers.comparingarrays;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.testng.Assert.*;
+
+public class ParallelMismatchTest {
+
+    private static final int CHUNK = 16;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterClass
+    public void shutDownPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void shouldFindLowestMismatch_whenManyChunksMismatch() {
+        //given
+        int[] a = new int[1000];
+        int[] b = new int[1000];
+        for (int i = 999; i >= 300; i -= 7) {
+            b[i] = 1;
+        }
+
+        //when
+        int actual = ParallelMismatch.mismatch(pool, a, 0, a.length, b, 0, b.length, CHUNK);
+
+        //then
+        assertEquals(actual, Arrays.mismatch(a, b));
+    }
+
+    @Test
+    public void shouldMismatchAndCompareIntRangesLikeArrays() {
+        //given
+        Random random = new Random(19);
+        for (int i = 0; i < 100; i++) {
+            int[] a = random.ints(200, 0, 2).toArray();
+            int[] b = a.clone();
+            b[random.nextInt(200)] += random.nextInt(3) - 1;
+            int aFrom = random.nextInt(50);
+            int aTo = 150 + random.nextInt(51);
+            int bFrom = aFrom + random.nextInt(2);
+            int bTo = 150 + random.nextInt(51);
+
+            //when
+            int mismatch = ParallelMismatch.mismatch(pool, a, aFrom, aTo, b, bFrom, bTo, CHUNK);
+            int compare = ParallelMismatch.compare(pool, a, aFrom, aTo, b, bFrom, bTo, CHUNK);
+
+            //then
+            assertEquals(mismatch, Arrays.mismatch(a, aFrom, aTo, b, bFrom, bTo));
+            assertEquals(compare, Arrays.compare(a, aFrom, aTo, b, bFrom, bTo));
+        }
+    }
+
+    @Test
+    public void shouldMismatchAndCompareLongArraysLikeArrays() {
+        //given
+        long[] a = new Random(1).longs(500).toArray();
+        long[] b = Arrays.copyOf(a, 400);
+        long[] c = a.clone();
+        c[321] = Long.MIN_VALUE;
+
+        //when
+        int prefix = ParallelMismatch.mismatch(pool, a, 0, a.length, b, 0, b.length, CHUNK);
+        int different = ParallelMismatch.compare(pool, a, 0, a.length, c, 0, c.length, CHUNK);
+
+        //then
+        assertEquals(prefix, Arrays.mismatch(a, b));
+        assertEquals(ParallelMismatch.compare(pool, a, 0, a.length, b, 0, b.length, CHUNK), Arrays.compare(a, b));
+        assertEquals(different, Arrays.compare(a, c));
+        assertEquals(ParallelMismatch.mismatch(pool, a, 0, a.length, a.clone(), 0, a.length, CHUNK), -1);
+    }
+
+    @Test
+    public void shouldMismatchAndCompareDoubleArraysLikeArrays() {
+        //given
+        double[] a = new double[300];
+        Arrays.fill(a, Double.NaN);
+        double[] b = a.clone();
+        a[250] = -0.0;
+        b[250] = 0.0;
+
+        //when
+        int mismatch = ParallelMismatch.mismatch(pool, a, 0, a.length, b, 0, b.length, CHUNK);
+        int compare = ParallelMismatch.compare(pool, a, 0, a.length, b, 0, b.length, CHUNK);
+
+        //then
+        assertEquals(mismatch, Arrays.mismatch(a, b));
+        assertEquals(compare, Arrays.compare(a, b));
+    }
+
+    @Test
+    public void shouldMismatchAndCompareByteArraysLikeArrays() {
+        //given
+        byte[] a = new byte[300];
+        new Random(2).nextBytes(a);
+        byte[] b = a.clone();
+        b[17] = (byte) (a[17] + 100);
+
+        //when
+        int mismatch = ParallelMismatch.mismatch(pool, a, 10, 290, b, 10, 300, CHUNK);
+        int compare = ParallelMismatch.compare(pool, a, 10, 290, b, 10, 300, CHUNK);
+
+        //then
+        assertEquals(mismatch, Arrays.mismatch(a, 10, 290, b, 10, 300));
+        assertEquals(compare, Arrays.compare(a, 10, 290, b, 10, 300));
+    }
+
+    @Test
+    public void shouldCompareOnCommonPool() {
+        int[] first = {1, 0, 0, 0, 1, 0, 0, 0, 1, 0, 0, 0};
+        int[] second = {0, 1, 1, 9, 5, 4, 0, 1, 1, 9, 5, 4};
+
+        assertEquals(ParallelMismatch.compare(first, 5, 10, second, 5, 10), Arrays.compare(first, 5, 10, second, 5, 10));
+        assertEquals(ParallelMismatch.mismatch(first, second), 0);
+        assertEquals(ParallelMismatch.compare((int[]) null, null), 0);
+        assertEquals(ParallelMismatch.compare(null, second), -1);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentException() {
+        int[] first = {1, 2, 3};
+        int[] second = {0, 1, 1, 9, 5, 4};
+
+        ParallelMismatch.compare(first, 3, 2, second, 1, 2);
+    }
+
+    @Test(expectedExceptions = ArrayIndexOutOfBoundsException.class)
+    public void shouldThrowArrayIndexOutOfBoundsException() {
+        long[] first = {1, 2, 3};
+        long[] second = {0, 1, 1, 9, 5, 4};
+
+        ParallelMismatch.mismatch(first, 1, 5, second, 1, 2);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void shouldThrowNullPointerException() {
+        byte[] first = null;
+        byte[] second = {0, 1, 1, 9, 5, 4};
+
+        ParallelMismatch.mismatch(first, second);
+    }
+}
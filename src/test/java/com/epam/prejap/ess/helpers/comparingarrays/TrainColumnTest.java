@@ -0,0 +1,138 @@
+package com.epam.prejap.ess.helpers.comparingarrays;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.testng.Assert.*;
+
+public class TrainColumnTest {
+
+    //given
+    @Test(dataProvider = "TrainObjects")
+    public void shouldCompareLikeObjectArrays(Train[] first, Train[] second) {
+        //when
+        int actual = TrainColumn.compare(TrainColumn.of(first), TrainColumn.of(second));
+
+        //then
+        assertEquals(actual, Arrays.compare(first, second));
+    }
+
+    //given
+    @Test(dataProvider = "TrainObjects")
+    public void shouldCompareLikeObjectArraysWithTrainById(Train[] first, Train[] second) {
+        //when
+        int actual = TrainColumn.compareById(TrainColumn.of(first), TrainColumn.of(second));
+
+        //then
+        assertEquals(actual, Arrays.compare(first, second, new TrainById()));
+    }
+
+    //given
+    @Test(dataProvider = "TrainObjects")
+    public void shouldFindMismatchLikeObjectArrays(Train[] first, Train[] second) {
+        //when
+        int actual = TrainColumn.mismatch(TrainColumn.of(first), TrainColumn.of(second));
+
+        //then
+        assertEquals(actual, Arrays.mismatch(first, second, Comparator.naturalOrder()));
+    }
+
+    @Test
+    public void shouldCompareRangesLikeObjectArrays() {
+        //given
+        Random random = new Random(18);
+        for (int i = 0; i < 200; i++) {
+            Train[] first = trains(random, 12);
+            Train[] second = trains(random, 12);
+            int aFrom = random.nextInt(13);
+            int aTo = aFrom + random.nextInt(13 - aFrom);
+            int bFrom = random.nextInt(13);
+            int bTo = bFrom + random.nextInt(13 - bFrom);
+            TrainColumn a = TrainColumn.of(first);
+            TrainColumn b = TrainColumn.of(second);
+
+            //when
+            int ascending = TrainColumn.compare(a, aFrom, aTo, b, bFrom, bTo);
+            int descending = TrainColumn.compareById(a, aFrom, aTo, b, bFrom, bTo);
+            int mismatch = TrainColumn.mismatch(a, aFrom, aTo, b, bFrom, bTo);
+
+            //then
+            assertEquals(ascending, Arrays.compare(first, aFrom, aTo, second, bFrom, bTo));
+            assertEquals(descending, Arrays.compare(first, aFrom, aTo, second, bFrom, bTo, new TrainById()));
+            assertEquals(mismatch, Arrays.mismatch(first, aFrom, aTo, second, bFrom, bTo, Comparator.naturalOrder()));
+        }
+    }
+
+    @Test
+    public void shouldCompareNullColumnsLikeNullArrays() {
+        TrainColumn column = TrainColumn.ofIds(1, 2);
+
+        assertEquals(TrainColumn.compare(null, null), 0);
+        assertEquals(TrainColumn.compare(null, column), -1);
+        assertEquals(TrainColumn.compareById(column, null), 1);
+    }
+
+    @Test
+    public void shouldCopyIds() {
+        //given
+        int[] ids = {3, 1, 2};
+        TrainColumn column = TrainColumn.ofIds(ids);
+
+        //when
+        ids[0] = 7;
+
+        //then
+        assertEquals(column.id(0), 3);
+        assertEquals(column.length(), 3);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentException() {
+        TrainColumn column = TrainColumn.ofIds(1, 2, 3);
+
+        TrainColumn.compareById(column, 3, 2, column, 1, 2);
+    }
+
+    @Test(expectedExceptions = ArrayIndexOutOfBoundsException.class)
+    public void shouldThrowArrayIndexOutOfBoundsException() {
+        TrainColumn column = TrainColumn.ofIds(1, 2, 3);
+
+        TrainColumn.compareById(column, 1, 5, column, 1, 2);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void shouldThrowNullPointerException_whenTrainIsNull() {
+        TrainColumn.of(new Train[]{new Train(1), null});
+    }
+
+    @DataProvider
+    public Object[][] TrainObjects() {
+        Train[] arrOne = {new Train(1), new Train(50), new Train(7)};
+        Train[] arrTwo = {new Train(8), new Train(9), new Train(12)};
+        Train[] arrThree = {new Train(85), new Train(63), new Train(7)};
+        Train[] arrFour = {new Train(85), new Train(63)};
+        Train[] arrFive = {new Train(Integer.MIN_VALUE), new Train(30)};
+        Train[] arrSix = {new Train(Integer.MAX_VALUE), new Train(3), new Train(2)};
+        return new Object[][]{
+                {arrOne, arrTwo},
+                {arrTwo, arrOne},
+                {arrThree, arrFour},
+                {arrFour, arrThree},
+                {arrFive, arrSix},
+                {arrOne, new Train[]{new Train(1), new Train(50), new Train(7)}},
+                {new Train[0], arrOne}
+        };
+    }
+
+    private static Train[] trains(Random random, int length) {
+        Train[] trains = new Train[length];
+        for (int i = 0; i < length; i++) {
+            trains[i] = new Train(random.nextInt(3));
+        }
+        return trains;
+    }
+}
@@ -0,0 +1,99 @@
+package com.epam.prejap.ess.helpers.objectscompare;
+
+import org.testng.annotations.Test;
+
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.testng.Assert.*;
+
+public class CachedNameComparatorTest {
+
+    private static final String[] NAMES = {"Łukasz", "lukasz", "LUKASZ", "Anthony", "anthony", "Ängel", "angel",
+            "ßtraße", "STRASSE", "İsmail", "ismail", "ı", "I", "Zoë", "zoe", "Émile", "emile", "𐐀x", "𐐨x", ""};
+
+    private final Collator collator = Collator.getInstance(Locale.forLanguageTag("pl"));
+
+    @Test
+    public void shallSortInOrderOfCollator() {
+        //given
+        List<Person> expected = people(new Random(25), 300);
+        List<Person> actual = new ArrayList<>(expected);
+        expected.sort(Comparator.comparing(Person::name, collator));
+
+        //when
+        actual.sort(CachedNameComparator.collating(collator));
+
+        //then
+        assertEquals(actual, expected);
+    }
+
+    @Test
+    public void shallCompareEveryPairLikeCollator() {
+        CachedNameComparator comparator = CachedNameComparator.collating(collator, 4);
+        for (String first : NAMES) {
+            for (String second : NAMES) {
+                //when
+                int actual = comparator.compare(new Person(1, first), new Person(2, second));
+
+                //then
+                assertEquals(Integer.signum(actual), Integer.signum(collator.compare(first, second)),
+                        first + " - " + second);
+            }
+        }
+    }
+
+    @Test
+    public void shallNormalizeEveryNameOnce_whenCacheHoldsAllNames() {
+        //given
+        CachedNameComparator comparator = CachedNameComparator.collating(collator);
+        List<Person> people = people(new Random(26), 300);
+
+        //when
+        people.sort(comparator);
+
+        //then
+        assertEquals(comparator.size(), NAMES.length);
+        assertEquals(comparator.misses(), NAMES.length);
+    }
+
+    @Test
+    public void shallEvictLeastRecentlyUsedNames() {
+        //given
+        CachedNameComparator comparator = CachedNameComparator.collating(collator, 2);
+        Person anna = new Person(1, "Anna");
+        Person bob = new Person(2, "Bob");
+        Person carl = new Person(3, "Carl");
+
+        //when
+        comparator.compare(anna, bob);
+        comparator.compare(anna, carl);
+        comparator.compare(anna, bob);
+
+        //then
+        assertEquals(comparator.size(), 2);
+        assertEquals(comparator.misses(), 4);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void shallThrowNPE_whenNameIsNull() {
+        CachedNameComparator.collating(collator).compare(new Person(1, null), new Person(2, "Anna"));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shallThrowIllegalArgumentException_whenCapacityIsNotPositive() {
+        CachedNameComparator.collating(collator, 0);
+    }
+
+    private static List<Person> people(Random random, int count) {
+        List<Person> people = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            people.add(new Person(i, NAMES[random.nextInt(NAMES.length)]));
+        }
+        return people;
+    }
+}
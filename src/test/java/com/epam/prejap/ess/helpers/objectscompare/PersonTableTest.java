@@ -0,0 +1,119 @@
+package com.epam.prejap.ess.helpers.objectscompare;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.testng.Assert.*;
+
+public class PersonTableTest {
+
+    @DataProvider
+    public static Object[][] orderings() {
+        return new Object[][]{
+                {PersonTable.Ordering.BY_ID},
+                {PersonTable.Ordering.BY_ID_DESCENDING},
+                {PersonTable.Ordering.BY_NAME},
+                {PersonTable.Ordering.BY_NAME_DESCENDING}
+        };
+    }
+
+    //given
+    @Test(dataProvider = "orderings")
+    public void shallViewPeopleInOrderOfCollectionsSort(PersonTable.Ordering ordering) {
+        List<Person> people = people(new Random(25), 1000);
+        PersonTable table = PersonTable.of(people);
+
+        //when
+        PersonTable.View view = table.view(ordering);
+
+        //then
+        List<Person> expected = new ArrayList<>(people);
+        Collections.sort(expected, ordering.comparator());
+        List<Person> actual = new ArrayList<>();
+        for (int position = 0; position < view.size(); position++) {
+            actual.add(view.person(position));
+        }
+        assertEquals(actual, expected);
+    }
+
+    @Test
+    public void shallKeepEveryDistinctNameOnce() {
+        //given
+        List<Person> people = List.of(new Person(1, "Lukasz"), new Person(2, "Anthony"), new Person(3, "Lukasz"));
+
+        //when
+        PersonTable table = PersonTable.of(people);
+
+        //then
+        assertEquals(table.size(), 3);
+        assertEquals(table.distinctNames(), 2);
+        assertEquals(table.person(2), new Person(3, "Lukasz"));
+    }
+
+    @Test
+    public void shallCacheViews() {
+        //given
+        PersonTable table = PersonTable.of(people(new Random(1), 10));
+
+        //when
+        PersonTable.View first = table.view(PersonTable.Ordering.BY_NAME);
+        PersonTable.View second = table.view(PersonTable.Ordering.BY_NAME);
+
+        //then
+        assertSame(first, second);
+        assertNotSame(table.sort(PersonTable.Ordering.BY_NAME), first);
+    }
+
+    @Test
+    public void shallSortViewOnce_whenRequestedConcurrently() throws Exception {
+        //given
+        PersonTable table = PersonTable.of(people(new Random(7), 10_000));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Callable<PersonTable.View>> requests = Collections.nCopies(8, () -> table.view(PersonTable.Ordering.BY_ID));
+
+        //when
+        List<Future<PersonTable.View>> views = executor.invokeAll(requests);
+        executor.shutdown();
+
+        //then
+        for (Future<PersonTable.View> view : views) {
+            assertSame(view.get(), table.view(PersonTable.Ordering.BY_ID));
+        }
+    }
+
+    @Test
+    public void shallPassNamesAndIdsInOrdering() {
+        //given
+        PersonTable table = PersonTable.of(List.of(new Person(1, "Lukasz"), new Person(3, "David"), new Person(2, "Anthony")));
+        List<String> visited = new ArrayList<>();
+
+        //when
+        table.view(PersonTable.Ordering.BY_ID_DESCENDING).forEach((name, id) -> visited.add(id + name));
+
+        //then
+        assertEquals(visited, List.of("3David", "2Anthony", "1Lukasz"));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void shallThrowNPE_whenNameIsNull() {
+        PersonTable.of(List.of(new Person(1, null)));
+    }
+
+    private static List<Person> people(Random random, int count) {
+        List<Person> people = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int id = random.nextInt(100) == 0 ? Integer.MIN_VALUE : random.nextInt(200) - 100;
+            people.add(new Person(id, "Person" + random.nextInt(50)));
+        }
+        return people;
+    }
+}
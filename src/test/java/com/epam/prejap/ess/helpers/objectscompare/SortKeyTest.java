@@ -0,0 +1,123 @@
+package com.epam.prejap.ess.helpers.objectscompare;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.testng.Assert.*;
+
+public class SortKeyTest {
+
+    @DataProvider
+    public static Object[][] orders() {
+        SortKey<Person> byId = SortKey.comparingInt(Person::id);
+        SortKey<Person> byIdThenNameLength = byId.thenComparingInt(person -> person.name().length());
+        return new Object[][]{
+                {byId},
+                {byId.reversed()},
+                {byIdThenNameLength},
+                {byIdThenNameLength.reversed()},
+                {SortKey.comparingInt(Person::id).reversed().thenComparingInt(person -> person.name().length())}
+        };
+    }
+
+    @DataProvider
+    public static Object[][] ordersWithNulls() {
+        SortKey<Person> byId = SortKey.comparingInt(Person::id);
+        return new Object[][]{
+                {SortKey.nullsFirst(byId)},
+                {SortKey.nullsLast(byId)},
+                {SortKey.nullsFirst(byId).reversed()},
+                {SortKey.nullsLast(byId.reversed())}
+        };
+    }
+
+    //given
+    @Test(dataProvider = "orders")
+    public void shallSortPeopleLikeCollectionsSortWithComparator(SortKey<Person> order) {
+        List<Person> expected = people(new Random(22), 500, false);
+        List<Person> actual = new ArrayList<>(expected);
+
+        //when
+        order.sort(actual);
+
+        //then
+        Collections.sort(expected, order.comparator());
+        assertEquals(actual, expected);
+    }
+
+    //given
+    @Test(dataProvider = "ordersWithNulls")
+    public void shallSortPeopleWithNullsLikeCollectionsSortWithComparator(SortKey<Person> order) {
+        List<Person> expected = people(new Random(23), 500, true);
+        List<Person> actual = new ArrayList<>(expected);
+
+        //when
+        order.sort(actual);
+
+        //then
+        Collections.sort(expected, order.comparator());
+        assertEquals(actual, expected);
+    }
+
+    @Test
+    public void shallSortByIdDescendingLikeTaskObjectsCompare() {
+        //given
+        Person[] people = {new Person(1, "Lukasz"), new Person(3, "David"), new Person(2, "Anthony")};
+
+        //when
+        SortKey.<Person>comparingInt(Person::id).reversed().sort(people);
+
+        //then
+        assertEquals(people, new Person[]{new Person(3, "David"), new Person(2, "Anthony"), new Person(1, "Lukasz")});
+    }
+
+    @Test
+    public void shallEncodeKeysComparableAsUnsignedBytes() {
+        //given
+        SortKey<Person> order = SortKey.nullsLast(SortKey.comparingInt(Person::id).reversed());
+        Person[] people = {new Person(Integer.MIN_VALUE, "a"), new Person(-1, "b"), new Person(0, "c"),
+                new Person(Integer.MAX_VALUE, "d"), null};
+
+        for (Person first : people) {
+            for (Person second : people) {
+                //when
+                int actual = Arrays.compareUnsigned(order.key(first), order.key(second));
+
+                //then
+                assertEquals(Integer.signum(actual), Integer.signum(order.comparator().compare(first, second)));
+            }
+        }
+    }
+
+    @Test
+    public void shallOrderEqualKeysByPosition() {
+        //given
+        Person[] people = {new Person(2, "a"), new Person(1, "b"), new Person(2, "c"), new Person(1, "d")};
+
+        //when
+        int[] order = SortKey.<Person>comparingInt(Person::id).thenComparingInt(person -> 0).order(people);
+
+        //then
+        assertEquals(order, new int[]{1, 3, 0, 2});
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void shallThrowNPE_whenNullsAreNotPlaced() {
+        SortKey.comparingInt(Person::id).sort(new Person[]{new Person(1, "a"), null});
+    }
+
+    private static List<Person> people(Random random, int count, boolean withNulls) {
+        List<Person> people = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            boolean isNull = withNulls && random.nextInt(10) == 0;
+            people.add(isNull ? null : new Person(random.nextInt(41) - 20, "P" + "x".repeat(random.nextInt(4))));
+        }
+        return people;
+    }
+}
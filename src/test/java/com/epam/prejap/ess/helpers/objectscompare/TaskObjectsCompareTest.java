@@ -56,6 +56,23 @@ public class TaskObjectsCompareTest {
                 .toArray(Person[]::new);
     }
 
+    @Test
+    public void shallCompareByIdWithoutOverflow() {
+        //given
+        Person lowest = new Person(Integer.MIN_VALUE, "Lowest");
+        Person highest = new Person(Integer.MAX_VALUE, "Highest");
+        List<Person> list = new ArrayList<>(List.of(highest, new Person(0, "Zero"), lowest));
+
+        //when
+        Collections.sort(list);
+
+        //then
+        assertTrue(lowest.compareTo(highest) < 0);
+        assertTrue(highest.compareTo(lowest) > 0);
+        assertEquals(list.get(0), lowest);
+        assertEquals(list.get(2), highest);
+    }
+
     @Test
     public void shallCompareTwoPeopleByName() {
         //given